@@ -0,0 +1,298 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Node factory creating object nodes, whose fields are being held in plain arrays as long as there are only a few of them - as is the case for
+ * most schema nodes (e.g., only containing a {@code "type"} or {@code "$ref"}). Only when exceeding that number of fields, an ordinary
+ * {@link LinkedHashMap} is being used. Either way, the insertion order of the fields is being preserved.
+ *
+ * @see SchemaGeneratorConfigBuilder#withNodeFactory(JsonNodeFactory)
+ * @since 5.1.0
+ */
+public class CompactJsonNodeFactory extends JsonNodeFactory {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Maximum number of fields being held in arrays, before switching to a {@link LinkedHashMap}.
+     */
+    static final int MAX_COMPACT_FIELD_COUNT = 8;
+    private static final int INITIAL_ARRAY_CAPACITY = 4;
+
+    @Override
+    public ObjectNode objectNode() {
+        return new ObjectNode(this, new CompactFieldMap());
+    }
+
+    @Override
+    public ArrayNode arrayNode() {
+        return this.arrayNode(INITIAL_ARRAY_CAPACITY);
+    }
+
+    /**
+     * Insertion-ordered map being backed by two arrays for up to {@link #MAX_COMPACT_FIELD_COUNT} entries, and by a {@link LinkedHashMap} beyond.
+     */
+    static final class CompactFieldMap extends AbstractMap<String, JsonNode> {
+
+        private String[] keys = new String[INITIAL_ARRAY_CAPACITY];
+        private JsonNode[] values = new JsonNode[INITIAL_ARRAY_CAPACITY];
+        private int size;
+        private Map<String, JsonNode> expandedMap;
+        private int modificationCount;
+
+        /**
+         * Check whether the fields are no longer held in the arrays.
+         *
+         * @return whether an ordinary {@link LinkedHashMap} is being used instead
+         */
+        boolean isExpanded() {
+            return this.expandedMap != null;
+        }
+
+        private int indexOf(Object key) {
+            for (int index = 0; index < this.size; index++) {
+                if (this.keys[index].equals(key)) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int size() {
+            return this.expandedMap == null ? this.size : this.expandedMap.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return this.expandedMap == null ? this.indexOf(key) != -1 : this.expandedMap.containsKey(key);
+        }
+
+        @Override
+        public JsonNode get(Object key) {
+            if (this.expandedMap != null) {
+                return this.expandedMap.get(key);
+            }
+            int index = this.indexOf(key);
+            return index == -1 ? null : this.values[index];
+        }
+
+        @Override
+        public JsonNode put(String key, JsonNode value) {
+            Objects.requireNonNull(key, "key");
+            if (this.expandedMap != null) {
+                return this.expandedMap.put(key, value);
+            }
+            int index = this.indexOf(key);
+            if (index != -1) {
+                JsonNode previousValue = this.values[index];
+                this.values[index] = value;
+                return previousValue;
+            }
+            this.modificationCount++;
+            if (this.size == MAX_COMPACT_FIELD_COUNT) {
+                this.expandedMap = new LinkedHashMap<>();
+                for (index = 0; index < this.size; index++) {
+                    this.expandedMap.put(this.keys[index], this.values[index]);
+                }
+                this.keys = null;
+                this.values = null;
+                this.size = 0;
+                return this.expandedMap.put(key, value);
+            }
+            if (this.size == this.keys.length) {
+                this.keys = Arrays.copyOf(this.keys, MAX_COMPACT_FIELD_COUNT);
+                this.values = Arrays.copyOf(this.values, MAX_COMPACT_FIELD_COUNT);
+            }
+            this.keys[this.size] = key;
+            this.values[this.size] = value;
+            this.size++;
+            return null;
+        }
+
+        @Override
+        public JsonNode remove(Object key) {
+            if (this.expandedMap != null) {
+                return this.expandedMap.remove(key);
+            }
+            int index = this.indexOf(key);
+            if (index == -1) {
+                return null;
+            }
+            JsonNode previousValue = this.values[index];
+            this.removeAt(index);
+            return previousValue;
+        }
+
+        private void removeAt(int index) {
+            this.modificationCount++;
+            int followingCount = this.size - index - 1;
+            System.arraycopy(this.keys, index + 1, this.keys, index, followingCount);
+            System.arraycopy(this.values, index + 1, this.values, index, followingCount);
+            this.size--;
+            this.keys[this.size] = null;
+            this.values[this.size] = null;
+        }
+
+        @Override
+        public void clear() {
+            if (this.expandedMap != null) {
+                this.expandedMap.clear();
+                return;
+            }
+            this.modificationCount++;
+            Arrays.fill(this.keys, null);
+            Arrays.fill(this.values, null);
+            this.size = 0;
+        }
+
+        @Override
+        public Set<Map.Entry<String, JsonNode>> entrySet() {
+            return this.expandedMap == null ? new CompactEntrySet() : this.expandedMap.entrySet();
+        }
+
+        /**
+         * View on the entries held in the arrays.
+         */
+        private final class CompactEntrySet extends AbstractSet<Map.Entry<String, JsonNode>> {
+
+            @Override
+            public int size() {
+                return CompactFieldMap.this.size();
+            }
+
+            @Override
+            public Iterator<Map.Entry<String, JsonNode>> iterator() {
+                if (CompactFieldMap.this.expandedMap != null) {
+                    return CompactFieldMap.this.expandedMap.entrySet().iterator();
+                }
+                return new CompactEntryIterator();
+            }
+        }
+
+        /**
+         * Iterator over the entries held in the arrays, supporting the removal of the current entry.
+         */
+        private final class CompactEntryIterator implements Iterator<Map.Entry<String, JsonNode>> {
+
+            private int nextIndex;
+            private int currentIndex = -1;
+            private int expectedModificationCount = CompactFieldMap.this.modificationCount;
+
+            @Override
+            public boolean hasNext() {
+                return this.nextIndex < CompactFieldMap.this.size;
+            }
+
+            @Override
+            public Map.Entry<String, JsonNode> next() {
+                this.checkForConcurrentModification();
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                this.currentIndex = this.nextIndex;
+                this.nextIndex++;
+                return new CompactEntry(this.currentIndex);
+            }
+
+            @Override
+            public void remove() {
+                if (this.currentIndex == -1) {
+                    throw new IllegalStateException();
+                }
+                this.checkForConcurrentModification();
+                CompactFieldMap.this.removeAt(this.currentIndex);
+                this.nextIndex = this.currentIndex;
+                this.currentIndex = -1;
+                this.expectedModificationCount = CompactFieldMap.this.modificationCount;
+            }
+
+            private void checkForConcurrentModification() {
+                if (this.expectedModificationCount != CompactFieldMap.this.modificationCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        }
+
+        /**
+         * Single entry held in the arrays, writing value changes through to the map.
+         */
+        private final class CompactEntry implements Map.Entry<String, JsonNode> {
+
+            private final String key;
+            private final int index;
+
+            CompactEntry(int index) {
+                this.key = CompactFieldMap.this.keys[index];
+                this.index = index;
+            }
+
+            @Override
+            public String getKey() {
+                return this.key;
+            }
+
+            @Override
+            public JsonNode getValue() {
+                return CompactFieldMap.this.get(this.key);
+            }
+
+            @Override
+            public JsonNode setValue(JsonNode value) {
+                if (CompactFieldMap.this.expandedMap == null && CompactFieldMap.this.keys[this.index] == this.key) {
+                    JsonNode previousValue = CompactFieldMap.this.values[this.index];
+                    CompactFieldMap.this.values[this.index] = value;
+                    return previousValue;
+                }
+                return CompactFieldMap.this.put(this.key, value);
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return other instanceof Map.Entry<?, ?> otherEntry
+                        && this.key.equals(otherEntry.getKey())
+                        && Objects.equals(this.getValue(), otherEntry.getValue());
+            }
+
+            @Override
+            public int hashCode() {
+                return this.key.hashCode() ^ Objects.hashCode(this.getValue());
+            }
+
+            @Override
+            public String toString() {
+                return this.key + "=" + this.getValue();
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Declaration of the types for which a {@link CustomDefinitionProviderV2} may return a custom definition, allowing the generator to skip it for
+ * all other types. A type is deemed applicable if it matches any of the configured criteria, i.e., if its erased type is:
+ * <ul>
+ * <li>one of the specified types,</li>
+ * <li>a subtype of (or the same as) one of the specified supertypes, or</li>
+ * <li>annotated with one of the specified annotations (including inherited ones).</li>
+ * </ul>
+ *
+ * @see CustomDefinitionProviderV2#getApplicability()
+ * @since 5.1.0
+ */
+public class CustomDefinitionApplicability {
+
+    private final Set<Class<?>> types = new HashSet<>();
+    private final List<Class<?>> supertypes = new ArrayList<>();
+    private final List<Class<? extends Annotation>> annotations = new ArrayList<>();
+
+    /**
+     * Declare the exact (erased) types to which the provider applies.
+     *
+     * @param erasedTypes applicable types
+     * @return this instance (for chaining)
+     */
+    public CustomDefinitionApplicability withTypes(Class<?>... erasedTypes) {
+        return this.withTypes(Arrays.asList(erasedTypes));
+    }
+
+    /**
+     * Declare the exact (erased) types to which the provider applies.
+     *
+     * @param erasedTypes applicable types
+     * @return this instance (for chaining)
+     */
+    public CustomDefinitionApplicability withTypes(Collection<Class<?>> erasedTypes) {
+        this.types.addAll(erasedTypes);
+        return this;
+    }
+
+    /**
+     * Declare supertypes, to whose subtypes (as well as themselves) the provider applies.
+     *
+     * @param supertypes applicable supertypes
+     * @return this instance (for chaining)
+     */
+    public CustomDefinitionApplicability withSupertypes(Class<?>... supertypes) {
+        this.supertypes.addAll(Arrays.asList(supertypes));
+        return this;
+    }
+
+    /**
+     * Declare marker annotations, to whose annotated types the provider applies.
+     *
+     * @param annotations applicable type annotations
+     * @return this instance (for chaining)
+     */
+    @SafeVarargs
+    public final CustomDefinitionApplicability withAnnotations(Class<? extends Annotation>... annotations) {
+        this.annotations.addAll(Arrays.asList(annotations));
+        return this;
+    }
+
+    /**
+     * Check whether the provider may return a custom definition for the given type.
+     *
+     * @param erasedType type to check
+     * @return whether the provider should be invoked for the given type
+     */
+    public boolean isApplicableTo(Class<?> erasedType) {
+        return this.types.contains(erasedType)
+                || this.supertypes.stream().anyMatch(supertype -> supertype.isAssignableFrom(erasedType))
+                || this.annotations.stream().anyMatch(erasedType::isAnnotationPresent);
+    }
+}
@@ -32,4 +32,30 @@ public interface CustomDefinitionProviderV2 extends StatefulConfig {
      * @return non-standard JSON schema definition (may be null)
      */
     CustomDefinition provideCustomSchemaDefinition(ResolvedType javaType, SchemaGenerationContext context);
+
+    /**
+     * Declare the types for which {@link #provideCustomSchemaDefinition(ResolvedType, SchemaGenerationContext) provideCustomSchemaDefinition()}
+     * may return a non-null value. It will not be invoked for any other type. This is only being looked-up once per configuration.
+     *
+     * @return applicable types (or {@code null} to be invoked for all types, which is the default)
+     * @since 5.1.0
+     */
+    default CustomDefinitionApplicability getApplicability() {
+        return null;
+    }
+
+    /**
+     * Declare that {@link #provideCustomSchemaDefinition(ResolvedType, SchemaGenerationContext) provideCustomSchemaDefinition()} is a pure function
+     * of the given type and the generator configuration. Its result (including {@code null}) may then be re-used for the same type in all subsequent
+     * schema generations with the same configuration, in the form of a copy.
+     * <br>
+     * A cacheable provider must neither hold any state nor call any methods on the {@link SchemaGenerationContext} that register types with the
+     * ongoing schema generation (e.g., {@link SchemaGenerationContext#createDefinitionReference(ResolvedType) createDefinitionReference()}).
+     *
+     * @return whether the provided custom definitions may be cached (default: {@code false})
+     * @since 5.1.0
+     */
+    default boolean isCacheable() {
+        return false;
+    }
 }
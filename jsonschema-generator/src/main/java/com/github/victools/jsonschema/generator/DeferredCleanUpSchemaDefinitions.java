@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import com.github.victools.jsonschema.generator.impl.SchemaCleanUpUtils;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * View on the common schema definitions collected by a {@link SchemaBuilder}, which have all been generated and whose references have been resolved
+ * already, but the clean-up of each individual definition is only being performed when it is being accessed for the first time.
+ *
+ * @see SchemaBuilder#collectDefinitionsWithDeferredCleanUp(String)
+ * @since 5.1.0
+ */
+public class DeferredCleanUpSchemaDefinitions {
+
+    private final SchemaGeneratorConfig config;
+    private final ObjectNode definitionsNode;
+    private final String referenceKeyPrefix;
+    private final SchemaCleanUpUtils cleanUpUtils;
+    private final String refKeyword;
+    /**
+     * Names of definitions on which the clean-up steps have been applied, that only affect the definition itself.
+     */
+    private final Set<String> preparedDefinitions = new HashSet<>();
+    /**
+     * Top-level attributes of prepared definitions (before their own finalization), as they are being considered when discarding redundant
+     * attributes in other definitions. These are shallow copies, i.e., sharing the nested nodes with the actual definitions.
+     */
+    private final Map<String, ObjectNode> preparedDefinitionAttributes = new HashMap<>();
+    /**
+     * Names of definitions on which all clean-up steps have been applied.
+     */
+    private final Set<String> finalizedDefinitions = new HashSet<>();
+
+    /**
+     * Constructor.
+     *
+     * @param config configuration to be applied
+     * @param definitionsNode collected definitions (with resolved references), on which no clean-up has been performed yet
+     * @param referenceKeyPrefix designated prefix to the entries in the definitions node (i.e., on {@link SchemaKeyword#TAG_REF} values)
+     */
+    DeferredCleanUpSchemaDefinitions(SchemaGeneratorConfig config, ObjectNode definitionsNode, String referenceKeyPrefix) {
+        this.config = config;
+        this.definitionsNode = definitionsNode;
+        this.referenceKeyPrefix = referenceKeyPrefix;
+        this.cleanUpUtils = new SchemaCleanUpUtils(config);
+        this.refKeyword = config.getKeyword(SchemaKeyword.TAG_REF);
+    }
+
+    /**
+     * Getter for the names of all collected definitions.
+     *
+     * @return definition names (in the same order as in {@link SchemaBuilder#collectDefinitions(String)})
+     */
+    public Set<String> getDefinitionNames() {
+        Set<String> names = new LinkedHashSet<>();
+        this.definitionsNode.propertyNames().forEach(names::add);
+        return Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * Check whether there is a definition with the given name.
+     *
+     * @param definitionName name of the definition to look-up
+     * @return whether such a definition exists
+     */
+    public boolean containsDefinition(String definitionName) {
+        return this.definitionsNode.has(definitionName);
+    }
+
+    /**
+     * Look-up the definition with the given name, finalizing it on the first access. Other definitions being referenced from within it are not
+     * being finalized but can be looked-up separately.
+     *
+     * @param definitionName name of the definition to look-up
+     * @return finalized definition (or {@code null} if there is no definition with that name)
+     */
+    public synchronized ObjectNode getDefinition(String definitionName) {
+        JsonNode definition = this.definitionsNode.get(definitionName);
+        if (definition == null) {
+            return null;
+        }
+        if (this.finalizedDefinitions.add(definitionName)) {
+            this.prepareDefinition(definitionName);
+            this.completeCleanUp((ObjectNode) definition);
+        }
+        return (ObjectNode) definition;
+    }
+
+    /**
+     * Look-up the definition being referenced by the given {@link SchemaKeyword#TAG_REF} value.
+     *
+     * @param reference value of a {@link SchemaKeyword#TAG_REF} in a previously returned schema
+     * @return finalized definition (or {@code null} if the given reference does not point to one of these definitions)
+     */
+    public ObjectNode getReferencedDefinition(String reference) {
+        String definitionName = this.getReferencedDefinitionName(reference);
+        return definitionName == null ? null : this.getDefinition(definitionName);
+    }
+
+    private String getReferencedDefinitionName(String reference) {
+        if (reference == null || !reference.startsWith(this.referenceKeyPrefix)) {
+            return null;
+        }
+        return reference.substring(this.referenceKeyPrefix.length());
+    }
+
+    /**
+     * Finalize all definitions, i.e., producing the same result as {@link SchemaBuilder#collectDefinitions(String)} would have.
+     *
+     * @return object node containing all common schema definitions
+     */
+    public synchronized ObjectNode getAllDefinitions() {
+        this.getDefinitionNames().forEach(this::getDefinition);
+        return this.definitionsNode;
+    }
+
+    /**
+     * Perform the clean-up on a single schema node, considering the state of referenced definitions before they were finalized themselves.
+     *
+     * @param schemaNode schema node to finalize
+     */
+    synchronized void finalizeSchemaNode(ObjectNode schemaNode) {
+        this.applyCleanUpAffectingOnlyGivenNodes(List.of(schemaNode));
+        this.completeCleanUp(schemaNode);
+    }
+
+    /**
+     * Finalize all definitions and then move identical inline sub-schemas being repeated within them or the given schema nodes into the common
+     * definitions, i.e., producing the same result as {@link SchemaBuilder#collectDefinitions(String)} would have.
+     *
+     * @param schemaNodes finalized schema nodes returned by {@link SchemaBuilder#createSchemaReference}
+     * @see SchemaCleanUpUtils#hoistRepeatedSubschemas(List, ObjectNode, String)
+     */
+    synchronized void hoistRepeatedSubschemas(List<ObjectNode> schemaNodes) {
+        List<ObjectNode> allSchemaNodes = new ArrayList<>(schemaNodes);
+        this.getAllDefinitions().forEach(definition -> allSchemaNodes.add((ObjectNode) definition));
+        this.cleanUpUtils.hoistRepeatedSubschemas(allSchemaNodes, this.definitionsNode, this.referenceKeyPrefix);
+        // the hoisted sub-schemas have been finalized already
+        this.definitionsNode.propertyNames().forEach(definitionName -> {
+            this.preparedDefinitions.add(definitionName);
+            this.finalizedDefinitions.add(definitionName);
+        });
+    }
+
+    private void completeCleanUp(ObjectNode schemaNode) {
+        List<ObjectNode> schemaNodes = List.of(schemaNode);
+        if (this.config.shouldDiscardDuplicateMemberAttributes()) {
+            ObjectNode referencedDefinitions = this.config.createObjectNode();
+            for (JsonNode reference : schemaNode.findValues(this.refKeyword)) {
+                String definitionName = reference.isString() ? this.getReferencedDefinitionName(reference.stringValue()) : null;
+                if (definitionName != null && this.definitionsNode.has(definitionName)) {
+                    this.prepareDefinition(definitionName);
+                    referencedDefinitions.set(definitionName, this.preparedDefinitionAttributes.get(definitionName));
+                }
+            }
+            this.cleanUpUtils.reduceRedundantMemberAttributes(schemaNodes, referencedDefinitions, this.referenceKeyPrefix);
+        }
+        if (this.config.shouldIncludeStrictTypeInfo()) {
+            this.cleanUpUtils.setStrictTypeInfo(schemaNodes, true);
+            this.cleanUpUtils.reduceAnyOfNodes(schemaNodes);
+        }
+    }
+
+    private void prepareDefinition(String definitionName) {
+        if (this.preparedDefinitions.add(definitionName)) {
+            ObjectNode definition = (ObjectNode) this.definitionsNode.get(definitionName);
+            this.applyCleanUpAffectingOnlyGivenNodes(List.of(definition));
+            if (this.config.shouldDiscardDuplicateMemberAttributes()) {
+                this.preparedDefinitionAttributes.put(definitionName, this.config.createObjectNode().setAll(definition));
+            }
+        }
+    }
+
+    private void applyCleanUpAffectingOnlyGivenNodes(List<ObjectNode> schemaNodes) {
+        if (this.config.shouldCleanupUnnecessaryAllOfElements()) {
+            this.cleanUpUtils.reduceAllOfNodes(schemaNodes);
+        }
+        this.cleanUpUtils.reduceAnyOfNodes(schemaNodes);
+    }
+}
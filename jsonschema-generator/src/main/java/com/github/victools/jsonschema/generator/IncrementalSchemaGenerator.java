@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import com.fasterxml.classmate.ResolvedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Wrapper around a {@link SchemaGenerator}, remembering each generated schema together with its {@link TypeDependencyGraph}. After some classes
+ * changed (e.g., on a hot reload during development or an incremental build), only the schemas depending on any of those classes are being
+ * invalidated and regenerated, while all other schemas are being re-used as they are.
+ * <br>
+ * Since the definitions within a single schema are being named and inlined depending on all their references within that schema, the re-use is
+ * based on whole schemas.
+ * <br>
+ * A generator caches information per class (e.g., its members and annotations) for its {@link TypeContext}. Upon each invalidation, the generator
+ * is therefore being replaced by a new one, in order to consider changes to classes that were redefined in place. Modules keeping their own
+ * caches per class may require a new configuration as well, which can be produced by the generator factory given to
+ * {@link #IncrementalSchemaGenerator(Supplier)}.
+ *
+ * @since 5.1.0
+ */
+public class IncrementalSchemaGenerator {
+
+    private final Supplier<SchemaGenerator> generatorFactory;
+    private SchemaGenerator generator;
+    private final Map<ResolvedType, GeneratedSchema> generatedSchemas = new LinkedHashMap<>();
+
+    /**
+     * Constructor. Upon invalidation, a new generator with the same configuration and a new default {@link TypeContext} is being applied.
+     *
+     * @param generator generator to produce schemas with that have not been generated yet or were invalidated
+     * @see #IncrementalSchemaGenerator(Supplier)
+     */
+    public IncrementalSchemaGenerator(SchemaGenerator generator) {
+        this(Objects.requireNonNull(generator, "generator"), () -> new SchemaGenerator(generator.getConfig()));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param generatorFactory provider of the generator to produce schemas with, being invoked initially and again upon each invalidation
+     */
+    public IncrementalSchemaGenerator(Supplier<SchemaGenerator> generatorFactory) {
+        this(Objects.requireNonNull(generatorFactory, "generatorFactory").get(), generatorFactory);
+    }
+
+    private IncrementalSchemaGenerator(SchemaGenerator initialGenerator, Supplier<SchemaGenerator> generatorFactory) {
+        this.generator = Objects.requireNonNull(initialGenerator, "generator");
+        this.generatorFactory = generatorFactory;
+    }
+
+    /**
+     * Provide the JSON Schema representation of the given type, re-using a previously generated schema unless it was invalidated since.
+     *
+     * @param mainTargetType type for which to provide the JSON Schema
+     * @param typeParameters optional type parameters (in case of the {@code mainTargetType} being a parameterised type)
+     * @return re-used or generated JSON Schema (always a new instance that may be modified by the caller)
+     * @see SchemaGenerator#generateSchema(Type, Type...)
+     */
+    public synchronized ObjectNode generateSchema(Type mainTargetType, Type... typeParameters) {
+        ResolvedType mainType = this.generator.getTypeContext().resolve(mainTargetType, typeParameters);
+        GeneratedSchema generatedSchema = this.generatedSchemas.get(mainType);
+        if (generatedSchema == null) {
+            SchemaBuilder builder = this.generator.buildMultipleSchemaDefinitions();
+            ObjectNode schema = builder.createSchemaForSingleType(mainType);
+            generatedSchema = new GeneratedSchema(schema, builder.getTypeDependencyGraph());
+            this.generatedSchemas.put(mainType, generatedSchema);
+        }
+        return generatedSchema.getSchema().deepCopy();
+    }
+
+    /**
+     * Look-up the dependency graph of the previously generated schema for the given type.
+     *
+     * @param mainTargetType type for which the JSON Schema was generated
+     * @param typeParameters optional type parameters (in case of the {@code mainTargetType} being a parameterised type)
+     * @return dependency graph (or {@code null} if no valid schema is present for the given type)
+     */
+    public synchronized TypeDependencyGraph getTypeDependencyGraph(Type mainTargetType, Type... typeParameters) {
+        ResolvedType mainType = this.generator.getTypeContext().resolve(mainTargetType, typeParameters);
+        GeneratedSchema generatedSchema = this.generatedSchemas.get(mainType);
+        return generatedSchema == null ? null : generatedSchema.getDependencyGraph();
+    }
+
+    /**
+     * Discard all previously generated schemas being affected by changes to any of the given classes. Subsequent schemas are being generated with a
+     * new generator, i.e., without any information being cached for the changed classes.
+     *
+     * @param changedClasses classes that have changed (being matched by their names)
+     * @return main types of the discarded schemas
+     * @see TypeDependencyGraph#getAffectedTypes(Collection)
+     */
+    public synchronized Set<ResolvedType> invalidate(Collection<? extends Class<?>> changedClasses) {
+        if (!changedClasses.isEmpty()) {
+            this.generator = Objects.requireNonNull(this.generatorFactory.get(), "generator");
+        }
+        Set<ResolvedType> invalidatedTypes = new LinkedHashSet<>();
+        Iterator<Map.Entry<ResolvedType, GeneratedSchema>> entryIterator = this.generatedSchemas.entrySet().iterator();
+        while (entryIterator.hasNext()) {
+            Map.Entry<ResolvedType, GeneratedSchema> entry = entryIterator.next();
+            if (!entry.getValue().getDependencyGraph().getAffectedTypes(changedClasses).isEmpty()) {
+                invalidatedTypes.add(entry.getKey());
+                entryIterator.remove();
+            }
+        }
+        return invalidatedTypes;
+    }
+
+    /**
+     * Discard all previously generated schemas being affected by changes to any of the given classes and regenerate them right away.
+     * <br>
+     * The schemas are being regenerated for the same types as before. If the changed classes were reloaded by another class loader, call
+     * {@link #invalidate(Collection)} instead and request the schemas for the reloaded types via {@link #generateSchema(Type, Type...)}.
+     *
+     * @param changedClasses classes that have changed (being matched by their names)
+     * @return regenerated JSON Schemas per main type (always new instances that may be modified by the caller)
+     */
+    public synchronized Map<ResolvedType, ObjectNode> regenerate(Collection<? extends Class<?>> changedClasses) {
+        Map<ResolvedType, ObjectNode> regeneratedSchemas = new LinkedHashMap<>();
+        for (ResolvedType invalidatedType : this.invalidate(changedClasses)) {
+            regeneratedSchemas.put(invalidatedType, this.generateSchema(invalidatedType));
+        }
+        return regeneratedSchemas;
+    }
+
+    /**
+     * Discard all previously generated schemas.
+     */
+    public synchronized void clear() {
+        this.generatedSchemas.clear();
+    }
+
+    /**
+     * Previously generated schema together with the dependency graph of its generation.
+     */
+    private static class GeneratedSchema {
+        private final ObjectNode schema;
+        private final TypeDependencyGraph dependencyGraph;
+
+        GeneratedSchema(ObjectNode schema, TypeDependencyGraph dependencyGraph) {
+            this.schema = schema;
+            this.dependencyGraph = dependencyGraph;
+        }
+
+        ObjectNode getSchema() {
+            return this.schema;
+        }
+
+        TypeDependencyGraph getDependencyGraph() {
+            return this.dependencyGraph;
+        }
+    }
+}
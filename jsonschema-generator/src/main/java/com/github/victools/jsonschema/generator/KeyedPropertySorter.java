@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Property sorter, that compares properties based on a sort key being extracted from each of them. When being configured via
+ * {@link SchemaGeneratorGeneralConfigPart#withPropertySorter(Comparator)}, the sort key is being extracted only once per property, instead of
+ * repeatedly as part of each comparison. If an implementation overrides {@link #compare(MemberScope, MemberScope) compare()} (e.g., a subclass of
+ * a keyed sorter), that is being applied instead.
+ *
+ * @param <K> type of sort key
+ * @since 5.1.0
+ */
+public interface KeyedPropertySorter<K> extends Comparator<MemberScope<?, ?>> {
+
+    /**
+     * Create a property sorter based on the given sort key extraction and comparison.
+     *
+     * @param <K> type of sort key
+     * @param sortKeyExtractor look-up of the sort key for a single property
+     * @param sortKeyComparator comparison of two extracted sort keys
+     * @return created property sorter
+     */
+    static <K> KeyedPropertySorter<K> of(Function<MemberScope<?, ?>, K> sortKeyExtractor, Comparator<? super K> sortKeyComparator) {
+        return new KeyedPropertySorter<>() {
+            @Override
+            public K extractSortKey(MemberScope<?, ?> property) {
+                return sortKeyExtractor.apply(property);
+            }
+
+            @Override
+            public int compareSortKeys(K first, K second) {
+                return sortKeyComparator.compare(first, second);
+            }
+        };
+    }
+
+    /**
+     * Determine the sort key for the given property.
+     *
+     * @param property field/method to determine the sort key for
+     * @return sort key
+     */
+    K extractSortKey(MemberScope<?, ?> property);
+
+    /**
+     * Compare the sort keys of two properties.
+     *
+     * @param first sort key of the first field/method
+     * @param second sort key of the second field/method
+     * @return a negative/positive integer as the first field/method should be positioned before/after the second respectively
+     */
+    int compareSortKeys(K first, K second);
+
+    @Override
+    default int compare(MemberScope<?, ?> first, MemberScope<?, ?> second) {
+        return this.compareSortKeys(this.extractSortKey(first), this.extractSortKey(second));
+    }
+
+    /**
+     * Sort the given properties, while extracting each property's sort key only once.
+     *
+     * @param properties fields/methods to sort
+     * @return sorted fields/methods
+     */
+    default List<MemberScope<?, ?>> sort(Collection<? extends MemberScope<?, ?>> properties) {
+        List<Map.Entry<K, MemberScope<?, ?>>> keyedProperties = new ArrayList<>(properties.size());
+        for (MemberScope<?, ?> property : properties) {
+            keyedProperties.add(new AbstractMap.SimpleImmutableEntry<>(this.extractSortKey(property), property));
+        }
+        keyedProperties.sort((first, second) -> this.compareSortKeys(first.getKey(), second.getKey()));
+        return keyedProperties.stream()
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toList());
+    }
+}
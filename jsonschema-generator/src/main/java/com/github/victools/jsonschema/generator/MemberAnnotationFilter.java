@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import com.fasterxml.classmate.ResolvedTypeWithMembers;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.AnnotatedWildcardType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Check whether a field or method carries any of a given set of annotations, as declared by a {@link Module} through
+ * {@link Module#getRelevantMemberAnnotations()}. The annotated members are being determined only once per class (via a {@link ClassValue}, i.e.,
+ * without preventing classes from being unloaded), considering all classes and interfaces in its hierarchy.
+ * <br>
+ * The check is deliberately lenient: it may consider a member to be annotated when it is not (e.g., if an unrelated overloaded method is annotated),
+ * but never the other way around.
+ *
+ * @since 5.1.0
+ */
+final class MemberAnnotationFilter implements Predicate<MemberScope<?, ?>> {
+
+    private final Set<Class<? extends Annotation>> annotationTypes;
+    private final ClassValue<Boolean> relevantAnnotationTypes = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> annotationType) {
+            return MemberAnnotationFilter.this.isRelevantAnnotationType(annotationType, new HashSet<>());
+        }
+    };
+    private final ClassValue<Set<String>> annotatedMembersPerType = new ClassValue<>() {
+        @Override
+        protected Set<String> computeValue(Class<?> type) {
+            return MemberAnnotationFilter.this.collectAnnotatedMemberKeys(type);
+        }
+    };
+
+    /**
+     * Constructor.
+     *
+     * @param annotationTypes annotations to look for (also as meta-annotations)
+     */
+    MemberAnnotationFilter(Collection<Class<? extends Annotation>> annotationTypes) {
+        this.annotationTypes = new HashSet<>(annotationTypes);
+    }
+
+    @Override
+    public boolean test(MemberScope<?, ?> member) {
+        Class<?> type = MemberAnnotationFilter.getTopMostType(member);
+        if (this.isAnnotatedMember(type, member.getRawMember())) {
+            return true;
+        }
+        MemberScope<?, ?> associatedMember;
+        if (member instanceof FieldScope field) {
+            associatedMember = field.findGetter();
+        } else if (member instanceof MethodScope method) {
+            associatedMember = method.findGetterField();
+        } else {
+            associatedMember = null;
+        }
+        return associatedMember != null && this.isAnnotatedMember(type, associatedMember.getRawMember());
+    }
+
+    /**
+     * Determine the type whose members have been resolved, i.e., including the member's declaring type and any overriding sub type.
+     *
+     * @param member field/method to look-up the type for
+     * @return erased type, whose hierarchy contains all declarations of the given member
+     */
+    private static Class<?> getTopMostType(MemberScope<?, ?> member) {
+        ResolvedTypeWithMembers declaringTypeMembers = member.getDeclaringTypeMembers();
+        if (declaringTypeMembers == null || declaringTypeMembers.allTypesAndOverrides().isEmpty()) {
+            return member.getRawMember().getDeclaringClass();
+        }
+        return declaringTypeMembers.allTypesAndOverrides().get(0).getErasedType();
+    }
+
+    private boolean isAnnotatedMember(Class<?> type, Member rawMember) {
+        return this.annotatedMembersPerType.get(type).contains(MemberAnnotationFilter.getMemberKey(rawMember));
+    }
+
+    /**
+     * Derive a key for the given field/method, under which overriding methods are being grouped together.
+     *
+     * @param rawMember field/method to derive key for
+     * @return field name or method name with number of parameters (not considering their types due to generics)
+     */
+    private static String getMemberKey(Member rawMember) {
+        if (rawMember instanceof Method method) {
+            return method.getName() + '(' + method.getParameterCount() + ')';
+        }
+        return rawMember.getName();
+    }
+
+    /**
+     * Collect the keys of all fields and methods within the given type's hierarchy, that carry one of the relevant annotations.
+     *
+     * @param type type for which to collect the annotated members
+     * @return keys of annotated members
+     * @see #getMemberKey(Member)
+     */
+    private Set<String> collectAnnotatedMemberKeys(Class<?> type) {
+        Set<String> annotatedMemberKeys = new HashSet<>();
+        for (Class<?> hierarchyType : MemberAnnotationFilter.collectHierarchy(type, new LinkedHashSet<>())) {
+            for (Field field : hierarchyType.getDeclaredFields()) {
+                if (this.hasRelevantAnnotation(field) || this.hasRelevantTypeAnnotation(field.getAnnotatedType())) {
+                    annotatedMemberKeys.add(MemberAnnotationFilter.getMemberKey(field));
+                }
+            }
+            for (Method method : hierarchyType.getDeclaredMethods()) {
+                if (this.hasRelevantAnnotation(method) || this.hasRelevantTypeAnnotation(method.getAnnotatedReturnType())) {
+                    annotatedMemberKeys.add(MemberAnnotationFilter.getMemberKey(method));
+                }
+            }
+        }
+        return annotatedMemberKeys;
+    }
+
+    private static Set<Class<?>> collectHierarchy(Class<?> type, Set<Class<?>> hierarchy) {
+        if (type != null && hierarchy.add(type)) {
+            MemberAnnotationFilter.collectHierarchy(type.getSuperclass(), hierarchy);
+            for (Class<?> implementedInterface : type.getInterfaces()) {
+                MemberAnnotationFilter.collectHierarchy(implementedInterface, hierarchy);
+            }
+        }
+        return hierarchy;
+    }
+
+    private boolean hasRelevantAnnotation(AnnotatedElement annotatedElement) {
+        return Stream.of(annotatedElement.getAnnotations())
+                .anyMatch(annotation -> this.relevantAnnotationTypes.get(annotation.annotationType()));
+    }
+
+    /**
+     * Check whether the given annotated type or any of its type arguments (e.g., a container's item type) carries a relevant annotation.
+     *
+     * @param annotatedType declared type of a field or method (may be {@code null})
+     * @return whether a relevant annotation is present
+     */
+    private boolean hasRelevantTypeAnnotation(AnnotatedType annotatedType) {
+        if (annotatedType == null) {
+            return false;
+        }
+        if (this.hasRelevantAnnotation(annotatedType)) {
+            return true;
+        }
+        Stream<AnnotatedType> nestedTypes;
+        if (annotatedType instanceof AnnotatedParameterizedType parameterizedType) {
+            nestedTypes = Stream.of(parameterizedType.getAnnotatedActualTypeArguments());
+        } else if (annotatedType instanceof AnnotatedArrayType arrayType) {
+            nestedTypes = Stream.of(arrayType.getAnnotatedGenericComponentType());
+        } else if (annotatedType instanceof AnnotatedWildcardType wildcardType) {
+            nestedTypes = Stream.concat(Stream.of(wildcardType.getAnnotatedUpperBounds()), Stream.of(wildcardType.getAnnotatedLowerBounds()));
+        } else {
+            nestedTypes = Stream.empty();
+        }
+        return nestedTypes.anyMatch(this::hasRelevantTypeAnnotation);
+    }
+
+    /**
+     * Check whether the given annotation type is one of the relevant annotations, is (directly or indirectly) annotated with one of them, or is the
+     * container of a repeatable relevant annotation.
+     *
+     * @param annotationType annotation type to check
+     * @param visitedTypes already checked annotation types (to avoid endless loops for annotations annotating each other)
+     * @return whether the given annotation type is relevant
+     */
+    private boolean isRelevantAnnotationType(Class<?> annotationType, Set<Class<?>> visitedTypes) {
+        if (this.annotationTypes.contains(annotationType)) {
+            return true;
+        }
+        if (!visitedTypes.add(annotationType)) {
+            return false;
+        }
+        if (Stream.of(annotationType.getAnnotations())
+                .anyMatch(metaAnnotation -> this.isRelevantAnnotationType(metaAnnotation.annotationType(), visitedTypes))) {
+            return true;
+        }
+        Class<?> containedType = Stream.of(annotationType.getDeclaredMethods())
+                .filter(method -> "value".equals(method.getName()) && method.getReturnType().isArray())
+                .map(method -> method.getReturnType().getComponentType())
+                .findFirst()
+                .orElse(null);
+        return containedType != null && containedType.isAnnotation() && this.isRelevantAnnotationType(containedType, visitedTypes);
+    }
+}
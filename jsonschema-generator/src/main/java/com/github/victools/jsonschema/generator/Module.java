@@ -16,6 +16,10 @@
 
 package com.github.victools.jsonschema.generator;
 
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.Collections;
+
 /**
  * Collection of configurations for the schema generation.
  */
@@ -27,4 +31,19 @@ public interface Module {
      * @param builder configuration builder instance to which to apply this module
      */
     void applyToConfigBuilder(SchemaGeneratorConfigBuilder builder);
+
+    /**
+     * Declare the annotations that all field and method configurations of this module depend on. If a non-empty collection is being returned,
+     * everything this module registers via {@link SchemaGeneratorConfigBuilder#forFields()} and {@link SchemaGeneratorConfigBuilder#forMethods()}
+     * is being skipped for members, on which none of these annotations are present &ndash; neither on the field/method itself, nor on its associated
+     * getter/field, nor on its declared type's arguments, nor as meta-annotation.
+     * <br>
+     * By default, no annotations are being declared, i.e., this module's configurations are being applied to all fields and methods.
+     *
+     * @return annotations being relevant to this module's field and method configurations (or an empty collection, if they apply to all members)
+     * @since 5.1.0
+     */
+    default Collection<Class<? extends Annotation>> getRelevantMemberAnnotations() {
+        return Collections.emptySet();
+    }
 }
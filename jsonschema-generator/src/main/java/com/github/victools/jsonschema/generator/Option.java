@@ -22,7 +22,6 @@ import com.github.victools.jsonschema.generator.impl.module.EnumModule;
 import com.github.victools.jsonschema.generator.impl.module.FieldExclusionModule;
 import com.github.victools.jsonschema.generator.impl.module.FlattenedOptionalModule;
 import com.github.victools.jsonschema.generator.impl.module.FlattenedWrapperModule;
-import com.github.victools.jsonschema.generator.impl.module.InlineSchemaModule;
 import com.github.victools.jsonschema.generator.impl.module.MethodExclusionModule;
 import com.github.victools.jsonschema.generator.impl.module.SimpleTypeModule;
 import com.github.victools.jsonschema.generator.impl.module.SimplifiedOptionalModule;
@@ -304,7 +303,7 @@ public enum Option {
      *
      * @since 4.10.0
      */
-    INLINE_ALL_SCHEMAS(InlineSchemaModule::new, null,
+    INLINE_ALL_SCHEMAS(null, null,
             Option.DEFINITIONS_FOR_ALL_OBJECTS, Option.DEFINITION_FOR_MAIN_SCHEMA, Option.INLINE_NULLABLE_SCHEMAS),
     /**
      * Generally, keys in the collected "definitions"/"$defs" are ensured to be URI compatible but may include parentheses and commas for listing type
@@ -354,7 +353,29 @@ public enum Option {
      *
      * @since 4.30.0
      */
-    STRICT_TYPE_INFO(null, null);
+    STRICT_TYPE_INFO(null, null),
+    /**
+     * Whether at the very end of the schema generation, identical inline sub-schemas being repeated throughout the generated schema should be moved
+     * into the common definitions and replaced by references to them. Only sub-schemas occurring at least twice and consisting of at least five
+     * JSON values (including nested ones) are being considered, e.g., {@code {"type":["string","null"],"maxLength":255,"format":"email"}}.
+     * <br>
+     * The additional definitions are named {@code "subschema-1"}, {@code "subschema-2"}, etc. When collecting the definitions via
+     * {@link SchemaBuilder#collectDefinitionsWithDeferredCleanUp(String)}, this requires all definitions to be finalized right away.
+     *
+     * @since 5.1.0
+     */
+    HOIST_REPEATED_SUBSCHEMAS(null, null),
+    /**
+     * Whether the collected and sorted properties of a type should be re-used across schema generations with the same configuration and
+     * {@link TypeContext}, instead of applying the field and method configurations (e.g., ignore checks, name overrides, required checks) for
+     * each type in every schema generation again.
+     * <br>
+     * This should only be enabled if all those configurations are pure functions of the respective field/method, i.e., neither hold any state
+     * (see {@link StatefulConfig}) nor depend on the ongoing schema generation.
+     *
+     * @since 5.1.0
+     */
+    REUSE_COLLECTED_MEMBERS(null, null);
 
     /**
      * Optional: the module realising the setting/option if it is enabled.
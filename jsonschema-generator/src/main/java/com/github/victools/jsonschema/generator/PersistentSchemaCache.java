@@ -0,0 +1,384 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import com.fasterxml.classmate.ResolvedType;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Optional persistent cache for generated schemas, storing one file per schema in a local directory. Each entry is identified by the main target
+ * type (including its type parameters), the given configuration fingerprint, the targeted schema version and the Java version. An entry also
+ * records a hash of the bytecode of each class that was encountered during its generation (including their super types) and is only being
+ * considered valid as long as none of those classes changed.
+ * <br>
+ * Since the configuration may include arbitrary lambdas and modules, its fingerprint cannot be derived automatically and must be provided
+ * explicitly. It should be changed whenever the configuration is being changed in a way that affects the generated schemas.
+ *
+ * @since 5.1.0
+ */
+public class PersistentSchemaCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PersistentSchemaCache.class);
+
+    private static final String FILE_EXTENSION = ".json";
+    private static final String FORMAT_VERSION = "1";
+    private static final String KEY_CLASSES = "classes";
+    private static final String KEY_SCHEMA = "schema";
+    private static final String NO_BYTECODE = "-";
+
+    /**
+     * Bytecode hashes per class, being determined once per class (and class loader).
+     */
+    private static final ClassValue<String> BYTECODE_HASHES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            return PersistentSchemaCache.calculateBytecodeHash(type);
+        }
+    };
+
+    private final SchemaGenerator generator;
+    private final Path directory;
+    private final String configFingerprint;
+    private long maxSizeInBytes = 64L * 1024 * 1024;
+    /**
+     * Sizes of the entry files in the cache directory, being determined by a single scan when storing the first entry and being kept up-to-date
+     * afterwards (or {@code null} before that initial scan). The directory is only being scanned again when exceeding the maximum size.
+     */
+    private Map<Path, Long> entryFileSizes;
+    private long totalSizeInBytes;
+
+    /**
+     * Constructor.
+     *
+     * @param generator generator to produce schemas with that are not (validly) cached yet
+     * @param directory local directory to store cached schemas in (will be created if it does not exist yet)
+     * @param configFingerprint identifier of the generator's configuration, to be changed whenever the configuration changes
+     */
+    public PersistentSchemaCache(SchemaGenerator generator, Path directory, String configFingerprint) {
+        this.generator = Objects.requireNonNull(generator, "generator");
+        this.directory = Objects.requireNonNull(directory, "directory");
+        this.configFingerprint = Objects.requireNonNull(configFingerprint, "configFingerprint");
+    }
+
+    /**
+     * Setter for the maximum total size of all cached schemas. When exceeding it, the least recently used entries are being removed.
+     * <br>
+     * The total size is being tracked in memory after an initial scan of the cache directory. Entries stored by other processes in the meantime are
+     * only being considered once this instance exceeds the maximum size and scans the directory again.
+     *
+     * @param maxSizeInBytes maximum number of bytes to occupy in the cache directory (default: 64 MiB)
+     * @return this instance (for chaining)
+     */
+    public PersistentSchemaCache withMaxSizeInBytes(long maxSizeInBytes) {
+        this.maxSizeInBytes = maxSizeInBytes;
+        return this;
+    }
+
+    /**
+     * Look-up the JSON Schema representation of the given type in the cache, or generate (and store) it if there is no valid entry yet.
+     *
+     * @param mainTargetType type for which to provide the JSON Schema
+     * @param typeParameters optional type parameters (in case of the {@code mainTargetType} being a parameterised type)
+     * @return cached or generated JSON Schema
+     * @see SchemaGenerator#generateSchema(Type, Type...)
+     */
+    public ObjectNode generateSchema(Type mainTargetType, Type... typeParameters) {
+        ResolvedType mainType = this.generator.getTypeContext().resolve(mainTargetType, typeParameters);
+        Path entryFile = this.directory.resolve(this.calculateEntryKey(mainType) + FILE_EXTENSION);
+        ClassLoader classLoader = Optional.ofNullable(mainType.getErasedType().getClassLoader())
+                .orElseGet(() -> Thread.currentThread().getContextClassLoader());
+        ObjectNode cachedSchema = this.readValidEntry(entryFile, classLoader);
+        if (cachedSchema != null) {
+            return cachedSchema;
+        }
+        SchemaBuilder builder = this.generator.buildMultipleSchemaDefinitions();
+        ObjectNode schema = builder.createSchemaForSingleType(mainTargetType, typeParameters);
+        this.writeEntry(entryFile, builder.getTraversedTypes(), schema);
+        return schema;
+    }
+
+    /**
+     * Remove all entries from the cache directory.
+     */
+    public void clear() {
+        for (Path entryFile : this.listEntryFiles()) {
+            this.deleteEntry(entryFile);
+        }
+    }
+
+    private String calculateEntryKey(ResolvedType mainType) {
+        String keyInput = String.join("\n", FORMAT_VERSION, mainType.getFullDescription(), this.configFingerprint,
+                this.generator.getConfig().getSchemaVersion().name(), System.getProperty("java.version"));
+        return PersistentSchemaCache.calculateHash(keyInput.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ObjectNode readValidEntry(Path entryFile, ClassLoader classLoader) {
+        final JsonNode entry;
+        try {
+            entry = this.generator.getConfig().getObjectMapper().readTree(Files.readAllBytes(entryFile));
+        } catch (NoSuchFileException ex) {
+            return null;
+        } catch (IOException | JacksonException ex) {
+            logger.warn("discarding unreadable schema cache entry {}", entryFile, ex);
+            this.deleteEntry(entryFile);
+            return null;
+        }
+        JsonNode classes = entry.get(KEY_CLASSES);
+        JsonNode schema = entry.get(KEY_SCHEMA);
+        if (classes == null || !classes.isObject() || schema == null || !schema.isObject()) {
+            this.deleteEntry(entryFile);
+            return null;
+        }
+        if (!PersistentSchemaCache.isUpToDate(classes, classLoader)) {
+            logger.debug("discarding outdated schema cache entry {}", entryFile);
+            this.deleteEntry(entryFile);
+            return null;
+        }
+        try {
+            // mark entry as recently used
+            Files.setLastModifiedTime(entryFile, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ex) {
+            logger.debug("failed to update last modified time of schema cache entry {}", entryFile, ex);
+        }
+        return (ObjectNode) schema;
+    }
+
+    private static boolean isUpToDate(JsonNode classes, ClassLoader classLoader) {
+        for (Map.Entry<String, JsonNode> classHash : classes.properties()) {
+            if (!classHash.getValue().stringValue().equals(PersistentSchemaCache.lookUpBytecodeHash(classHash.getKey(), classLoader))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeEntry(Path entryFile, Iterable<ResolvedType> traversedTypes, ObjectNode schema) {
+        Map<String, String> classHashes = new TreeMap<>();
+        for (ResolvedType traversedType : traversedTypes) {
+            PersistentSchemaCache.collectBytecodeHashes(traversedType, classHashes);
+        }
+        ObjectMapper objectMapper = this.generator.getConfig().getObjectMapper();
+        ObjectNode entry = objectMapper.createObjectNode();
+        ObjectNode classesNode = entry.putObject(KEY_CLASSES);
+        classHashes.forEach(classesNode::put);
+        entry.set(KEY_SCHEMA, schema);
+        Path tempFile = null;
+        try {
+            byte[] entryBytes = objectMapper.writeValueAsBytes(entry);
+            Files.createDirectories(this.directory);
+            tempFile = Files.createTempFile(this.directory, "entry-", ".tmp");
+            Files.write(tempFile, entryBytes);
+            try {
+                Files.move(tempFile, entryFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(tempFile, entryFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tempFile = null;
+            this.recordStoredEntry(entryFile, entryBytes.length);
+        } catch (IOException | JacksonException ex) {
+            logger.warn("failed to store schema cache entry {}", entryFile, ex);
+        } finally {
+            if (tempFile != null) {
+                this.deleteEntry(tempFile);
+            }
+        }
+    }
+
+    private synchronized void recordStoredEntry(Path entryFile, long size) {
+        if (this.entryFileSizes == null) {
+            // the initial scan already includes the new entry
+            this.trackEntryFiles(this.collectEntryFileDetails());
+        } else {
+            Long previousSize = this.entryFileSizes.put(entryFile, size);
+            this.totalSizeInBytes += size - (previousSize == null ? 0 : previousSize);
+        }
+        if (this.totalSizeInBytes > this.maxSizeInBytes) {
+            this.evictLeastRecentlyUsedEntries();
+        }
+    }
+
+    private synchronized void forgetEntry(Path entryFile) {
+        Long size = this.entryFileSizes == null ? null : this.entryFileSizes.remove(entryFile);
+        if (size != null) {
+            this.totalSizeInBytes -= size;
+        }
+    }
+
+    private void trackEntryFiles(List<EntryFileDetails> entries) {
+        this.entryFileSizes = new HashMap<>();
+        this.totalSizeInBytes = 0;
+        for (EntryFileDetails details : entries) {
+            this.entryFileSizes.put(details.getFile(), details.getSize());
+            this.totalSizeInBytes += details.getSize();
+        }
+    }
+
+    private synchronized void evictLeastRecentlyUsedEntries() {
+        // scan the directory again, as other processes may be using it too and the last modified times need to be considered
+        List<EntryFileDetails> entries = this.collectEntryFileDetails();
+        this.trackEntryFiles(entries);
+        if (this.totalSizeInBytes <= this.maxSizeInBytes) {
+            return;
+        }
+        entries.sort(Comparator.comparing(EntryFileDetails::getLastModified));
+        Iterator<EntryFileDetails> iterator = entries.iterator();
+        while (this.totalSizeInBytes > this.maxSizeInBytes && iterator.hasNext()) {
+            this.deleteEntry(iterator.next().getFile());
+        }
+    }
+
+    private List<EntryFileDetails> collectEntryFileDetails() {
+        List<EntryFileDetails> entries = new ArrayList<>();
+        for (Path entryFile : this.listEntryFiles()) {
+            try {
+                entries.add(new EntryFileDetails(entryFile, Files.size(entryFile), Files.getLastModifiedTime(entryFile)));
+            } catch (IOException ex) {
+                // entry was removed concurrently
+            }
+        }
+        return entries;
+    }
+
+    private List<Path> listEntryFiles() {
+        if (!Files.isDirectory(this.directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(this.directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(FILE_EXTENSION))
+                    .collect(Collectors.toList());
+        } catch (IOException | UncheckedIOException ex) {
+            logger.warn("failed to list schema cache entries in {}", this.directory, ex);
+            return List.of();
+        }
+    }
+
+    private void deleteEntry(Path entryFile) {
+        try {
+            Files.deleteIfExists(entryFile);
+            this.forgetEntry(entryFile);
+        } catch (IOException ex) {
+            logger.debug("failed to delete schema cache file {}", entryFile, ex);
+        }
+    }
+
+    private static void collectBytecodeHashes(ResolvedType type, Map<String, String> classHashes) {
+        PersistentSchemaCache.collectBytecodeHashes(type.getErasedType(), classHashes);
+        type.getTypeParameters().forEach(typeParameter -> PersistentSchemaCache.collectBytecodeHashes(typeParameter, classHashes));
+    }
+
+    private static void collectBytecodeHashes(Class<?> type, Map<String, String> classHashes) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive() || type.getClassLoader() == null || classHashes.containsKey(type.getName())) {
+            // JDK classes are being covered by the java version being part of the entry key
+            return;
+        }
+        classHashes.put(type.getName(), BYTECODE_HASHES.get(type));
+        if (type.getSuperclass() != null) {
+            PersistentSchemaCache.collectBytecodeHashes(type.getSuperclass(), classHashes);
+        }
+        for (Class<?> implementedInterface : type.getInterfaces()) {
+            PersistentSchemaCache.collectBytecodeHashes(implementedInterface, classHashes);
+        }
+    }
+
+    private static String lookUpBytecodeHash(String className, ClassLoader classLoader) {
+        try {
+            return BYTECODE_HASHES.get(Class.forName(className, false, classLoader));
+        } catch (ClassNotFoundException | LinkageError ex) {
+            return null;
+        }
+    }
+
+    private static String calculateBytecodeHash(Class<?> type) {
+        String resourceName = type.getName().substring(type.getName().lastIndexOf('.') + 1) + ".class";
+        try (InputStream bytecode = type.getResourceAsStream(resourceName)) {
+            if (bytecode == null) {
+                // e.g., a runtime generated class
+                return NO_BYTECODE;
+            }
+            return PersistentSchemaCache.calculateHash(bytecode.readAllBytes());
+        } catch (IOException ex) {
+            return NO_BYTECODE;
+        }
+    }
+
+    private static String calculateHash(byte[] input) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(input));
+        } catch (NoSuchAlgorithmException ex) {
+            // SHA-256 is mandatory on every Java platform
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static class EntryFileDetails {
+
+        private final Path file;
+        private final long size;
+        private final FileTime lastModified;
+
+        EntryFileDetails(Path file, long size, FileTime lastModified) {
+            this.file = file;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        Path getFile() {
+            return this.file;
+        }
+
+        long getSize() {
+            return this.size;
+        }
+
+        FileTime getLastModified() {
+            return this.lastModified;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Look-up of schemas that have been generated at build time (e.g., through the {@code jsonschema-maven-plugin}) and bundled as two class path
+ * resources: an index file mapping each class name to the offset and length of its schema within a single blob file. Both resources are only being
+ * loaded on the first look-up. Schemas for types not included in the bundle are being generated via the given fallback instead.
+ *
+ * @since 5.1.0
+ */
+public class PrecompiledSchemaRegistry {
+
+    /**
+     * File extension of the index resource, containing a JSON object with the offset and length of each class' schema in the blob resource.
+     */
+    public static final String INDEX_FILE_EXTENSION = ".index";
+    /**
+     * File extension of the blob resource, containing all schemas as compact UTF-8 encoded JSON right after one another.
+     */
+    public static final String BLOB_FILE_EXTENSION = ".schemas";
+
+    private static final ObjectMapper BUNDLE_MAPPER = JsonMapper.shared();
+
+    private final ClassLoader classLoader;
+    private final String bundleName;
+    private final Supplier<SchemaGenerator> fallbackGeneratorSupplier;
+    /**
+     * Offset and length of each class' schema in the blob, being loaded on first use. Volatile to allow look-ups without locking afterwards.
+     */
+    private volatile Map<String, int[]> index;
+    private volatile byte[] blob;
+    private volatile SchemaGenerator fallbackGenerator;
+
+    /**
+     * Constructor.
+     *
+     * @param classLoader class loader providing the bundled resources
+     * @param bundleName resource name of the bundle (without file extension), e.g. {@code "schemas/precompiled"}
+     * @param fallbackGeneratorSupplier provider of the generator to apply for types not being included in the bundle (only invoked when needed)
+     */
+    public PrecompiledSchemaRegistry(ClassLoader classLoader, String bundleName, Supplier<SchemaGenerator> fallbackGeneratorSupplier) {
+        this.classLoader = Objects.requireNonNull(classLoader, "classLoader");
+        this.bundleName = Objects.requireNonNull(bundleName, "bundleName");
+        this.fallbackGeneratorSupplier = Objects.requireNonNull(fallbackGeneratorSupplier, "fallbackGeneratorSupplier");
+    }
+
+    /**
+     * Check whether the given type's schema is included in the bundle, i.e., it can be provided without generating it.
+     *
+     * @param type type to check
+     * @return whether a precompiled schema is available
+     */
+    public boolean isPrecompiled(Class<?> type) {
+        return this.getIndex().containsKey(type.getName());
+    }
+
+    /**
+     * Provide the JSON Schema representation of the given type, preferably from the bundle.
+     *
+     * @param type type for which to provide the JSON Schema
+     * @return precompiled or generated JSON Schema (always a new instance that may be modified by the caller)
+     */
+    public ObjectNode getSchema(Class<?> type) {
+        int[] offsetAndLength = this.getIndex().get(type.getName());
+        if (offsetAndLength == null) {
+            return this.getFallbackGenerator().generateSchema(type);
+        }
+        return (ObjectNode) BUNDLE_MAPPER.readTree(this.getBlob(), offsetAndLength[0], offsetAndLength[1]);
+    }
+
+    private Map<String, int[]> getIndex() {
+        Map<String, int[]> loadedIndex = this.index;
+        if (loadedIndex == null) {
+            synchronized (this) {
+                loadedIndex = this.index;
+                if (loadedIndex == null) {
+                    loadedIndex = this.loadIndex();
+                    this.index = loadedIndex;
+                }
+            }
+        }
+        return loadedIndex;
+    }
+
+    private Map<String, int[]> loadIndex() {
+        Map<String, int[]> loadedIndex = new HashMap<>();
+        byte[] indexContent = this.readResource(this.bundleName + INDEX_FILE_EXTENSION);
+        if (indexContent != null) {
+            BUNDLE_MAPPER.readTree(indexContent).properties().forEach(entry -> loadedIndex.put(entry.getKey(),
+                    new int[]{entry.getValue().get(0).intValue(), entry.getValue().get(1).intValue()}));
+        }
+        return loadedIndex;
+    }
+
+    private byte[] getBlob() {
+        byte[] loadedBlob = this.blob;
+        if (loadedBlob == null) {
+            synchronized (this) {
+                loadedBlob = this.blob;
+                if (loadedBlob == null) {
+                    loadedBlob = this.readResource(this.bundleName + BLOB_FILE_EXTENSION);
+                    if (loadedBlob == null) {
+                        throw new IllegalStateException("Missing precompiled schemas resource: " + this.bundleName + BLOB_FILE_EXTENSION);
+                    }
+                    this.blob = loadedBlob;
+                }
+            }
+        }
+        return loadedBlob;
+    }
+
+    private SchemaGenerator getFallbackGenerator() {
+        SchemaGenerator generator = this.fallbackGenerator;
+        if (generator == null) {
+            synchronized (this) {
+                generator = this.fallbackGenerator;
+                if (generator == null) {
+                    generator = this.fallbackGeneratorSupplier.get();
+                    this.fallbackGenerator = generator;
+                }
+            }
+        }
+        return generator;
+    }
+
+    private byte[] readResource(String resourceName) {
+        try (InputStream resource = this.classLoader.getResourceAsStream(resourceName)) {
+            return resource == null ? null : resource.readAllBytes();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read precompiled schemas resource: " + resourceName, ex);
+        }
+    }
+
+    /**
+     * Write the given schemas as bundle that can be loaded by a {@link PrecompiledSchemaRegistry}.
+     *
+     * @param schemasByClassName generated schemas per full class name
+     * @param indexOutput target for the index resource (to be stored with the {@link #INDEX_FILE_EXTENSION})
+     * @param blobOutput target for the blob resource (to be stored with the {@link #BLOB_FILE_EXTENSION})
+     * @throws IOException when failing to write to either of the given targets
+     */
+    public static void writeBundle(Map<String, ? extends JsonNode> schemasByClassName, OutputStream indexOutput, OutputStream blobOutput)
+            throws IOException {
+        ObjectNode indexNode = BUNDLE_MAPPER.createObjectNode();
+        int offset = 0;
+        for (Map.Entry<String, ? extends JsonNode> entry : schemasByClassName.entrySet()) {
+            byte[] schema = BUNDLE_MAPPER.writeValueAsBytes(entry.getValue());
+            blobOutput.write(schema);
+            indexNode.putArray(entry.getKey())
+                    .add(offset)
+                    .add(schema.length);
+            offset += schema.length;
+        }
+        indexOutput.write(BUNDLE_MAPPER.writeValueAsBytes(indexNode));
+    }
+}
@@ -18,9 +18,11 @@ package com.github.victools.jsonschema.generator;
 
 import com.fasterxml.classmate.ResolvedType;
 import com.github.victools.jsonschema.generator.impl.AttributeCollector;
+import com.github.victools.jsonschema.generator.impl.ClassBoundCache;
 import com.github.victools.jsonschema.generator.impl.DefinitionKey;
 import com.github.victools.jsonschema.generator.impl.SchemaCleanUpUtils;
 import com.github.victools.jsonschema.generator.impl.SchemaGenerationContextImpl;
+import com.github.victools.jsonschema.generator.impl.SchemaGeneratorConfigImpl;
 import com.github.victools.jsonschema.generator.naming.CleanSchemaDefinitionNamingStrategy;
 import com.github.victools.jsonschema.generator.naming.DefaultSchemaDefinitionNamingStrategy;
 import com.github.victools.jsonschema.generator.naming.SchemaDefinitionNamingStrategy;
@@ -30,6 +32,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
@@ -72,9 +75,17 @@ public class SchemaBuilder {
 
     private final SchemaGeneratorConfig config;
     private final TypeContext typeContext;
+    /**
+     * Whether the stateful parts of the configuration should be reset after each schema generation (and not only once after a whole batch).
+     */
+    private final boolean resetConfigAfterGeneration;
     private final SchemaGenerationContextImpl generationContext;
     private final List<ObjectNode> schemaNodes;
     private final CleanSchemaDefinitionNamingStrategy definitionNamingStrategy;
+    /**
+     * Cleaned definition names shared across schema generations with the same configuration (or {@code null} if the naming is not cacheable).
+     */
+    private final ClassBoundCache<DefinitionKey, String> definitionNameCache;
 
     /**
      * Constructor.
@@ -83,8 +94,21 @@ public class SchemaBuilder {
      * @param typeContext type resolution/introspection context to be used during schema generation
      */
     SchemaBuilder(SchemaGeneratorConfig config, TypeContext typeContext) {
+        this(config, typeContext, true);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param config configuration to be applied
+     * @param typeContext type resolution/introspection context to be used during schema generation
+     * @param resetConfigAfterGeneration whether {@link SchemaGeneratorConfig#resetAfterSchemaGenerationFinished()} should be invoked after each
+     *        schema generation; {@code false} if the caller takes care of it (e.g., once after a whole batch of concurrent schema generations)
+     */
+    SchemaBuilder(SchemaGeneratorConfig config, TypeContext typeContext, boolean resetConfigAfterGeneration) {
         this.config = config;
         this.typeContext = typeContext;
+        this.resetConfigAfterGeneration = resetConfigAfterGeneration;
         this.generationContext = new SchemaGenerationContextImpl(this.config, this.typeContext);
         this.schemaNodes = new ArrayList<>();
 
@@ -96,6 +120,9 @@ public class SchemaBuilder {
                 : cleanupUtils::ensureDefinitionKeyIsUriCompatible;
 
         this.definitionNamingStrategy = new CleanSchemaDefinitionNamingStrategy(baseNamingStrategy, definitionCleanUpTask);
+        this.definitionNameCache = config instanceof SchemaGeneratorConfigImpl configImpl && this.definitionNamingStrategy.isCacheable()
+                ? configImpl.getDefinitionNameCache(typeContext)
+                : null;
     }
 
     /**
@@ -105,15 +132,14 @@ public class SchemaBuilder {
      * @param typeParameters optional type parameters (in case of the {@code mainTargetType} being a parameterised type)
      * @return generated JSON Schema
      */
-    private ObjectNode createSchemaForSingleType(Type mainTargetType, Type... typeParameters) {
+    ObjectNode createSchemaForSingleType(Type mainTargetType, Type... typeParameters) {
         ResolvedType mainType = this.typeContext.resolve(mainTargetType, typeParameters);
+        if (this.config.shouldInlineAllSchemas()) {
+            return this.createInlineSchemaForSingleType(mainType);
+        }
         DefinitionKey mainKey = this.generationContext.parseType(mainType);
 
-        ObjectNode jsonSchemaResult = this.config.createObjectNode();
-        if (this.config.shouldIncludeSchemaVersionIndicator()) {
-            jsonSchemaResult.put(this.config.getKeyword(SchemaKeyword.TAG_SCHEMA),
-                    this.config.getKeyword(SchemaKeyword.TAG_SCHEMA_VALUE));
-        }
+        ObjectNode jsonSchemaResult = this.createSchemaRootNode();
         boolean createDefinitionForMainSchema = this.config.shouldCreateDefinitionForMainSchema();
         if (createDefinitionForMainSchema) {
             this.generationContext.addReference(mainType, jsonSchemaResult, null, false);
@@ -121,6 +147,7 @@ public class SchemaBuilder {
         String definitionsTagName = this.config.getKeyword(SchemaKeyword.TAG_DEFINITIONS);
         String referenceKeyPrefix = this.getReferenceKeyPrefix(definitionsTagName);
         ObjectNode definitionsNode = this.buildDefinitionsAndResolveReferences(referenceKeyPrefix, mainKey);
+        definitionsNode.forEach(node -> this.schemaNodes.add((ObjectNode) node));
         if (!definitionsNode.isEmpty()) {
             jsonSchemaResult.set(definitionsTagName, definitionsNode);
         }
@@ -130,7 +157,57 @@ public class SchemaBuilder {
             this.schemaNodes.add(jsonSchemaResult);
         }
         this.performCleanup(definitionsNode, referenceKeyPrefix);
-        this.config.resetAfterSchemaGenerationFinished();
+        if (!definitionsNode.isEmpty() && !jsonSchemaResult.has(definitionsTagName)) {
+            // definitions were only introduced during the clean-up, but should still be listed before the main schema's attributes
+            this.insertDefinitionsNode(jsonSchemaResult, definitionsTagName, definitionsNode);
+        }
+        this.resetConfigIfApplicable();
+        return jsonSchemaResult;
+    }
+
+    /**
+     * Generate an {@link ObjectNode} containing the JSON Schema representation of the given type, while {@link Option#INLINE_ALL_SCHEMAS} is enabled.
+     * All sub-schemas are being written directly into place, i.e., without collecting them as definitions first. Only custom definitions being
+     * explicitly marked to always produce a definition are still being collected and referenced.
+     *
+     * @param mainType type for which to generate the JSON Schema
+     * @return generated JSON Schema
+     */
+    private ObjectNode createInlineSchemaForSingleType(ResolvedType mainType) {
+        ObjectNode jsonSchemaResult = this.createSchemaRootNode();
+        DefinitionKey mainKey = this.generationContext.parseTypeInline(mainType, jsonSchemaResult);
+        this.schemaNodes.add(jsonSchemaResult);
+
+        String definitionsTagName = this.config.getKeyword(SchemaKeyword.TAG_DEFINITIONS);
+        String referenceKeyPrefix = this.getReferenceKeyPrefix(definitionsTagName);
+        final ObjectNode definitionsNode;
+        if (this.generationContext.getDefinedTypes().isEmpty()) {
+            // nothing to collect or to look-up names for
+            definitionsNode = this.config.createObjectNode();
+        } else {
+            definitionsNode = this.buildDefinitionsAndResolveReferences(referenceKeyPrefix, mainKey);
+            definitionsNode.forEach(node -> this.schemaNodes.add((ObjectNode) node));
+        }
+        this.performCleanup(definitionsNode, referenceKeyPrefix);
+        if (!definitionsNode.isEmpty()) {
+            this.insertDefinitionsNode(jsonSchemaResult, definitionsTagName, definitionsNode);
+        }
+        this.resetConfigIfApplicable();
+        return jsonSchemaResult;
+    }
+
+    private void resetConfigIfApplicable() {
+        if (this.resetConfigAfterGeneration) {
+            this.config.resetAfterSchemaGenerationFinished();
+        }
+    }
+
+    private ObjectNode createSchemaRootNode() {
+        ObjectNode jsonSchemaResult = this.config.createObjectNode();
+        if (this.config.shouldIncludeSchemaVersionIndicator()) {
+            jsonSchemaResult.put(this.config.getKeyword(SchemaKeyword.TAG_SCHEMA),
+                    this.config.getKeyword(SchemaKeyword.TAG_SCHEMA_VALUE));
+        }
         return jsonSchemaResult;
     }
 
@@ -150,7 +227,7 @@ public class SchemaBuilder {
         ObjectNode node = this.generationContext.createDefinitionReference(resolvedTargetType);
         this.schemaNodes.add(node);
 
-        this.config.resetAfterSchemaGenerationFinished();
+        this.resetConfigIfApplicable();
         return node;
     }
 
@@ -171,10 +248,72 @@ public class SchemaBuilder {
     public ObjectNode collectDefinitions(String designatedDefinitionPath) {
         String referenceKeyPrefix = this.getReferenceKeyPrefix(designatedDefinitionPath);
         ObjectNode definitionsNode = this.buildDefinitionsAndResolveReferences(referenceKeyPrefix, null);
+        definitionsNode.forEach(node -> this.schemaNodes.add((ObjectNode) node));
         this.performCleanup(definitionsNode, referenceKeyPrefix);
         return definitionsNode;
     }
 
+    /**
+     * Completing the schema generation (after {@link #createSchemaReference(Type, Type...)} was invoked for all relevant types) like
+     * {@link #collectDefinitions(String)}, but deferring the clean-up of each common schema definition until it is being accessed for the first time.
+     * <br>
+     * This is intended for consumers that only require a few of many collected definitions, e.g., when serving individual definitions on request.
+     * Note that all definitions are still being generated (and kept in memory) up-front; only the clean-up steps are skipped for those definitions
+     * that are never being accessed. The schema nodes returned by {@link #createSchemaReference(Type, Type...)} are being finalized immediately.
+     * <br>
+     * This should only be invoked once at the very end of the schema generation process (and not in addition to {@link #collectDefinitions(String)}).
+     * <br>
+     * If {@link Option#HOIST_REPEATED_SUBSCHEMAS} is enabled, all definitions are being finalized right away, as the repeated sub-schemas can only
+     * be determined across all of them. The result is then the same as from {@link #collectDefinitions(String)}.
+     *
+     * @param designatedDefinitionPath the designated path to the definitions, to be used in generated references
+     * @return view on the common schema definitions, cleaning up each one on demand
+     * @see #createSchemaReference(Type, Type...)
+     * @since 5.1.0
+     */
+    public DeferredCleanUpSchemaDefinitions collectDefinitionsWithDeferredCleanUp(String designatedDefinitionPath) {
+        String referenceKeyPrefix = this.getReferenceKeyPrefix(designatedDefinitionPath);
+        ObjectNode definitionsNode = this.buildDefinitionsAndResolveReferences(referenceKeyPrefix, null);
+        DeferredCleanUpSchemaDefinitions deferredDefinitions = new DeferredCleanUpSchemaDefinitions(this.config, definitionsNode, referenceKeyPrefix);
+        this.schemaNodes.forEach(deferredDefinitions::finalizeSchemaNode);
+        if (this.config.shouldHoistRepeatedSubschemas()) {
+            deferredDefinitions.hoistRepeatedSubschemas(this.schemaNodes);
+        }
+        return deferredDefinitions;
+    }
+
+    /**
+     * Getter for all types that have been traversed by this builder so far.
+     *
+     * @return traversed types (including those that have been inlined)
+     */
+    Set<ResolvedType> getTraversedTypes() {
+        return this.generationContext.getTraversedTypes();
+    }
+
+    /**
+     * Getter for the types that have been traversed by this builder so far and which of their schemas depend on which other types. This may be
+     * used to determine which schemas need to be regenerated after some classes changed.
+     *
+     * @return snapshot of the traversed types and their dependencies
+     * @see IncrementalSchemaGenerator
+     * @since 5.1.0
+     */
+    public TypeDependencyGraph getTypeDependencyGraph() {
+        return new TypeDependencyGraph(this.generationContext.getRootTypes(), this.generationContext.getTypeDependencies());
+    }
+
+    private void insertDefinitionsNode(ObjectNode jsonSchemaResult, String definitionsTagName, ObjectNode definitionsNode) {
+        ObjectNode mainSchemaAttributes = this.config.createObjectNode().setAll(jsonSchemaResult);
+        jsonSchemaResult.removeAll();
+        String schemaTagName = this.config.getKeyword(SchemaKeyword.TAG_SCHEMA);
+        if (mainSchemaAttributes.has(schemaTagName)) {
+            jsonSchemaResult.set(schemaTagName, mainSchemaAttributes.remove(schemaTagName));
+        }
+        jsonSchemaResult.set(definitionsTagName, definitionsNode);
+        jsonSchemaResult.setAll(mainSchemaAttributes);
+    }
+
     private String getReferenceKeyPrefix(String designatedDefinitionPath) {
         return this.config.getKeyword(SchemaKeyword.TAG_REF_MAIN) + '/' + designatedDefinitionPath + '/';
     }
@@ -189,6 +328,7 @@ public class SchemaBuilder {
      * @see SchemaGeneratorConfig#shouldCleanupUnnecessaryAllOfElements()
      * @see SchemaCleanUpUtils#reduceAllOfNodes(List)
      * @see SchemaCleanUpUtils#reduceAnyOfNodes(List)
+     * @see SchemaCleanUpUtils#hoistRepeatedSubschemas(List, ObjectNode, String)
      */
     private void performCleanup(ObjectNode definitionsNode, String referenceKeyPrefix) {
         SchemaCleanUpUtils cleanUpUtils = new SchemaCleanUpUtils(this.config);
@@ -204,6 +344,9 @@ public class SchemaBuilder {
             // since version 4.37.0 as extraneous "anyOf" wrappers may have been introduced to support type "null"
             cleanUpUtils.reduceAnyOfNodes(this.schemaNodes);
         }
+        if (this.config.shouldHoistRepeatedSubschemas()) {
+            cleanUpUtils.hoistRepeatedSubschemas(this.schemaNodes, definitionsNode, referenceKeyPrefix);
+        }
     }
 
     /**
@@ -234,7 +377,6 @@ public class SchemaBuilder {
                 updateNullableReferences(nullableReferences, definitionCollectionDetails, referenceKey, baseReferenceKey);
             }
         }
-        definitionsNode.forEach(node -> this.schemaNodes.add((ObjectNode) node));
         return definitionsNode;
     }
 
@@ -334,8 +476,11 @@ public class SchemaBuilder {
      * @return encountered types with their corresponding reference keys
      */
     private Map<DefinitionKey, String> getReferenceKeys(DefinitionKey mainSchemaKey, Predicate<DefinitionKey> shouldProduceDefinition) {
-        Function<DefinitionKey, String> definitionNameForKey = key -> this.definitionNamingStrategy.getDefinitionNameForKey(key,
+        Function<DefinitionKey, String> uncachedDefinitionNameForKey = key -> this.definitionNamingStrategy.getDefinitionNameForKey(key,
                 this.generationContext);
+        Function<DefinitionKey, String> definitionNameForKey = this.definitionNameCache == null
+                ? uncachedDefinitionNameForKey
+                : key -> this.definitionNameCache.computeIfAbsent(key, uncachedDefinitionNameForKey);
         Map<String, List<DefinitionKey>> aliases = this.generationContext.getDefinedTypes().stream()
                 .collect(Collectors.groupingBy(definitionNameForKey, TreeMap::new, Collectors.toList()));
         Map<DefinitionKey, String> referenceKeys = new LinkedHashMap<>();
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Exception being thrown when one of the configured {@link SchemaGenerationLimits} is exceeded and
+ * {@link SchemaGenerationLimits.BreachHandling#FAIL} applies.
+ *
+ * @since 5.1.0
+ */
+public class SchemaGenerationLimitExceededException extends IllegalStateException {
+
+    private final List<String> path;
+
+    /**
+     * Constructor.
+     *
+     * @param reason description of the limit being exceeded
+     * @param path descriptions of the traversed types leading up to the breach, starting with the outermost type
+     */
+    public SchemaGenerationLimitExceededException(String reason, List<String> path) {
+        super(reason + " at: " + String.join(" -> ", path));
+        this.path = Collections.unmodifiableList(path);
+    }
+
+    /**
+     * Getter for the traversed types leading up to the breach.
+     *
+     * @return descriptions of the traversed types, starting with the outermost type
+     */
+    public List<String> getPath() {
+        return this.path;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import java.time.Duration;
+
+/**
+ * Upper bounds for a single schema generation, protecting against unexpectedly large type graphs (e.g., deeply nested generics or accidentally
+ * referenced framework types). By default, no limit is being applied.
+ *
+ * @since 5.1.0
+ */
+public class SchemaGenerationLimits {
+
+    /**
+     * Reaction to one of the configured limits being exceeded.
+     */
+    public enum BreachHandling {
+        /**
+         * Abort the schema generation with a {@link SchemaGenerationLimitExceededException}, indicating the path of types leading up to the breach.
+         */
+        FAIL,
+        /**
+         * Log a warning and continue the schema generation, but represent the type exceeding a limit by an empty schema, i.e. {@code {}}. When the
+         * number of properties in a single type is being exceeded, the surplus properties (as per the configured sort order) are omitted instead.
+         */
+        PLACEHOLDER
+    }
+
+    private Integer maxDefinitions;
+    private Integer maxDepth;
+    private Integer maxPropertiesPerType;
+    private Duration maxDuration;
+    private BreachHandling breachHandling = BreachHandling.FAIL;
+
+    /**
+     * Setter for the maximum number of distinct type definitions being generated.
+     *
+     * @param maxDefinitions maximum number of collected type definitions (before being inlined or referenced in the "definitions"/"$defs")
+     * @return this instance (for chaining)
+     */
+    public SchemaGenerationLimits withMaxDefinitions(int maxDefinitions) {
+        this.maxDefinitions = maxDefinitions;
+        return this;
+    }
+
+    /**
+     * Setter for the maximum nesting depth of types, e.g. a property's type being level 2 when the declaring type is the main type (level 1).
+     *
+     * @param maxDepth maximum number of nested types being traversed
+     * @return this instance (for chaining)
+     */
+    public SchemaGenerationLimits withMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    /**
+     * Setter for the maximum number of properties (i.e., fields and methods) being included in a single object type's schema.
+     *
+     * @param maxPropertiesPerType maximum number of properties per type
+     * @return this instance (for chaining)
+     */
+    public SchemaGenerationLimits withMaxPropertiesPerType(int maxPropertiesPerType) {
+        this.maxPropertiesPerType = maxPropertiesPerType;
+        return this;
+    }
+
+    /**
+     * Setter for the maximum wall-clock time to spend on traversing types, starting from the creation of the generation context. When using a
+     * {@link SchemaBuilder} for multiple types, this duration applies across all its invocations.
+     *
+     * @param maxDuration maximum time to spend on the traversal of types
+     * @return this instance (for chaining)
+     */
+    public SchemaGenerationLimits withMaxDuration(Duration maxDuration) {
+        this.maxDuration = maxDuration;
+        return this;
+    }
+
+    /**
+     * Setter for the reaction to any of the configured limits being exceeded.
+     *
+     * @param breachHandling how to handle a limit being exceeded (default: {@link BreachHandling#FAIL})
+     * @return this instance (for chaining)
+     */
+    public SchemaGenerationLimits withBreachHandling(BreachHandling breachHandling) {
+        this.breachHandling = breachHandling;
+        return this;
+    }
+
+    /**
+     * Getter for the maximum number of distinct type definitions being generated.
+     *
+     * @return maximum number of type definitions (or {@code null} if unlimited)
+     */
+    public Integer getMaxDefinitions() {
+        return this.maxDefinitions;
+    }
+
+    /**
+     * Getter for the maximum nesting depth of types.
+     *
+     * @return maximum number of nested types being traversed (or {@code null} if unlimited)
+     */
+    public Integer getMaxDepth() {
+        return this.maxDepth;
+    }
+
+    /**
+     * Getter for the maximum number of properties being included in a single object type's schema.
+     *
+     * @return maximum number of properties per type (or {@code null} if unlimited)
+     */
+    public Integer getMaxPropertiesPerType() {
+        return this.maxPropertiesPerType;
+    }
+
+    /**
+     * Getter for the maximum wall-clock time to spend on traversing types.
+     *
+     * @return maximum time to spend (or {@code null} if unlimited)
+     */
+    public Duration getMaxDuration() {
+        return this.maxDuration;
+    }
+
+    /**
+     * Getter for the reaction to any of the configured limits being exceeded.
+     *
+     * @return how to handle a limit being exceeded
+     */
+    public BreachHandling getBreachHandling() {
+        return this.breachHandling;
+    }
+}
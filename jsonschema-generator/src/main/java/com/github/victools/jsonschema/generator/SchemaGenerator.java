@@ -17,7 +17,16 @@
 package com.github.victools.jsonschema.generator;
 
 import com.github.victools.jsonschema.generator.impl.TypeContextFactory;
+import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.node.ObjectNode;
 
@@ -26,6 +35,11 @@ import tools.jackson.databind.node.ObjectNode;
  */
 public class SchemaGenerator {
 
+    /**
+     * Factory method for an executor starting a new virtual thread per task, which is only available as of Java 21.
+     */
+    private static final Method VIRTUAL_THREAD_EXECUTOR_FACTORY = lookUpVirtualThreadExecutorFactory();
+
     private final SchemaGeneratorConfig config;
     private final TypeContext typeContext;
 
@@ -60,6 +74,108 @@ public class SchemaGenerator {
         return SchemaBuilder.createSingleTypeSchema(this.config, this.typeContext, mainTargetType, typeParameters);
     }
 
+    /**
+     * Generate the JSON Schema representations of all the given types concurrently, i.e., each as if calling
+     * {@link #generateSchema(Type, Type...) generateSchema()} for it separately. Virtual threads are being used where available, otherwise the
+     * generations are being spread over a thread pool bounded by the number of available processors.
+     * <br>
+     * Any configured custom providers/resolvers are expected to be thread-safe. As after each {@code generateSchema()} call, any
+     * {@link StatefulConfig} is being reset after each individual generation, but on the worker thread that performed it while other generations
+     * may still be running. Stateful providers/resolvers should therefore keep their state per thread (e.g., in a {@link ThreadLocal}).
+     *
+     * @param mainTargetTypes types for which to generate the JSON Schemas (parameterised types may be given as {@code ParameterizedType})
+     * @return generated JSON Schemas (in the same order as the given types)
+     * @since 5.1.0
+     */
+    public List<ObjectNode> generateSchemas(Collection<? extends Type> mainTargetTypes) {
+        try {
+            return this.generateSchemasAsync(mainTargetTypes).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Generate the JSON Schema representations of all the given types concurrently, without waiting for their completion.
+     *
+     * @param mainTargetTypes types for which to generate the JSON Schemas (parameterised types may be given as {@code ParameterizedType})
+     * @return future result containing the generated JSON Schemas (in the same order as the given types)
+     * @see #generateSchemas(Collection)
+     * @since 5.1.0
+     */
+    public CompletableFuture<List<ObjectNode>> generateSchemasAsync(Collection<? extends Type> mainTargetTypes) {
+        return this.generateSchemasAsync(mainTargetTypes, BatchExecutorHolder.EXECUTOR);
+    }
+
+    /**
+     * Generate the JSON Schema representations of all the given types concurrently on the given executor, without waiting for their completion.
+     *
+     * @param mainTargetTypes types for which to generate the JSON Schemas (parameterised types may be given as {@code ParameterizedType})
+     * @param executor executor on which to run the individual schema generations
+     * @return future result containing the generated JSON Schemas (in the same order as the given types)
+     * @see #generateSchemas(Collection)
+     * @since 5.1.0
+     */
+    public CompletableFuture<List<ObjectNode>> generateSchemasAsync(Collection<? extends Type> mainTargetTypes, Executor executor) {
+        List<CompletableFuture<ObjectNode>> futures = mainTargetTypes.stream()
+                .map(mainTargetType -> CompletableFuture.supplyAsync(() -> this.generateSchemaInBatch(mainTargetType), executor))
+                .collect(Collectors.toList());
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(_done -> futures.stream()
+                        .map(CompletableFuture::join)
+                        .collect(Collectors.toList()));
+    }
+
+    /**
+     * Generate the JSON Schema representation of the given type as part of a batch, i.e., on a (potentially reused) worker thread. Any
+     * {@link StatefulConfig} is being reset afterwards on that same thread, even if the generation failed.
+     *
+     * @param mainTargetType type for which to generate the JSON Schema
+     * @return generated JSON Schema
+     */
+    private ObjectNode generateSchemaInBatch(Type mainTargetType) {
+        try {
+            return new SchemaBuilder(this.config, this.typeContext, false).createSchemaForSingleType(mainTargetType);
+        } finally {
+            this.config.resetAfterSchemaGenerationFinished();
+        }
+    }
+
+    /**
+     * Create the executor for running schema generations concurrently, preferring virtual threads.
+     *
+     * @return created executor (shared across all batches and never being shut down)
+     */
+    private static ExecutorService createBatchExecutor() {
+        if (VIRTUAL_THREAD_EXECUTOR_FACTORY != null) {
+            try {
+                return (ExecutorService) VIRTUAL_THREAD_EXECUTOR_FACTORY.invoke(null);
+            } catch (ReflectiveOperationException | RuntimeException ex) {
+                // virtual threads may not be supported after all (e.g., as preview feature), fall back on platform threads
+            }
+        }
+        int threadCount = Math.max(1, Runtime.getRuntime().availableProcessors());
+        return Executors.newFixedThreadPool(threadCount, task -> {
+            Thread thread = new Thread(task, "jsonschema-generator-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static Method lookUpVirtualThreadExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException ex) {
+            return null;
+        }
+    }
+
     /**
      * Create a {@link SchemaBuilder} instance for collecting schema references via
      * {@link SchemaBuilder#createSchemaReference(Type, Type...) createSchemaReference()} until finalizing the generation via
@@ -84,4 +200,21 @@ public class SchemaGenerator {
     public SchemaGeneratorConfig getConfig() {
         return this.config;
     }
+
+    /**
+     * Returns the {@link TypeContext} associated with this {@link SchemaGenerator}.
+     *
+     * @return a {@link TypeContext} instance
+     */
+    TypeContext getTypeContext() {
+        return this.typeContext;
+    }
+
+    /**
+     * Holder of the default executor for batch schema generations, only being created on first use.
+     */
+    private static final class BatchExecutorHolder {
+
+        private static final ExecutorService EXECUTOR = createBatchExecutor();
+    }
 }
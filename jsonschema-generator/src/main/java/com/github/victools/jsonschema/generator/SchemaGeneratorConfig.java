@@ -25,6 +25,7 @@ import java.math.BigDecimal;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.node.ArrayNode;
@@ -158,6 +159,25 @@ public interface SchemaGeneratorConfig extends StatefulConfig {
      */
     boolean shouldIncludeStrictTypeInfo();
 
+    /**
+     * Determine whether repeated inline sub-schemas should be moved into the common definitions and be replaced by references to them.
+     *
+     * @return whether to hoist repeated sub-schemas during the last schema generation step
+     *
+     * @since 5.1.0
+     */
+    boolean shouldHoistRepeatedSubschemas();
+
+    /**
+     * Determine whether the collected properties of a type may be re-used across schema generations with this configuration and the same type
+     * context, i.e., without applying the field and method configurations (e.g., ignore checks, name overrides, required checks) again.
+     *
+     * @return whether to cache the collected properties per type
+     *
+     * @since 5.1.0
+     */
+    boolean shouldReuseCollectedMembers();
+
     /**
      * Determine whether static fields should be included in the generated schema.
      *
@@ -240,6 +260,20 @@ public interface SchemaGeneratorConfig extends StatefulConfig {
      */
     int sortProperties(MemberScope<?, ?> first, MemberScope<?, ?> second);
 
+    /**
+     * Sort the given fields and methods to determine their order in an object's {@code "properties"}.
+     *
+     * @param properties fields/methods to sort
+     * @return sorted fields/methods
+     * @see #sortProperties(MemberScope, MemberScope)
+     * @since 5.1.0
+     */
+    default List<MemberScope<?, ?>> sortProperties(Collection<? extends MemberScope<?, ?>> properties) {
+        return properties.stream()
+                .sorted(this::sortProperties)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Getter for the naming strategy to be applied when determining key names in the "definitions"/"$defs".
      *
@@ -247,6 +281,15 @@ public interface SchemaGeneratorConfig extends StatefulConfig {
      */
     SchemaDefinitionNamingStrategy getDefinitionNamingStrategy();
 
+    /**
+     * Getter for the limits applying to a single schema generation.
+     *
+     * @return upper bounds for a single schema generation (may be {@code null} if no limits should be applied)
+     *
+     * @since 5.1.0
+     */
+    SchemaGenerationLimits getGenerationLimits();
+
     /**
      * Look-up the non-standard JSON schema definition for a given property. Falling-back on the per-type custom definitions.
      *
@@ -19,18 +19,22 @@ package com.github.victools.jsonschema.generator;
 import com.fasterxml.classmate.AnnotationInclusion;
 import com.github.victools.jsonschema.generator.impl.SchemaGeneratorConfigImpl;
 import java.lang.annotation.Annotation;
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import tools.jackson.core.json.JsonWriteFeature;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.SerializationFeature;
 import tools.jackson.databind.cfg.JsonNodeFeature;
+import tools.jackson.databind.cfg.MapperBuilder;
 import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.JsonNodeFactory;
 
 /**
  * Builder class for creating a configuration object to be passed into the SchemaGenerator's constructor.
@@ -218,12 +222,29 @@ public class SchemaGeneratorConfigBuilder {
 
     /**
      * Applying a module to this configuration builder instance.
+     * <br>
+     * If the module declares {@link Module#getRelevantMemberAnnotations() relevant member annotations}, all field and method configurations it
+     * registers are being skipped for members without any of them.
      *
      * @param module configuration module to add/apply
      * @return this builder instance (for chaining)
      */
     public SchemaGeneratorConfigBuilder with(Module module) {
-        module.applyToConfigBuilder(this);
+        // since 5.1.0: skip the module's field/method configurations for members without any of its relevant annotations
+        Collection<Class<? extends Annotation>> relevantMemberAnnotations = module.getRelevantMemberAnnotations();
+        MemberAnnotationFilter registrationFilter = relevantMemberAnnotations == null || relevantMemberAnnotations.isEmpty()
+                ? null
+                : new MemberAnnotationFilter(relevantMemberAnnotations);
+        Predicate<? super FieldScope> previousFieldFilter = this.fieldConfigPart.getRegistrationFilter();
+        Predicate<? super MethodScope> previousMethodFilter = this.methodConfigPart.getRegistrationFilter();
+        this.fieldConfigPart.setRegistrationFilter(registrationFilter);
+        this.methodConfigPart.setRegistrationFilter(registrationFilter);
+        try {
+            module.applyToConfigBuilder(this);
+        } finally {
+            this.fieldConfigPart.setRegistrationFilter(previousFieldFilter);
+            this.methodConfigPart.setRegistrationFilter(previousMethodFilter);
+        }
         return this;
     }
 
@@ -323,4 +344,21 @@ public class SchemaGeneratorConfigBuilder {
         this.objectMapper = objectMapper;
         return this;
     }
+
+    /**
+     * Replace the {@link JsonNodeFactory} of the registered {@link ObjectMapper}, which is used to create all object and array nodes for the JSON
+     * structure being generated. E.g., the {@link CompactJsonNodeFactory} reduces the memory footprint of large schemas with many small sub-schemas.
+     * <br>
+     * Beware that this is based on the current {@link ObjectMapper}, i.e., a subsequent call to {@link #withObjectMapper(ObjectMapper)} discards it.
+     *
+     * @param nodeFactory factory for object and array nodes for the JSON structure being generated
+     * @return this builder instance (for chaining)
+     *
+     * @since 5.1.0
+     */
+    public SchemaGeneratorConfigBuilder withNodeFactory(JsonNodeFactory nodeFactory) {
+        MapperBuilder<?, ?> mapperBuilder = this.objectMapper.rebuild();
+        this.objectMapper = mapperBuilder.nodeFactory(nodeFactory).build();
+        return this;
+    }
 }
@@ -32,6 +32,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
 
 /**
  * Generic collection of reflection based analysis for populating a JSON Schema from a certain kind of member.
@@ -60,6 +61,70 @@ public class SchemaGeneratorConfigPart<M extends MemberScope<?, ?>> extends Sche
     private final List<ConfigFunction<M, List<ResolvedType>>> targetTypeOverridesResolvers = new ArrayList<>();
     private final List<ConfigFunction<M, String>> propertyNameOverrideResolvers = new ArrayList<>();
 
+    /**
+     * Apply the currently set registration filter (if there is one) to the given check.
+     *
+     * @param check check being registered
+     * @return given check or wrapper returning {@code false} for members not matching the registration filter
+     */
+    private Predicate<M> applyRegistrationFilter(Predicate<M> check) {
+        Predicate<? super M> filter = this.getRegistrationFilter();
+        if (filter == null) {
+            return check;
+        }
+        return member -> filter.test(member) && check.test(member);
+    }
+
+    /**
+     * Apply the currently set registration filter (if there is one) to the given custom property definition provider.
+     *
+     * @param definitionProvider custom property definition provider being registered
+     * @return given provider or wrapper returning {@code null} for members not matching the registration filter
+     */
+    private CustomPropertyDefinitionProvider<M> applyRegistrationFilter(CustomPropertyDefinitionProvider<M> definitionProvider) {
+        Predicate<? super M> filter = this.getRegistrationFilter();
+        if (filter == null) {
+            return definitionProvider;
+        }
+        return new CustomPropertyDefinitionProvider<>() {
+            @Override
+            public CustomPropertyDefinition provideCustomSchemaDefinition(M scope, SchemaGenerationContext context) {
+                return filter.test(scope) ? definitionProvider.provideCustomSchemaDefinition(scope, context) : null;
+            }
+
+            @Override
+            public void resetAfterSchemaGenerationFinished() {
+                definitionProvider.resetAfterSchemaGenerationFinished();
+            }
+        };
+    }
+
+    /**
+     * Apply the currently set registration filter (if there is one) to the given instance attribute override.
+     *
+     * @param override instance attribute override being registered
+     * @return given override or wrapper skipping members not matching the registration filter
+     */
+    private InstanceAttributeOverrideV2<M> applyRegistrationFilter(InstanceAttributeOverrideV2<M> override) {
+        Predicate<? super M> filter = this.getRegistrationFilter();
+        if (filter == null) {
+            return override;
+        }
+        return new InstanceAttributeOverrideV2<>() {
+            @Override
+            public void overrideInstanceAttributes(ObjectNode collectedMemberAttributes, M member, SchemaGenerationContext context) {
+                if (filter.test(member)) {
+                    override.overrideInstanceAttributes(collectedMemberAttributes, member, context);
+                }
+            }
+
+            @Override
+            public void resetAfterSchemaGenerationFinished() {
+                override.resetAfterSchemaGenerationFinished();
+            }
+        };
+    }
+
     /**
      * Adding a custom schema provider - if it returns null for a given type, the next definition provider will be applied.
      * <br>
@@ -69,7 +134,7 @@ public class SchemaGeneratorConfigPart<M extends MemberScope<?, ?>> extends Sche
      * @return this builder instance (for chaining)
      */
     public SchemaGeneratorConfigPart<M> withCustomDefinitionProvider(CustomPropertyDefinitionProvider<M> definitionProvider) {
-        this.customDefinitionProviders.add(definitionProvider);
+        this.customDefinitionProviders.add(this.applyRegistrationFilter(definitionProvider));
         return this;
     }
 
@@ -101,7 +166,7 @@ public class SchemaGeneratorConfigPart<M extends MemberScope<?, ?>> extends Sche
      * @return this config part (for chaining)
      */
     public SchemaGeneratorConfigPart<M> withInstanceAttributeOverride(InstanceAttributeOverrideV2<M> override) {
-        this.instanceAttributeOverrides.add(override);
+        this.instanceAttributeOverrides.add(this.applyRegistrationFilter(override));
         return this;
     }
 
@@ -121,7 +186,7 @@ public class SchemaGeneratorConfigPart<M extends MemberScope<?, ?>> extends Sche
      * @return this config part (for chaining)
      */
     public SchemaGeneratorConfigPart<M> withIgnoreCheck(Predicate<M> check) {
-        this.ignoreChecks.add(check);
+        this.ignoreChecks.add(this.applyRegistrationFilter(check));
         return this;
     }
 
@@ -142,7 +207,7 @@ public class SchemaGeneratorConfigPart<M extends MemberScope<?, ?>> extends Sche
      * @return this config part (for chaining)
      */
     public SchemaGeneratorConfigPart<M> withRequiredCheck(Predicate<M> check) {
-        this.requiredChecks.add(check);
+        this.requiredChecks.add(this.applyRegistrationFilter(check));
         return this;
     }
 
@@ -163,7 +228,7 @@ public class SchemaGeneratorConfigPart<M extends MemberScope<?, ?>> extends Sche
      * @return this config part (for chaining)
      */
     public SchemaGeneratorConfigPart<M> withReadOnlyCheck(Predicate<M> check) {
-        this.readOnlyChecks.add(check);
+        this.readOnlyChecks.add(this.applyRegistrationFilter(check));
         return this;
     }
 
@@ -184,7 +249,7 @@ public class SchemaGeneratorConfigPart<M extends MemberScope<?, ?>> extends Sche
      * @return this config part (for chaining)
      */
     public SchemaGeneratorConfigPart<M> withWriteOnlyCheck(Predicate<M> check) {
-        this.writeOnlyChecks.add(check);
+        this.writeOnlyChecks.add(this.applyRegistrationFilter(check));
         return this;
     }
 
@@ -205,7 +270,7 @@ public class SchemaGeneratorConfigPart<M extends MemberScope<?, ?>> extends Sche
      * @return this config part (for chaining)
      */
     public SchemaGeneratorConfigPart<M> withNullableCheck(ConfigFunction<M, Boolean> check) {
-        this.nullableChecks.add(check);
+        this.nullableChecks.add(this.applyRegistrationFilter(check));
         return this;
     }
 
@@ -232,7 +297,7 @@ public class SchemaGeneratorConfigPart<M extends MemberScope<?, ?>> extends Sche
      * @return this config part (for chaining)
      */
     public SchemaGeneratorConfigPart<M> withDependentRequiresResolver(ConfigFunction<M, List<String>> resolver) {
-        this.dependentRequiresResolvers.add(resolver);
+        this.dependentRequiresResolvers.add(this.applyRegistrationFilter(resolver));
         return this;
     }
 
@@ -265,7 +330,10 @@ public class SchemaGeneratorConfigPart<M extends MemberScope<?, ?>> extends Sche
      */
     @Deprecated
     public SchemaGeneratorConfigPart<M> withTargetTypeOverrideResolver(ConfigFunction<M, ResolvedType> resolver) {
-        this.targetTypeOverridesResolvers.add(member -> Optional.ofNullable(resolver.apply(member)).map(Collections::singletonList).orElse(null));
+        ConfigFunction<M, List<ResolvedType>> listResolver = member -> Optional.ofNullable(resolver.apply(member))
+                .map(Collections::singletonList)
+                .orElse(null);
+        this.targetTypeOverridesResolvers.add(this.applyRegistrationFilter(listResolver));
         return this;
     }
 
@@ -280,7 +348,7 @@ public class SchemaGeneratorConfigPart<M extends MemberScope<?, ?>> extends Sche
      * @see SchemaGeneratorGeneralConfigPart#withSubtypeResolver(SubtypeResolver)
      */
     public SchemaGeneratorConfigPart<M> withTargetTypeOverridesResolver(ConfigFunction<M, List<ResolvedType>> resolver) {
-        this.targetTypeOverridesResolvers.add(resolver);
+        this.targetTypeOverridesResolvers.add(this.applyRegistrationFilter(resolver));
         return this;
     }
 
@@ -303,7 +371,7 @@ public class SchemaGeneratorConfigPart<M extends MemberScope<?, ?>> extends Sche
      * @return this config part (for chaining)
      */
     public SchemaGeneratorConfigPart<M> withPropertyNameOverrideResolver(ConfigFunction<M, String> resolver) {
-        this.propertyNameOverrideResolvers.add(resolver);
+        this.propertyNameOverrideResolvers.add(this.applyRegistrationFilter(resolver));
         return this;
     }
 
@@ -38,6 +38,7 @@ public class SchemaGeneratorGeneralConfigPart extends SchemaGeneratorTypeConfigP
 
     private Comparator<MemberScope<?, ?>> propertySorter = PropertySortUtils.DEFAULT_PROPERTY_ORDER;
     private SchemaDefinitionNamingStrategy definitionNamingStrategy = null;
+    private SchemaGenerationLimits generationLimits = null;
 
     private final List<CustomDefinitionProviderV2> customDefinitionProviders = new ArrayList<>();
     private final List<SubtypeResolver> subtypeResolvers = new ArrayList<>();
@@ -86,6 +87,30 @@ public class SchemaGeneratorGeneralConfigPart extends SchemaGeneratorTypeConfigP
         return this.definitionNamingStrategy;
     }
 
+    /**
+     * Replacing the current limits applying to a single schema generation.
+     *
+     * @param generationLimits upper bounds for a single schema generation (may be {@code null} to apply no limits)
+     * @return this builder instance (for chaining)
+     *
+     * @since 5.1.0
+     */
+    public SchemaGeneratorGeneralConfigPart withGenerationLimits(SchemaGenerationLimits generationLimits) {
+        this.generationLimits = generationLimits;
+        return this;
+    }
+
+    /**
+     * Getter for the current limits applying to a single schema generation.
+     *
+     * @return upper bounds for a single schema generation (or {@code null} if no limits should be applied)
+     *
+     * @since 5.1.0
+     */
+    public SchemaGenerationLimits getGenerationLimits() {
+        return this.generationLimits;
+    }
+
     /**
      * Adding a custom schema provider - if it returns null for a given type, the next definition provider will be applied.
      * <br>
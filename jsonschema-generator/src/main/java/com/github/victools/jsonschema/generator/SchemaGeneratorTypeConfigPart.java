@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiFunction;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import tools.jackson.databind.JsonNode;
@@ -107,6 +108,72 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> implements State
     private final List<ConfigFunction<S, Integer>> arrayMaxItemsResolvers = new ArrayList<>();
     private final List<ConfigFunction<S, Boolean>> arrayUniqueItemsResolvers = new ArrayList<>();
 
+    /**
+     * Filter being applied to all resolvers registered while it is set, i.e., skipping them for scopes not matching it.
+     */
+    private Predicate<? super S> registrationFilter;
+
+    /**
+     * Getter for the filter being applied to resolvers when they are being registered.
+     *
+     * @return currently set filter (may be {@code null})
+     * @since 5.1.0
+     */
+    final Predicate<? super S> getRegistrationFilter() {
+        return this.registrationFilter;
+    }
+
+    /**
+     * Setter for the filter to apply to all subsequently registered resolvers, e.g. while applying a {@link Module} declaring
+     * {@link Module#getRelevantMemberAnnotations()}. Those resolvers are being skipped for all scopes not matching the filter.
+     *
+     * @param registrationFilter filter to apply (may be {@code null} in order to register subsequent resolvers without a filter)
+     * @since 5.1.0
+     */
+    final void setRegistrationFilter(Predicate<? super S> registrationFilter) {
+        this.registrationFilter = registrationFilter;
+    }
+
+    /**
+     * Apply the currently set registration filter (if there is one) to the given resolver.
+     *
+     * @param <R> type of the resolver's return value
+     * @param resolver resolver being registered
+     * @return given resolver or wrapper returning {@code null} for scopes not matching the registration filter
+     */
+    final <R> ConfigFunction<S, R> applyRegistrationFilter(ConfigFunction<S, R> resolver) {
+        Predicate<? super S> filter = this.registrationFilter;
+        if (filter == null) {
+            return resolver;
+        }
+        return new ConfigFunction<>() {
+            @Override
+            public R apply(S target) {
+                return filter.test(target) ? resolver.apply(target) : null;
+            }
+
+            @Override
+            public void resetAfterSchemaGenerationFinished() {
+                resolver.resetAfterSchemaGenerationFinished();
+            }
+        };
+    }
+
+    /**
+     * Apply the currently set registration filter (if there is one) to the given resolver.
+     *
+     * @param <R> type of the resolver's return value
+     * @param resolver resolver being registered
+     * @return given resolver or wrapper returning {@code null} for scopes not matching the registration filter
+     */
+    final <R> BiFunction<S, SchemaGenerationContext, R> applyRegistrationFilter(BiFunction<S, SchemaGenerationContext, R> resolver) {
+        Predicate<? super S> filter = this.registrationFilter;
+        if (filter == null) {
+            return resolver;
+        }
+        return (scope, context) -> filter.test(scope) ? resolver.apply(scope, context) : null;
+    }
+
     /**
      * Setter for "title" resolver.
      *
@@ -114,7 +181,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> implements State
      * @return this config part (for chaining)
      */
     public SchemaGeneratorTypeConfigPart<S> withTitleResolver(ConfigFunction<S, String> resolver) {
-        this.titleResolvers.add(resolver);
+        this.titleResolvers.add(this.applyRegistrationFilter(resolver));
         return this;
     }
 
@@ -135,7 +202,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> implements State
      * @return this config part (for chaining)
      */
     public SchemaGeneratorTypeConfigPart<S> withDescriptionResolver(ConfigFunction<S, String> resolver) {
-        this.descriptionResolvers.add(resolver);
+        this.descriptionResolvers.add(this.applyRegistrationFilter(resolver));
         return this;
     }
 
@@ -156,7 +223,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> implements State
      * @return this config part (for chaining)
      */
     public SchemaGeneratorTypeConfigPart<S> withDefaultResolver(ConfigFunction<S, Object> resolver) {
-        this.defaultResolvers.add(resolver);
+        this.defaultResolvers.add(this.applyRegistrationFilter(resolver));
         return this;
     }
 
@@ -177,7 +244,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> implements State
      * @return this config part (for chaining)
      */
     public SchemaGeneratorTypeConfigPart<S> withEnumResolver(ConfigFunction<S, Collection<?>> resolver) {
-        this.enumResolvers.add(resolver);
+        this.enumResolvers.add(this.applyRegistrationFilter(resolver));
         return this;
     }
 
@@ -221,7 +288,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> implements State
      * @return this config part (for chaining)
      */
     public SchemaGeneratorTypeConfigPart<S> withAdditionalPropertiesResolver(BiFunction<S, SchemaGenerationContext, JsonNode> resolver) {
-        this.additionalPropertiesResolvers.add(resolver);
+        this.additionalPropertiesResolvers.add(this.applyRegistrationFilter(resolver));
         return this;
     }
 
@@ -261,7 +328,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> implements State
      */
     public SchemaGeneratorTypeConfigPart<S> withPatternPropertiesResolver(
             BiFunction<S, SchemaGenerationContext, Map<String, JsonNode>> resolver) {
-        this.patternPropertiesResolvers.add(resolver);
+        this.patternPropertiesResolvers.add(this.applyRegistrationFilter(resolver));
         return this;
     }
 
@@ -283,7 +350,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> implements State
      * @return this config part (for chaining)
      */
     public SchemaGeneratorTypeConfigPart<S> withStringMinLengthResolver(ConfigFunction<S, Integer> resolver) {
-        this.stringMinLengthResolvers.add(resolver);
+        this.stringMinLengthResolvers.add(this.applyRegistrationFilter(resolver));
         return this;
     }
 
@@ -304,7 +371,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> implements State
      * @return this config part (for chaining)
      */
     public SchemaGeneratorTypeConfigPart<S> withStringMaxLengthResolver(ConfigFunction<S, Integer> resolver) {
-        this.stringMaxLengthResolvers.add(resolver);
+        this.stringMaxLengthResolvers.add(this.applyRegistrationFilter(resolver));
         return this;
     }
 
@@ -325,7 +392,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> implements State
      * @return this config part (for chaining)
      */
     public SchemaGeneratorTypeConfigPart<S> withStringFormatResolver(ConfigFunction<S, String> resolver) {
-        this.stringFormatResolvers.add(resolver);
+        this.stringFormatResolvers.add(this.applyRegistrationFilter(resolver));
         return this;
     }
 
@@ -346,7 +413,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> implements State
      * @return this config part (for chaining)
      */
     public SchemaGeneratorTypeConfigPart<S> withStringPatternResolver(ConfigFunction<S, String> resolver) {
-        this.stringPatternResolvers.add(resolver);
+        this.stringPatternResolvers.add(this.applyRegistrationFilter(resolver));
         return this;
     }
 
@@ -367,7 +434,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> implements State
      * @return this config part (for chaining)
      */
     public SchemaGeneratorTypeConfigPart<S> withNumberInclusiveMinimumResolver(ConfigFunction<S, BigDecimal> resolver) {
-        this.numberInclusiveMinimumResolvers.add(resolver);
+        this.numberInclusiveMinimumResolvers.add(this.applyRegistrationFilter(resolver));
         return this;
     }
 
@@ -388,7 +455,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> implements State
      * @return this config part (for chaining)
      */
     public SchemaGeneratorTypeConfigPart<S> withNumberExclusiveMinimumResolver(ConfigFunction<S, BigDecimal> resolver) {
-        this.numberExclusiveMinimumResolvers.add(resolver);
+        this.numberExclusiveMinimumResolvers.add(this.applyRegistrationFilter(resolver));
         return this;
     }
 
@@ -409,7 +476,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> implements State
      * @return this config part (for chaining)
      */
     public SchemaGeneratorTypeConfigPart<S> withNumberInclusiveMaximumResolver(ConfigFunction<S, BigDecimal> resolver) {
-        this.numberInclusiveMaximumResolvers.add(resolver);
+        this.numberInclusiveMaximumResolvers.add(this.applyRegistrationFilter(resolver));
         return this;
     }
 
@@ -430,7 +497,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> implements State
      * @return this config part (for chaining)
      */
     public SchemaGeneratorTypeConfigPart<S> withNumberExclusiveMaximumResolver(ConfigFunction<S, BigDecimal> resolver) {
-        this.numberExclusiveMaximumResolvers.add(resolver);
+        this.numberExclusiveMaximumResolvers.add(this.applyRegistrationFilter(resolver));
         return this;
     }
 
@@ -451,7 +518,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> implements State
      * @return this config part (for chaining)
      */
     public SchemaGeneratorTypeConfigPart<S> withNumberMultipleOfResolver(ConfigFunction<S, BigDecimal> resolver) {
-        this.numberMultipleOfResolvers.add(resolver);
+        this.numberMultipleOfResolvers.add(this.applyRegistrationFilter(resolver));
         return this;
     }
 
@@ -472,7 +539,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> implements State
      * @return this config part (for chaining)
      */
     public SchemaGeneratorTypeConfigPart<S> withArrayMinItemsResolver(ConfigFunction<S, Integer> resolver) {
-        this.arrayMinItemsResolvers.add(resolver);
+        this.arrayMinItemsResolvers.add(this.applyRegistrationFilter(resolver));
         return this;
     }
 
@@ -493,7 +560,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> implements State
      * @return this config part (for chaining)
      */
     public SchemaGeneratorTypeConfigPart<S> withArrayMaxItemsResolver(ConfigFunction<S, Integer> resolver) {
-        this.arrayMaxItemsResolvers.add(resolver);
+        this.arrayMaxItemsResolvers.add(this.applyRegistrationFilter(resolver));
         return this;
     }
 
@@ -514,7 +581,7 @@ public class SchemaGeneratorTypeConfigPart<S extends TypeScope> implements State
      * @return this config part (for chaining)
      */
     public SchemaGeneratorTypeConfigPart<S> withArrayUniqueItemsResolver(ConfigFunction<S, Boolean> resolver) {
-        this.arrayUniqueItemsResolvers.add(resolver);
+        this.arrayUniqueItemsResolvers.add(this.applyRegistrationFilter(resolver));
         return this;
     }
 
@@ -0,0 +1,311 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import com.fasterxml.classmate.ResolvedType;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * In-memory registry of generated schemas, e.g., for services exposing the JSON Schemas of their models. Each schema is being generated only once
+ * per type (including its type parameters), even if it is being requested concurrently: subsequent callers wait for the ongoing generation instead
+ * of repeating it. The schemas are being kept in serialized form alongside a hash of their content (e.g., to be used as {@code ETag}), while the
+ * least recently used entries are being evicted when exceeding the configured number of entries or total size.
+ * <br>
+ * Any configured custom providers/resolvers are expected to be thread-safe.
+ *
+ * @since 5.1.0
+ */
+public class SchemaRegistry {
+
+    private final SchemaGenerator generator;
+    private final ObjectMapper objectMapper;
+    private int maxEntryCount = Integer.MAX_VALUE;
+    private long maxSizeInBytes = Long.MAX_VALUE;
+    /**
+     * Completed and ongoing generations in access order (i.e., least recently used first), guarded by this instance's monitor.
+     */
+    private final LinkedHashMap<ResolvedType, CompletableFuture<Entry>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    /**
+     * Total size of all completed entries in bytes, guarded by this instance's monitor.
+     */
+    private long totalSizeInBytes;
+
+    /**
+     * Constructor.
+     *
+     * @param generator generator to produce schemas with that are not contained in the registry yet
+     */
+    public SchemaRegistry(SchemaGenerator generator) {
+        this.generator = Objects.requireNonNull(generator, "generator");
+        this.objectMapper = generator.getConfig().getObjectMapper();
+    }
+
+    /**
+     * Setter for the maximum number of schemas to keep. When exceeding it, the least recently used entries are being removed.
+     *
+     * @param maxEntryCount maximum number of schemas to keep (default: unlimited)
+     * @return this instance (for chaining)
+     */
+    public SchemaRegistry withMaxEntryCount(int maxEntryCount) {
+        this.maxEntryCount = maxEntryCount;
+        return this;
+    }
+
+    /**
+     * Setter for the maximum total size of all serialized schemas to keep. When exceeding it, the least recently used entries are being removed.
+     *
+     * @param maxSizeInBytes maximum number of bytes to occupy with serialized schemas (default: unlimited)
+     * @return this instance (for chaining)
+     */
+    public SchemaRegistry withMaxSizeInBytes(long maxSizeInBytes) {
+        this.maxSizeInBytes = maxSizeInBytes;
+        return this;
+    }
+
+    /**
+     * Look-up the JSON Schema representation of the given type, or generate it if it is not contained in the registry yet.
+     *
+     * @param mainTargetType type for which to provide the JSON Schema
+     * @param typeParameters optional type parameters (in case of the {@code mainTargetType} being a parameterised type)
+     * @return copy of the registered JSON Schema, that may be modified freely
+     * @see SchemaGenerator#generateSchema(Type, Type...)
+     */
+    public ObjectNode getSchema(Type mainTargetType, Type... typeParameters) {
+        return this.getEntry(mainTargetType, typeParameters).getSchema();
+    }
+
+    /**
+     * Look-up the registry entry for the given type, or generate its JSON Schema if it is not contained in the registry yet. If another thread is
+     * already generating it, the current thread waits for that generation to complete.
+     *
+     * @param mainTargetType type for which to provide the JSON Schema
+     * @param typeParameters optional type parameters (in case of the {@code mainTargetType} being a parameterised type)
+     * @return registry entry providing the serialized JSON Schema and its content hash
+     */
+    public Entry getEntry(Type mainTargetType, Type... typeParameters) {
+        ResolvedType mainType = this.generator.getTypeContext().resolve(mainTargetType, typeParameters);
+        CompletableFuture<Entry> future;
+        boolean isGenerationRequired;
+        synchronized (this) {
+            future = this.entries.get(mainType);
+            isGenerationRequired = future == null;
+            if (isGenerationRequired) {
+                future = new CompletableFuture<>();
+                this.entries.put(mainType, future);
+            }
+        }
+        if (isGenerationRequired) {
+            this.generateEntry(mainType, future);
+        }
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private void generateEntry(ResolvedType mainType, CompletableFuture<Entry> future) {
+        Entry entry;
+        try {
+            ObjectNode schema = this.generator.generateSchema(mainType);
+            entry = new Entry(this.objectMapper, this.objectMapper.writeValueAsBytes(schema));
+        } catch (RuntimeException | Error ex) {
+            synchronized (this) {
+                // allow a later attempt instead of remembering the failure
+                this.entries.remove(mainType, future);
+            }
+            future.completeExceptionally(ex);
+            return;
+        }
+        synchronized (this) {
+            if (this.entries.get(mainType) == future) {
+                this.totalSizeInBytes += entry.getSizeInBytes();
+                this.evictLeastRecentlyUsedEntries(future);
+            }
+        }
+        future.complete(entry);
+    }
+
+    /**
+     * Remove the least recently used completed entries until the configured limits are being met again. The given entry is being kept in any case.
+     *
+     * @param latestEntry entry that has just been added
+     */
+    private void evictLeastRecentlyUsedEntries(CompletableFuture<Entry> latestEntry) {
+        Iterator<CompletableFuture<Entry>> iterator = this.entries.values().iterator();
+        while ((this.entries.size() > this.maxEntryCount || this.totalSizeInBytes > this.maxSizeInBytes) && iterator.hasNext()) {
+            CompletableFuture<Entry> candidate = iterator.next();
+            if (candidate != latestEntry && candidate.isDone()) {
+                iterator.remove();
+                this.totalSizeInBytes -= candidate.join().getSizeInBytes();
+            }
+        }
+    }
+
+    /**
+     * Generate the JSON Schemas of all the given types that are not contained in the registry yet, e.g., during the start-up of a service.
+     *
+     * @param mainTargetTypes types for which to generate the JSON Schemas (parameterised types may be given as {@code ParameterizedType})
+     */
+    public void warmUp(Collection<? extends Type> mainTargetTypes) {
+        mainTargetTypes.forEach(this::getEntry);
+    }
+
+    /**
+     * Generate the JSON Schemas of all the given types that are not contained in the registry yet concurrently on the given executor, without
+     * waiting for their completion.
+     *
+     * @param mainTargetTypes types for which to generate the JSON Schemas (parameterised types may be given as {@code ParameterizedType})
+     * @param executor executor on which to run the individual schema generations
+     * @return future being completed once all given types have been registered
+     */
+    public CompletableFuture<Void> warmUpAsync(Collection<? extends Type> mainTargetTypes, Executor executor) {
+        return CompletableFuture.allOf(mainTargetTypes.stream()
+                .map(mainTargetType -> CompletableFuture.runAsync(() -> this.getEntry(mainTargetType), executor))
+                .collect(Collectors.toList())
+                .toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * Getter for the number of completed entries currently being kept in the registry.
+     *
+     * @return number of registered schemas
+     */
+    public synchronized int getEntryCount() {
+        return (int) this.entries.values().stream()
+                .filter(future -> future.isDone() && !future.isCompletedExceptionally())
+                .count();
+    }
+
+    /**
+     * Getter for the total size of all serialized schemas currently being kept in the registry.
+     *
+     * @return number of occupied bytes
+     */
+    public synchronized long getSizeInBytes() {
+        return this.totalSizeInBytes;
+    }
+
+    /**
+     * Remove all entries from the registry. Ongoing generations are still being completed for their waiting callers, but are not being kept.
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+        this.totalSizeInBytes = 0;
+    }
+
+    /**
+     * Single schema in the registry, being kept in its serialized form.
+     */
+    public static final class Entry {
+
+        private final ObjectMapper objectMapper;
+        private final byte[] serializedSchema;
+        private final String contentHash;
+
+        Entry(ObjectMapper objectMapper, byte[] serializedSchema) {
+            this.objectMapper = objectMapper;
+            this.serializedSchema = serializedSchema;
+            this.contentHash = calculateContentHash(serializedSchema);
+        }
+
+        private static String calculateContentHash(byte[] content) {
+            try {
+                return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+            } catch (NoSuchAlgorithmException ex) {
+                // SHA-256 is mandatory on all Java platforms
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        /**
+         * Parse the serialized JSON Schema.
+         *
+         * @return new instance of the JSON Schema, that may be modified freely
+         */
+        public ObjectNode getSchema() {
+            return (ObjectNode) this.objectMapper.readTree(this.serializedSchema);
+        }
+
+        /**
+         * Getter for the serialized JSON Schema.
+         *
+         * @return copy of the UTF-8 encoded JSON Schema
+         */
+        public byte[] getBytes() {
+            return this.serializedSchema.clone();
+        }
+
+        /**
+         * Write the serialized JSON Schema to the given output, without creating a copy of it first.
+         *
+         * @param output stream to write the UTF-8 encoded JSON Schema to
+         * @throws IOException when writing to the given output failed
+         */
+        public void writeTo(OutputStream output) throws IOException {
+            output.write(this.serializedSchema);
+        }
+
+        /**
+         * Getter for the size of the serialized JSON Schema.
+         *
+         * @return number of bytes
+         */
+        public int getSizeInBytes() {
+            return this.serializedSchema.length;
+        }
+
+        /**
+         * Getter for the SHA-256 hash of the serialized JSON Schema.
+         *
+         * @return hex encoded content hash
+         */
+        public String getContentHash() {
+            return this.contentHash;
+        }
+
+        /**
+         * Getter for the content hash in the form of a (strong) HTTP entity tag, i.e., enclosed in double quotes.
+         *
+         * @return value for an {@code ETag} response header
+         */
+        public String getETag() {
+            return '"' + this.contentHash + '"';
+        }
+    }
+}
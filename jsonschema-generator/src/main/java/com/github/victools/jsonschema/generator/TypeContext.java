@@ -23,17 +23,22 @@ import com.fasterxml.classmate.ResolvedTypeWithMembers;
 import com.fasterxml.classmate.TypeResolver;
 import com.fasterxml.classmate.members.ResolvedField;
 import com.fasterxml.classmate.members.ResolvedMethod;
+import com.github.victools.jsonschema.generator.impl.ClassBoundCache;
+import com.github.victools.jsonschema.generator.impl.ClassBoundResolvedTypeCache;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedParameterizedType;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.WeakHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -46,9 +51,13 @@ public class TypeContext {
 
     private final TypeResolver typeResolver;
     private final MemberResolver memberResolver;
-    private final WeakHashMap<ResolvedType, ResolvedTypeWithMembers> typesWithMembersCache;
+    private final ClassBoundCache<ResolvedType, ResolvedTypeWithMembers> typesWithMembersCache;
     private final AnnotationConfiguration annotationConfig;
     private final boolean derivingFieldsFromArgumentFreeMethods;
+    /**
+     * Caches being specific to a combination of this type context and a generator configuration (which is only referenced weakly).
+     */
+    private final Map<SchemaGeneratorConfig, Map<Class<?>, Object>> configBoundCaches = new WeakHashMap<>();
 
     /**
      * Constructor.
@@ -86,11 +95,11 @@ public class TypeContext {
      * @param derivingFieldsFromArgumentFreeMethods whether argument free methods should be represented as fields
      */
     private TypeContext(AnnotationConfiguration annotationConfig, boolean derivingFieldsFromArgumentFreeMethods) {
-        this.typeResolver = new TypeResolver();
+        this.typeResolver = new TypeResolver(new ClassBoundResolvedTypeCache());
         this.memberResolver = new MemberResolver(this.typeResolver);
         this.annotationConfig = annotationConfig;
         this.derivingFieldsFromArgumentFreeMethods = derivingFieldsFromArgumentFreeMethods;
-        this.typesWithMembersCache = new WeakHashMap<>();
+        this.typesWithMembersCache = ClassBoundCache.forResolvedTypes();
     }
 
     /**
@@ -102,6 +111,27 @@ public class TypeContext {
         return this.derivingFieldsFromArgumentFreeMethods;
     }
 
+    /**
+     * Look-up a cache of the given type being specific to the combination of this type context and the given configuration, creating it on the
+     * first request. The cache is being discarded together with this type context or once the given configuration is no longer in use. It must
+     * not hold a reference to the configuration itself, as that would prevent the configuration from being garbage collected. Its entries should
+     * neither be attached to the cached classes (e.g., via a {@link ClassValue}) if they refer to this type context, as that would keep this type
+     * context reachable for as long as any of those classes is loaded.
+     *
+     * @param <C> type of cache
+     * @param generatorConfig configuration the cache is specific to
+     * @param cacheType type of cache to look-up
+     * @param cacheFactory creation of a new cache instance
+     * @return cache instance
+     * @since 5.1.0
+     */
+    public <C> C getConfigBoundCache(SchemaGeneratorConfig generatorConfig, Class<C> cacheType, Supplier<? extends C> cacheFactory) {
+        synchronized (this.configBoundCaches) {
+            Map<Class<?>, Object> caches = this.configBoundCaches.computeIfAbsent(generatorConfig, _key -> new HashMap<>());
+            return cacheType.cast(caches.computeIfAbsent(cacheType, _key -> cacheFactory.get()));
+        }
+    }
+
     /**
      * Resolve actual type (mostly relevant for parameterised types, type variables and such).
      *
@@ -133,6 +163,7 @@ public class TypeContext {
      * @return collection of (resolved) fields and methods
      */
     public final ResolvedTypeWithMembers resolveWithMembers(ResolvedType resolvedType) {
+        // collect members outside any lock, in order to not block concurrent schema generations for other types
         return this.typesWithMembersCache.computeIfAbsent(resolvedType, this::resolveWithMembersForCache);
     }
 
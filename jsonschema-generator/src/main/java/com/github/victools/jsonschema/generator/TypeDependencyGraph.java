@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import com.fasterxml.classmate.ResolvedType;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Snapshot of the types encountered during a schema generation and which type's schema depends on which other types, e.g., through a property,
+ * an array item or a subtype. This includes types that have been inlined or were represented by a custom definition.
+ *
+ * @see SchemaBuilder#getTypeDependencyGraph()
+ * @since 5.1.0
+ */
+public class TypeDependencyGraph {
+
+    private final Set<ResolvedType> rootTypes;
+    private final Map<ResolvedType, Set<ResolvedType>> dependencies;
+    private final Map<ResolvedType, Set<ResolvedType>> dependents;
+
+    /**
+     * Constructor.
+     *
+     * @param rootTypes types being traversed as entry points
+     * @param dependencies direct dependencies per traversed type
+     */
+    TypeDependencyGraph(Set<ResolvedType> rootTypes, Map<ResolvedType, Set<ResolvedType>> dependencies) {
+        this.rootTypes = Collections.unmodifiableSet(new LinkedHashSet<>(rootTypes));
+        this.dependencies = new LinkedHashMap<>();
+        this.dependents = new LinkedHashMap<>();
+        dependencies.forEach((type, typeDependencies) -> {
+            this.dependencies.put(type, Collections.unmodifiableSet(new LinkedHashSet<>(typeDependencies)));
+            this.dependents.computeIfAbsent(type, _type -> new LinkedHashSet<>());
+            typeDependencies.forEach(dependency -> this.dependents.computeIfAbsent(dependency, _type -> new LinkedHashSet<>()).add(type));
+        });
+        this.dependents.replaceAll((_type, typeDependents) -> Collections.unmodifiableSet(typeDependents));
+    }
+
+    /**
+     * Getter for the types that have been traversed as entry points, i.e., the main type of a single schema or the types for which
+     * {@link SchemaBuilder#createSchemaReference(java.lang.reflect.Type, java.lang.reflect.Type...)} was invoked.
+     *
+     * @return entry point types
+     */
+    public Set<ResolvedType> getRootTypes() {
+        return this.rootTypes;
+    }
+
+    /**
+     * Getter for all types that have been traversed.
+     *
+     * @return all types (in the order they were first encountered)
+     */
+    public Set<ResolvedType> getTypes() {
+        return Collections.unmodifiableSet(this.dependencies.keySet());
+    }
+
+    /**
+     * Look-up the types the given type's schema depends on directly.
+     *
+     * @param type traversed type to look-up dependencies for
+     * @return direct dependencies (or an empty set if the given type was not traversed)
+     */
+    public Set<ResolvedType> getDependencies(ResolvedType type) {
+        return this.dependencies.getOrDefault(type, Collections.emptySet());
+    }
+
+    /**
+     * Look-up the types whose schemas depend directly on the given type.
+     *
+     * @param type traversed type to look-up dependents for
+     * @return direct dependents (or an empty set if the given type was not traversed)
+     */
+    public Set<ResolvedType> getDependents(ResolvedType type) {
+        return this.dependents.getOrDefault(type, Collections.emptySet());
+    }
+
+    /**
+     * Determine all types whose schemas are affected by changes to the given classes, i.e., the types involving any of those classes (as the type
+     * itself, one of its supertypes or type parameters) and all types depending on them directly or indirectly.
+     * <br>
+     * Classes are being matched by their names, in order to also cover changed classes having been reloaded by another class loader.
+     *
+     * @param changedClasses classes that have changed
+     * @return affected types (may be empty)
+     */
+    public Set<ResolvedType> getAffectedTypes(Collection<? extends Class<?>> changedClasses) {
+        Set<String> changedClassNames = changedClasses.stream()
+                .map(Class::getName)
+                .collect(Collectors.toSet());
+        Set<ResolvedType> affectedTypes = new LinkedHashSet<>();
+        Deque<ResolvedType> typesToCheck = new ArrayDeque<>();
+        this.dependencies.keySet().stream()
+                .filter(type -> involvesAnyClass(type, changedClassNames))
+                .forEach(typesToCheck::add);
+        while (!typesToCheck.isEmpty()) {
+            ResolvedType type = typesToCheck.poll();
+            if (affectedTypes.add(type)) {
+                typesToCheck.addAll(this.getDependents(type));
+            }
+        }
+        return affectedTypes;
+    }
+
+    private static boolean involvesAnyClass(ResolvedType type, Set<String> classNames) {
+        if (type.isArray()) {
+            return involvesAnyClass(type.getArrayElementType(), classNames);
+        }
+        return isAnyClassInHierarchy(type.getErasedType(), classNames, new HashSet<>())
+                || type.getTypeParameters().stream().anyMatch(typeParameter -> involvesAnyClass(typeParameter, classNames));
+    }
+
+    private static boolean isAnyClassInHierarchy(Class<?> type, Set<String> classNames, Set<Class<?>> checkedTypes) {
+        if (type == null || type == Object.class || !checkedTypes.add(type)) {
+            return false;
+        }
+        if (classNames.contains(type.getName()) || isAnyClassInHierarchy(type.getSuperclass(), classNames, checkedTypes)) {
+            return true;
+        }
+        for (Class<?> interfaceType : type.getInterfaces()) {
+            if (isAnyClassInHierarchy(interfaceType, classNames, checkedTypes)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
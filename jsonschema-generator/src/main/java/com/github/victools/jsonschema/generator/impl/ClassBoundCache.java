@@ -0,0 +1,226 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.fasterxml.classmate.ResolvedType;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Thread-safe cache for values being derived from types, that neither prevents those types from being unloaded nor (when being loaded by the same
+ * class loader as an application) this library's own classes. This is mostly relevant when redeploying applications on an application server.
+ * <br>
+ * Each entry is being associated with the key's owning class, i.e., the one with the most specific class loader among the classes being referenced
+ * by the key. If that is this library's class loader or one of its ancestors, the entry is being kept in a regular map, since such classes cannot be
+ * unloaded independently of this library anyway. Otherwise, the entry is being attached to the owning class via a {@link ClassValue} and is thereby
+ * being discarded along with it. Keys referencing classes from unrelated class loaders are not being cached at all.
+ *
+ * @param <K> type of keys
+ * @param <V> type of cached values
+ * @since 5.1.0
+ */
+public final class ClassBoundCache<K, V> {
+
+    private static final ClassLoader LIBRARY_CLASS_LOADER = ClassBoundCache.class.getClassLoader();
+    /**
+     * Placeholder for cached {@code null} values, since those cannot be stored in a {@link ConcurrentMap}.
+     */
+    private static final Object NULL_VALUE = new Object();
+
+    private final Function<? super K, Class<?>> owningClassLookup;
+    private final ConcurrentMap<K, Object> libraryEntries = new ConcurrentHashMap<>();
+    private final ClassValue<ConcurrentMap<K, Object>> classBoundEntries = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<K, Object> computeValue(Class<?> owningClass) {
+            ConcurrentMap<K, Object> entries = new ConcurrentHashMap<>();
+            ClassBoundCache.this.classBoundEntryMaps.add(new WeakReference<>(entries));
+            return entries;
+        }
+    };
+    /**
+     * Weak references to the entries being attached to owning classes, for counting them without preventing those classes from being unloaded.
+     */
+    private final Queue<WeakReference<ConcurrentMap<K, Object>>> classBoundEntryMaps = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Constructor.
+     *
+     * @param owningClassLookup determining the class to associate an entry with (returning {@code null} if the entry should not be cached)
+     * @see #getOwningClass(Class, ResolvedType...)
+     */
+    public ClassBoundCache(Function<? super K, Class<?>> owningClassLookup) {
+        this.owningClassLookup = owningClassLookup;
+    }
+
+    /**
+     * Create a cache for values being derived from a single class.
+     *
+     * @param <V> type of cached values
+     * @return new cache instance
+     */
+    public static <V> ClassBoundCache<Class<?>, V> forClasses() {
+        return new ClassBoundCache<>(Function.identity());
+    }
+
+    /**
+     * Create a cache for values being derived from a resolved type, considering its type parameters as well.
+     *
+     * @param <V> type of cached values
+     * @return new cache instance
+     */
+    public static <V> ClassBoundCache<ResolvedType, V> forResolvedTypes() {
+        return new ClassBoundCache<>(type -> getOwningClass(type.getErasedType(), type));
+    }
+
+    /**
+     * Look-up the cached value for the given key or compute it, if there is none yet. The computation is being performed outside of any lock, i.e.,
+     * it may include nested look-ups in the same cache. Under concurrent access, the same value may be computed more than once but only the first
+     * result is being kept.
+     *
+     * @param key cache key
+     * @param mappingFunction computation of the value for the given key (may return {@code null}, which is being cached as well)
+     * @return cached or computed value
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        ConcurrentMap<K, Object> entries = this.getEntries(key);
+        if (entries == null) {
+            return mappingFunction.apply(key);
+        }
+        Object cachedValue = entries.get(key);
+        if (cachedValue == null) {
+            V value = mappingFunction.apply(key);
+            cachedValue = entries.putIfAbsent(key, value == null ? NULL_VALUE : value);
+            if (cachedValue == null) {
+                return value;
+            }
+        }
+        return this.unmask(cachedValue);
+    }
+
+    /**
+     * Look-up the cached value for the given key.
+     *
+     * @param key cache key
+     * @return cached value (or {@code null} if there is none or if {@code null} was cached)
+     */
+    public V get(K key) {
+        ConcurrentMap<K, Object> entries = this.getEntries(key);
+        return entries == null ? null : this.unmask(entries.get(key));
+    }
+
+    /**
+     * Store the given value for the given key, unless there is a cached value already.
+     *
+     * @param key cache key
+     * @param value value to cache (may be {@code null})
+     */
+    public void putIfAbsent(K key, V value) {
+        ConcurrentMap<K, Object> entries = this.getEntries(key);
+        if (entries != null) {
+            entries.putIfAbsent(key, value == null ? NULL_VALUE : value);
+        }
+    }
+
+    /**
+     * Determine the number of cached entries, excluding those that have been discarded along with their owning class.
+     *
+     * @return number of cached entries
+     */
+    public int size() {
+        int size = this.libraryEntries.size();
+        for (Iterator<WeakReference<ConcurrentMap<K, Object>>> it = this.classBoundEntryMaps.iterator(); it.hasNext(); ) {
+            ConcurrentMap<K, Object> entries = it.next().get();
+            if (entries == null) {
+                // owning class has been unloaded
+                it.remove();
+            } else {
+                size += entries.size();
+            }
+        }
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V unmask(Object cachedValue) {
+        return cachedValue == NULL_VALUE ? null : (V) cachedValue;
+    }
+
+    private ConcurrentMap<K, Object> getEntries(K key) {
+        Class<?> owningClass = this.owningClassLookup.apply(key);
+        if (owningClass == null) {
+            return null;
+        }
+        if (isSameOrAncestor(owningClass.getClassLoader(), LIBRARY_CLASS_LOADER)) {
+            return this.libraryEntries;
+        }
+        return this.classBoundEntries.get(owningClass);
+    }
+
+    /**
+     * Determine the class with the most specific class loader among the given erased type and all (nested) type parameters.
+     *
+     * @param erasedType erased type to consider
+     * @param typeParameters type parameters to consider (including their own type parameters and array element types)
+     * @return owning class (or {@code null} if the classes stem from unrelated class loaders)
+     */
+    public static Class<?> getOwningClass(Class<?> erasedType, ResolvedType... typeParameters) {
+        Class<?> owningClass = erasedType;
+        for (ResolvedType typeParameter : typeParameters) {
+            owningClass = selectMoreSpecificClass(owningClass, typeParameter.getErasedType());
+            if (owningClass != null && typeParameter.isArray()) {
+                owningClass = getOwningClass(owningClass, typeParameter.getArrayElementType());
+            }
+            if (owningClass != null && !typeParameter.getTypeParameters().isEmpty()) {
+                owningClass = getOwningClass(owningClass, typeParameter.getTypeParameters().toArray(new ResolvedType[0]));
+            }
+            if (owningClass == null) {
+                return null;
+            }
+        }
+        return owningClass;
+    }
+
+    private static Class<?> selectMoreSpecificClass(Class<?> first, Class<?> second) {
+        ClassLoader firstClassLoader = first.getClassLoader();
+        ClassLoader secondClassLoader = second.getClassLoader();
+        if (firstClassLoader == secondClassLoader || isSameOrAncestor(secondClassLoader, firstClassLoader)) {
+            return first;
+        }
+        if (isSameOrAncestor(firstClassLoader, secondClassLoader)) {
+            return second;
+        }
+        return null;
+    }
+
+    private static boolean isSameOrAncestor(ClassLoader ancestor, ClassLoader classLoader) {
+        if (ancestor == null) {
+            // the bootstrap class loader is the ancestor of all others
+            return true;
+        }
+        for (ClassLoader current = classLoader; current != null; current = current.getParent()) {
+            if (current == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.classmate.util.ResolvedTypeCache;
+import com.fasterxml.classmate.util.ResolvedTypeKey;
+
+/**
+ * Cache of resolved types for a {@link com.fasterxml.classmate.TypeResolver TypeResolver}, that is backed by a {@link ClassBoundCache} instead of
+ * the default (size-limited) strong references, i.e., it does not prevent classes from being unloaded.
+ *
+ * @since 5.1.0
+ */
+public final class ClassBoundResolvedTypeCache extends ResolvedTypeCache {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient ClassBoundCache<ResolvedTypeKey, ResolvedType> resolvedTypes = new ClassBoundCache<>(
+            key -> key instanceof OwnedKey ownedKey ? ClassBoundCache.getOwningClass(ownedKey.erasedType, ownedKey.typeParameters) : null);
+
+    /**
+     * Create a new (empty) instance after deserialization, since the cached entries are not being serialized.
+     *
+     * @return new instance
+     */
+    private Object readResolve() {
+        return new ClassBoundResolvedTypeCache();
+    }
+
+    @Override
+    public ResolvedTypeKey key(Class<?> simpleType) {
+        return new OwnedKey(simpleType, new ResolvedType[0]);
+    }
+
+    @Override
+    public ResolvedTypeKey key(Class<?> simpleType, ResolvedType[] typeParameters) {
+        return new OwnedKey(simpleType, typeParameters == null ? new ResolvedType[0] : typeParameters);
+    }
+
+    @Override
+    public ResolvedType find(ResolvedTypeKey key) {
+        return this.resolvedTypes.get(key);
+    }
+
+    /**
+     * Getter for the number of cached types, excluding those that have been discarded along with their classes.
+     *
+     * @return number of cached types
+     */
+    @Override
+    public int size() {
+        return this.resolvedTypes.size();
+    }
+
+    @Override
+    public void put(ResolvedTypeKey key, ResolvedType type) {
+        this.resolvedTypes.putIfAbsent(key, type);
+    }
+
+    /**
+     * Cache key retaining the classes it refers to, in order to determine its owning class.
+     */
+    private static final class OwnedKey extends ResolvedTypeKey {
+
+        private final Class<?> erasedType;
+        private final ResolvedType[] typeParameters;
+
+        OwnedKey(Class<?> erasedType, ResolvedType[] typeParameters) {
+            super(erasedType, typeParameters);
+            this.erasedType = erasedType;
+            this.typeParameters = typeParameters;
+        }
+    }
+}
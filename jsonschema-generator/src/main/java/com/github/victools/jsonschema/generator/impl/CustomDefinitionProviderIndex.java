@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.github.victools.jsonschema.generator.CustomDefinition;
+import com.github.victools.jsonschema.generator.CustomDefinitionApplicability;
+import com.github.victools.jsonschema.generator.CustomDefinitionProviderV2;
+import com.github.victools.jsonschema.generator.SchemaGenerationContext;
+import com.github.victools.jsonschema.generator.TypeContext;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Dispatch of custom definition look-ups to only those providers that declared themselves as applicable to a given type, re-using the results of
+ * cacheable providers.
+ *
+ * @see CustomDefinitionProviderV2#getApplicability()
+ * @see CustomDefinitionProviderV2#isCacheable()
+ */
+final class CustomDefinitionProviderIndex {
+
+    private final List<CustomDefinitionProviderV2> providers;
+    private final List<CustomDefinitionApplicability> applicabilities;
+    private final Map<CustomDefinitionProviderV2, Integer> providerPositions;
+    private final int[] allProviderPositions;
+    private final boolean[] cacheableProviders;
+    private final ClassValue<int[]> applicableProviderPositions = new ClassValue<>() {
+        @Override
+        protected int[] computeValue(Class<?> erasedType) {
+            return CustomDefinitionProviderIndex.this.collectApplicableProviderPositions(erasedType);
+        }
+    };
+    /**
+     * Cached results of cacheable providers per type context, as those may depend on its annotation configuration.
+     */
+    private final Map<TypeContext, ClassBoundCache<CacheKey, Optional<CustomDefinition>>> cachedDefinitions = new WeakHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param providers registered custom definition providers (in the order in which they should be applied)
+     */
+    CustomDefinitionProviderIndex(List<CustomDefinitionProviderV2> providers) {
+        this.providers = new ArrayList<>(providers);
+        this.applicabilities = new ArrayList<>(providers.size());
+        this.providerPositions = new HashMap<>();
+        this.allProviderPositions = new int[providers.size()];
+        this.cacheableProviders = new boolean[providers.size()];
+        for (int position = 0; position < this.providers.size(); position++) {
+            CustomDefinitionProviderV2 provider = this.providers.get(position);
+            this.applicabilities.add(provider.getApplicability());
+            // keep the first position, in line with List.indexOf()
+            this.providerPositions.putIfAbsent(provider, position);
+            this.allProviderPositions[position] = position;
+            this.cacheableProviders[position] = provider.isCacheable();
+        }
+    }
+
+    /**
+     * Getter for the number of providers, based on which this index was created.
+     *
+     * @return number of providers
+     */
+    int getProviderCount() {
+        return this.providers.size();
+    }
+
+    /**
+     * Look-up the non-standard JSON schema definition for a given type from the first applicable provider returning one.
+     *
+     * @param javaType generic type to provide custom definition for (may be {@code null} for void methods)
+     * @param context generation context allowing to let the standard generation take over nested parts of the custom definition
+     * @param ignoredDefinitionProvider custom definition provider to ignore, along with all providers registered before it
+     * @return non-standard JSON schema definition (may be {@code null})
+     */
+    CustomDefinition getCustomDefinition(ResolvedType javaType, SchemaGenerationContext context,
+            CustomDefinitionProviderV2 ignoredDefinitionProvider) {
+        int firstPosition = ignoredDefinitionProvider == null ? 0 : 1 + this.providerPositions.getOrDefault(ignoredDefinitionProvider, -1);
+        boolean indexable = javaType != null && javaType.getErasedType() != null;
+        int[] candidatePositions = indexable
+                ? this.applicableProviderPositions.get(javaType.getErasedType())
+                : this.allProviderPositions;
+        for (int position : candidatePositions) {
+            if (position < firstPosition) {
+                continue;
+            }
+            CustomDefinition result = indexable && this.cacheableProviders[position]
+                    ? this.getCachedCustomDefinition(position, javaType, context)
+                    : this.providers.get(position).provideCustomSchemaDefinition(javaType, context);
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    private CustomDefinition getCachedCustomDefinition(int position, ResolvedType javaType, SchemaGenerationContext context) {
+        ClassBoundCache<CacheKey, Optional<CustomDefinition>> cachedDefinitions = this.getCachedDefinitions(context.getTypeContext());
+        CacheKey cacheKey = new CacheKey(position, javaType);
+        Optional<CustomDefinition> cachedResult = cachedDefinitions.get(cacheKey);
+        if (cachedResult != null) {
+            return cachedResult.map(CustomDefinitionProviderIndex::copy).orElse(null);
+        }
+        CustomDefinition result = this.providers.get(position).provideCustomSchemaDefinition(javaType, context);
+        // keep an untouched copy, since the returned definition may be altered during the ongoing schema generation
+        cachedDefinitions.putIfAbsent(cacheKey, Optional.ofNullable(result).map(CustomDefinitionProviderIndex::copy));
+        return result;
+    }
+
+    private ClassBoundCache<CacheKey, Optional<CustomDefinition>> getCachedDefinitions(TypeContext typeContext) {
+        synchronized (this.cachedDefinitions) {
+            return this.cachedDefinitions.computeIfAbsent(typeContext, _key -> new ClassBoundCache<>(
+                    cacheKey -> ClassBoundCache.getOwningClass(cacheKey.javaType.getErasedType(), cacheKey.javaType)));
+        }
+    }
+
+    private static CustomDefinition copy(CustomDefinition definition) {
+        return new CustomDefinition(definition.getValue().deepCopy(), definition.getDefinitionType(), definition.getAttributeInclusion());
+    }
+
+    private int[] collectApplicableProviderPositions(Class<?> erasedType) {
+        return IntStream.of(this.allProviderPositions)
+                .filter(position -> this.applicabilities.get(position) == null || this.applicabilities.get(position).isApplicableTo(erasedType))
+                .toArray();
+    }
+
+    /**
+     * Key for a cached custom definition, combining the provider's position with the targeted type.
+     */
+    private static final class CacheKey {
+
+        private final int providerPosition;
+        private final ResolvedType javaType;
+
+        CacheKey(int providerPosition, ResolvedType javaType) {
+            this.providerPosition = providerPosition;
+            this.javaType = javaType;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof CacheKey otherKey)) {
+                return false;
+            }
+            return this.providerPosition == otherKey.providerPosition && this.javaType.equals(otherKey.javaType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.providerPosition, this.javaType);
+        }
+    }
+}
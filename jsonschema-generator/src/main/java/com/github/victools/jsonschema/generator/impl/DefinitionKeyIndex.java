@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.github.victools.jsonschema.generator.CustomDefinitionProviderV2;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interning of {@link DefinitionKey} instances within a single schema generation, assigning dense int IDs to each combination of type and ignored
+ * custom definition provider. This allows for the associated definitions and references to be kept in int-indexed structures, without having to
+ * create and hash a new {@link DefinitionKey} on every look-up.
+ * <br>
+ * Look-ups are first performed by the identity of the given {@link ResolvedType} (as the same instance is usually encountered repeatedly), before
+ * falling back on its (potentially deep) equality check.
+ *
+ * @since 5.1.0
+ */
+final class DefinitionKeyIndex {
+
+    /**
+     * Value being returned by the look-up methods when no ID has been assigned yet.
+     */
+    static final int UNKNOWN_ID = -1;
+
+    private final Map<ResolvedType, Integer> standardKeyIdsByIdentity = new IdentityHashMap<>();
+    private final Map<ResolvedType, Integer> standardKeyIds = new HashMap<>();
+    private final Map<DefinitionKey, Integer> alternativeKeyIds = new HashMap<>();
+    private final List<DefinitionKey> keysById = new ArrayList<>();
+
+    /**
+     * Look-up the ID of the given combination of type and ignored custom definition provider, assigning a new one if it is not known yet.
+     *
+     * @param type encountered type a schema definition is associated with
+     * @param ignoredDefinitionProvider first custom definition provider that was ignored when creating the definition (is null in most cases)
+     * @return associated ID (in the range from {@code 0} to {@link #size()} - 1)
+     */
+    int getOrAssignId(ResolvedType type, CustomDefinitionProviderV2 ignoredDefinitionProvider) {
+        int id = this.getId(type, ignoredDefinitionProvider);
+        if (id != UNKNOWN_ID) {
+            return id;
+        }
+        id = this.keysById.size();
+        DefinitionKey key = new DefinitionKey(type, ignoredDefinitionProvider);
+        this.keysById.add(key);
+        if (ignoredDefinitionProvider == null) {
+            this.standardKeyIds.put(type, id);
+            this.standardKeyIdsByIdentity.put(type, id);
+        } else {
+            this.alternativeKeyIds.put(key, id);
+        }
+        return id;
+    }
+
+    /**
+     * Look-up the ID of the given combination of type and ignored custom definition provider.
+     *
+     * @param type encountered type a schema definition is associated with
+     * @param ignoredDefinitionProvider first custom definition provider that was ignored when creating the definition (is null in most cases)
+     * @return associated ID (or {@link #UNKNOWN_ID})
+     */
+    int getId(ResolvedType type, CustomDefinitionProviderV2 ignoredDefinitionProvider) {
+        if (ignoredDefinitionProvider != null) {
+            return toId(this.alternativeKeyIds.get(new DefinitionKey(type, ignoredDefinitionProvider)));
+        }
+        Integer id = this.standardKeyIdsByIdentity.get(type);
+        if (id == null) {
+            id = this.standardKeyIds.get(type);
+            if (id != null) {
+                this.standardKeyIdsByIdentity.put(type, id);
+            }
+        }
+        return toId(id);
+    }
+
+    /**
+     * Look-up the ID of the given definition key.
+     *
+     * @param key definition key to look-up
+     * @return associated ID (or {@link #UNKNOWN_ID})
+     */
+    int getId(DefinitionKey key) {
+        return this.getId(key.getType(), key.getIgnoredDefinitionProvider());
+    }
+
+    /**
+     * Look-up the (interned) definition key associated with the given ID.
+     *
+     * @param id previously assigned ID
+     * @return associated definition key
+     */
+    DefinitionKey getKey(int id) {
+        return this.keysById.get(id);
+    }
+
+    /**
+     * Getter for the number of IDs assigned so far.
+     *
+     * @return number of known definition keys
+     */
+    int size() {
+        return this.keysById.size();
+    }
+
+    private static int toId(Integer id) {
+        return id == null ? UNKNOWN_ID : id;
+    }
+}
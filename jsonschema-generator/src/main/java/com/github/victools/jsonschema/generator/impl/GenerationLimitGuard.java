@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.github.victools.jsonschema.generator.SchemaGenerationLimitExceededException;
+import com.github.victools.jsonschema.generator.SchemaGenerationLimits;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracker of the types currently being traversed, enforcing the configured {@link SchemaGenerationLimits} (if there are any).
+ */
+class GenerationLimitGuard {
+
+    private static final Logger logger = LoggerFactory.getLogger(GenerationLimitGuard.class);
+
+    private final SchemaGenerationLimits limits;
+    private final long deadline;
+    private final Deque<ResolvedType> path = new ArrayDeque<>();
+
+    /**
+     * Constructor, starting the clock for a configured maximum duration.
+     *
+     * @param limits limits to enforce (may be {@code null})
+     */
+    GenerationLimitGuard(SchemaGenerationLimits limits) {
+        this.limits = limits;
+        if (limits == null || limits.getMaxDuration() == null) {
+            this.deadline = 0L;
+        } else {
+            this.deadline = System.nanoTime() + limits.getMaxDuration().toNanos();
+        }
+    }
+
+    /**
+     * Register the given type as being traversed next and check whether this exceeds any of the configured limits.
+     *
+     * @param type type about to be traversed
+     * @param definitionCount number of type definitions collected so far
+     * @return whether the type should be traversed; otherwise, it should be represented by an empty placeholder schema
+     * @throws SchemaGenerationLimitExceededException if a limit is exceeded and the breach handling is set to fail
+     * @see #exitType()
+     */
+    boolean enterType(ResolvedType type, int definitionCount) {
+        if (this.limits == null) {
+            return true;
+        }
+        this.path.addLast(type);
+        final String breach;
+        if (this.limits.getMaxDepth() != null && this.path.size() > this.limits.getMaxDepth()) {
+            breach = "Maximum depth of " + this.limits.getMaxDepth() + " nested types exceeded";
+        } else if (this.limits.getMaxDefinitions() != null && definitionCount >= this.limits.getMaxDefinitions()) {
+            breach = "Maximum number of " + this.limits.getMaxDefinitions() + " definitions exceeded";
+        } else if (this.limits.getMaxDuration() != null && System.nanoTime() - this.deadline > 0) {
+            breach = "Maximum duration of " + this.limits.getMaxDuration() + " exceeded";
+        } else {
+            return true;
+        }
+        this.handleBreach(breach);
+        this.path.removeLast();
+        return false;
+    }
+
+    /**
+     * Remove the last type registered via {@link #enterType(ResolvedType, int)}, after it has been traversed completely.
+     */
+    void exitType() {
+        if (this.limits != null) {
+            this.path.removeLast();
+        }
+    }
+
+    /**
+     * Check whether the given list of properties exceeds the configured maximum number of properties per type.
+     *
+     * @param <P> type of properties
+     * @param type type declaring the given properties
+     * @param properties sorted properties to be included in the given type's schema
+     * @return the given properties or the allowed number of leading properties (if a placeholder should be applied in case of a breach)
+     * @throws SchemaGenerationLimitExceededException if the limit is exceeded and the breach handling is set to fail
+     */
+    <P> List<P> limitProperties(ResolvedType type, List<P> properties) {
+        if (this.limits == null || this.limits.getMaxPropertiesPerType() == null
+                || properties.size() <= this.limits.getMaxPropertiesPerType()) {
+            return properties;
+        }
+        this.handleBreach("Maximum number of " + this.limits.getMaxPropertiesPerType() + " properties exceeded with " + properties.size()
+                + " properties in " + type.getBriefDescription());
+        return properties.subList(0, this.limits.getMaxPropertiesPerType());
+    }
+
+    private void handleBreach(String breach) {
+        List<String> pathDescription = new ArrayList<>(this.path.size());
+        for (ResolvedType pathEntry : this.path) {
+            pathDescription.add(pathEntry.getBriefDescription());
+        }
+        if (this.limits.getBreachHandling() == SchemaGenerationLimits.BreachHandling.FAIL) {
+            throw new SchemaGenerationLimitExceededException(breach, pathDescription);
+        }
+        logger.warn("{} at: {} - applying placeholder instead", breach, String.join(" -> ", pathDescription));
+    }
+}
@@ -25,9 +25,10 @@ import java.util.function.Supplier;
  */
 public class LazyValue<T> {
 
+    private static final Object NOT_INITIALISED = new Object();
+
     private final Supplier<? extends T> supplier;
-    private boolean initPending;
-    private T value;
+    private volatile Object value;
 
     /**
      * Constructor, not yet invoking the given {@link Supplier}.
@@ -36,7 +37,7 @@ public class LazyValue<T> {
      */
     public LazyValue(Supplier<? extends T> supplier) {
         this.supplier = supplier;
-        this.initPending = true;
+        this.value = NOT_INITIALISED;
     }
 
     /**
@@ -44,12 +45,14 @@ public class LazyValue<T> {
      *
      * @return wrapped value
      */
+    @SuppressWarnings("unchecked")
     public T get() {
-        if (this.initPending) {
-            // explicitly NOT thread-safe as it seems unnecessary here to add that overhead
-            this.value = this.supplier.get();
-            this.initPending = false;
+        Object currentValue = this.value;
+        if (currentValue == NOT_INITIALISED) {
+            // without locking, since the same value may safely be loaded more than once when being accessed from multiple threads at the same time
+            currentValue = this.supplier.get();
+            this.value = currentValue;
         }
-        return this.value;
+        return (T) currentValue;
     }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.github.victools.jsonschema.generator.MemberScope;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
+import com.github.victools.jsonschema.generator.TypeContext;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache of the collected (and sorted) properties per type, to be re-used across schema generations with the same configuration and type context.
+ * <br>
+ * An instance is being kept in the respective {@link TypeContext} (see {@link TypeContext#getConfigBoundCache}), as the collected properties
+ * refer to it. The cached entries are being kept in a plain map owned by this instance (and not in a {@link ClassBoundCache}), as any entry being
+ * attached to a class would otherwise keep the whole type context reachable for as long as that class is loaded.
+ *
+ * @see SchemaGeneratorConfig#shouldReuseCollectedMembers()
+ */
+final class MemberCollectionCache {
+
+    private final ConcurrentMap<ResolvedType, CollectedMembers> collectedMembers = new ConcurrentHashMap<>();
+
+    /**
+     * Look-up the properties of the given type, collecting them on the first request.
+     *
+     * @param schemaTargetType targeted type for which to collect the contained fields and methods
+     * @param generatorConfig configuration determining which properties to include, how to name them and whether they are required
+     * @param typeContext type context used to create the respective {@code FieldScope} and {@code MethodScope} instances
+     * @return collected properties
+     */
+    CollectedMembers getCollectedMembers(ResolvedType schemaTargetType, SchemaGeneratorConfig generatorConfig, TypeContext typeContext) {
+        CollectedMembers cachedMembers = this.collectedMembers.get(schemaTargetType);
+        if (cachedMembers != null) {
+            return cachedMembers;
+        }
+        // collected outside of any lock, as this may involve nested look-ups of other types (e.g., by custom resolvers)
+        CollectedMembers members = collectMembers(schemaTargetType, generatorConfig, typeContext);
+        CollectedMembers concurrentlyCollectedMembers = this.collectedMembers.putIfAbsent(schemaTargetType, members);
+        return concurrentlyCollectedMembers == null ? members : concurrentlyCollectedMembers;
+    }
+
+    /**
+     * Collect the properties of the given type without caching them.
+     *
+     * @param schemaTargetType targeted type for which to collect the contained fields and methods
+     * @param generatorConfig configuration determining which properties to include, how to name them and whether they are required
+     * @param typeContext type context used to create the respective {@code FieldScope} and {@code MethodScope} instances
+     * @return collected properties
+     */
+    static CollectedMembers collectMembers(ResolvedType schemaTargetType, SchemaGeneratorConfig generatorConfig, TypeContext typeContext) {
+        MemberCollectionContextImpl memberCollectionContext = new MemberCollectionContextImpl(schemaTargetType, generatorConfig, typeContext);
+        memberCollectionContext.collectProperties();
+        return new CollectedMembers(memberCollectionContext.getSortedProperties(), memberCollectionContext.getRequiredPropertyNames());
+    }
+
+    /**
+     * Result of the property collection for a single type.
+     */
+    static final class CollectedMembers {
+
+        private final List<MemberScope<?, ?>> sortedProperties;
+        private final Set<String> requiredPropertyNames;
+
+        CollectedMembers(List<MemberScope<?, ?>> sortedProperties, Set<String> requiredPropertyNames) {
+            this.sortedProperties = Collections.unmodifiableList(sortedProperties);
+            this.requiredPropertyNames = Collections.unmodifiableSet(new HashSet<>(requiredPropertyNames));
+        }
+
+        /**
+         * Getter for the collected properties in the order as per the configured property sorting mechanism.
+         *
+         * @return sorted collected properties
+         */
+        List<MemberScope<?, ?>> getSortedProperties() {
+            return this.sortedProperties;
+        }
+
+        /**
+         * Getter for the names (as to be included in the schema definition) of all required properties (in undefined order).
+         *
+         * @return names of required properties
+         */
+        Set<String> getRequiredPropertyNames() {
+            return this.requiredPropertyNames;
+        }
+    }
+}
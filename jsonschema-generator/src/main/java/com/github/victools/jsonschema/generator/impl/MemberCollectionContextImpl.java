@@ -30,7 +30,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -71,9 +70,7 @@ class MemberCollectionContextImpl {
      * @return sorted collected properties
      */
     public List<MemberScope<?, ?>> getSortedProperties() {
-        return this.collectedProperties.values().stream()
-                .sorted(this.generatorConfig::sortProperties)
-                .collect(Collectors.toList());
+        return this.generatorConfig.sortProperties(this.collectedProperties.values());
     }
 
     /**
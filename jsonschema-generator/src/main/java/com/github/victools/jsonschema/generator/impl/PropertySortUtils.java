@@ -16,6 +16,7 @@
 
 package com.github.victools.jsonschema.generator.impl;
 
+import com.github.victools.jsonschema.generator.KeyedPropertySorter;
 import com.github.victools.jsonschema.generator.MemberScope;
 import java.util.Comparator;
 
@@ -29,7 +30,7 @@ public enum PropertySortUtils {
      * {@link Comparator} sorting properties: with fields before methods.
      */
     public static final Comparator<MemberScope<?, ?>> SORT_PROPERTIES_FIELDS_BEFORE_METHODS
-            = (first, second) -> Boolean.compare(first.getSchemaPropertyName().endsWith(")"), second.getSchemaPropertyName().endsWith(")"));
+            = KeyedPropertySorter.of(property -> property.getSchemaPropertyName().endsWith(")"), Boolean::compare);
 
     /**
      * {@link Comparator} sorting properties: alphabetically by their name.
@@ -37,7 +38,7 @@ public enum PropertySortUtils {
      * @see MemberScope#getSchemaPropertyName()
      */
     public static final Comparator<MemberScope<?, ?>> SORT_PROPERTIES_BY_NAME_ALPHABETICALLY
-            = Comparator.comparing(MemberScope::getSchemaPropertyName);
+            = KeyedPropertySorter.of(MemberScope::getSchemaPropertyName, Comparator.naturalOrder());
 
     /**
      * {@link Comparator} sorting properties into the following groups and within each group alphabetically by their name.
@@ -51,5 +52,6 @@ public enum PropertySortUtils {
      * @see MemberScope#getSchemaPropertyName()
      */
     public static final Comparator<MemberScope<?, ?>> DEFAULT_PROPERTY_ORDER
-            = SORT_PROPERTIES_FIELDS_BEFORE_METHODS.thenComparing(SORT_PROPERTIES_BY_NAME_ALPHABETICALLY);
+            = KeyedPropertySorter.of(MemberScope::getSchemaPropertyName, Comparator.comparing((String propertyName) -> propertyName.endsWith(")"))
+                    .thenComparing(Comparator.naturalOrder()));
 }
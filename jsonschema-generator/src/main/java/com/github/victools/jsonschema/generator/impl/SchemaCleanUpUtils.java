@@ -47,6 +47,10 @@ public class SchemaCleanUpUtils {
 
     private final SchemaGeneratorConfig config;
     private final Map<SchemaKeyword, BiFunction<List<JsonNode>, Map<String, SchemaKeyword>, Supplier<? extends JsonNode>>> allOfMergeFunctions;
+    /**
+     * Structural hash codes of the nodes being compared, to avoid repeated deep equality checks within the clean-up steps.
+     */
+    private final StructuralHashes structuralHashes = new StructuralHashes();
 
     /**
      * Constructor.
@@ -112,7 +116,7 @@ public class SchemaCleanUpUtils {
      */
     public void reduceAllOfNodes(List<ObjectNode> jsonSchemas) {
         String allOfTagName = this.config.getKeyword(SchemaKeyword.TAG_ALLOF);
-        Map<String, SchemaKeyword> reverseTagMap = SchemaKeyword.getReverseTagMap(this.config.getSchemaVersion(), _tag -> true);
+        Map<String, SchemaKeyword> reverseTagMap = SchemaKeywordTable.forVersion(this.config.getSchemaVersion()).getReverseTagMap();
         this.finaliseSchemaParts(jsonSchemas, nodeToCheck -> this.mergeAllOfPartsIfPossible(nodeToCheck, allOfTagName, reverseTagMap));
     }
 
@@ -161,11 +165,24 @@ public class SchemaCleanUpUtils {
      */
     public void setStrictTypeInfo(List<ObjectNode> jsonSchemas, boolean considerNullType) {
         String typeTagName = this.config.getKeyword(SchemaKeyword.TAG_TYPE);
-        Map<String, SchemaKeyword> reverseTagMap = SchemaKeyword.getReverseTagMap(this.config.getSchemaVersion(),
-                tag -> !tag.getImpliedTypes().isEmpty());
+        Map<String, SchemaKeyword> reverseTagMap = SchemaKeywordTable.forVersion(this.config.getSchemaVersion()).getReverseTagMapWithImpliedTypes();
         this.finaliseSchemaParts(jsonSchemas, nodeToCheck -> this.addTypeInfoWhereMissing(nodeToCheck, typeTagName, considerNullType, reverseTagMap));
     }
 
+    /**
+     * Move identical inline sub-schemas being repeated within the given schemas into the common definitions and replace them with references.
+     *
+     * @param jsonSchemas generated schemas that may contain repeated inline sub-schemas (but are not being replaced themselves)
+     * @param definitionsNode object node containing common schema definitions, to which the hoisted sub-schemas are being added
+     * @param referenceKeyPrefix designated prefix to the entries in the definitions node (i.e., on {@link SchemaKeyword#TAG_REF} values)
+     *
+     * @since 5.1.0
+     */
+    public void hoistRepeatedSubschemas(List<ObjectNode> jsonSchemas, ObjectNode definitionsNode, String referenceKeyPrefix) {
+        SchemaKeywordTable keywordTable = SchemaKeywordTable.forVersion(this.config.getSchemaVersion());
+        new SubschemaHoister(keywordTable, definitionsNode, referenceKeyPrefix).hoistRepeatedSubschemas(jsonSchemas);
+    }
+
     /**
      * Collect names of schema tags that may contain the given type of content.
      *
@@ -173,7 +190,7 @@ public class SchemaCleanUpUtils {
      * @return names of eligible tags as per the designated JSON Schema version
      */
     private Set<String> getTagNamesSupporting(SchemaKeyword.TagContent contentType) {
-        return SchemaKeyword.getReverseTagMap(this.config.getSchemaVersion(), tag -> tag.supportsContentType(contentType)).keySet();
+        return SchemaKeywordTable.forVersion(this.config.getSchemaVersion()).getTagNamesSupporting(contentType);
     }
 
     /**
@@ -186,6 +203,8 @@ public class SchemaCleanUpUtils {
      * @param performCleanUpOnSingleSchemaNode clean up task to execute before looking for deeper nested sub-schemas for which to apply the same
      */
     private void finaliseSchemaParts(List<ObjectNode> schemaNodes, Consumer<ObjectNode> performCleanUpOnSingleSchemaNode) {
+        // the given nodes may have been modified since the last clean-up step
+        this.structuralHashes.forgetModifiableNodeHashes();
         List<ObjectNode> nextNodesToCheck = new ArrayList<>(schemaNodes);
         Consumer<JsonNode> addNodeToCheck = node -> {
             if (node instanceof ObjectNode objectNode) {
@@ -212,6 +231,7 @@ public class SchemaCleanUpUtils {
                         .forEach(objectNode -> objectNode.forEach(addNodeToCheck));
             }
         } while (!nextNodesToCheck.isEmpty());
+        this.structuralHashes.forgetModifiableNodeHashes();
     }
 
     /**
@@ -244,6 +264,7 @@ public class SchemaCleanUpUtils {
             return;
         }
         // all attributes are either distinct or have equal values in all occurrences
+        this.structuralHashes.forgetModifiableNodeHashes();
         schemaObjectNode.remove(allOfTagName);
         schemaObjectNode.setAll(successfulMergeResultSupplier.get());
     }
@@ -287,7 +308,7 @@ public class SchemaCleanUpUtils {
             for (Map.Entry<String, JsonNode> singleField : singleObjectNode.properties()) {
                 if (!mergedObjectNode.has(singleField.getKey())) {
                     mergedObjectNode.set(singleField.getKey(), singleField.getValue());
-                } else if (!mergedObjectNode.get(singleField.getKey()).equals(singleField.getValue())) {
+                } else if (!this.structuralHashes.areEqual(mergedObjectNode.get(singleField.getKey()), singleField.getValue())) {
                     // cannot consolidate two occurrences of the same property; abort merge (in the future: may want to be smarter here)
                     return null;
                 }
@@ -535,7 +556,7 @@ public class SchemaCleanUpUtils {
 
     private Supplier<JsonNode> returnOneIfAllEqual(List<JsonNode> nodes) {
         JsonNode firstNode = nodes.get(0);
-        if (nodes.subList(1, nodes.size()).stream().allMatch(firstNode::equals)) {
+        if (nodes.subList(1, nodes.size()).stream().allMatch(node -> this.structuralHashes.areEqual(firstNode, node))) {
             return () -> firstNode;
         }
         return null;
@@ -614,9 +635,9 @@ public class SchemaCleanUpUtils {
         String ifKeyword = this.config.getKeyword(SchemaKeyword.TAG_IF);
         String thenKeyword = this.config.getKeyword(SchemaKeyword.TAG_THEN);
         String elseKeyword = this.config.getKeyword(SchemaKeyword.TAG_ELSE);
-        boolean shouldSkipConditionals = !Util.nullSafeEquals(memberSchema.get(ifKeyword), referencedDefinition.get(ifKeyword))
-                || !Util.nullSafeEquals(memberSchema.get(thenKeyword), referencedDefinition.get(thenKeyword))
-                || !Util.nullSafeEquals(memberSchema.get(elseKeyword), referencedDefinition.get(elseKeyword));
+        boolean shouldSkipConditionals = !this.structuralHashes.areEqual(memberSchema.get(ifKeyword), referencedDefinition.get(ifKeyword))
+                || !this.structuralHashes.areEqual(memberSchema.get(thenKeyword), referencedDefinition.get(thenKeyword))
+                || !this.structuralHashes.areEqual(memberSchema.get(elseKeyword), referencedDefinition.get(elseKeyword));
         if (shouldSkipConditionals) {
             skippedKeywords.add(ifKeyword);
             skippedKeywords.add(thenKeyword);
@@ -625,8 +646,9 @@ public class SchemaCleanUpUtils {
         for (Iterator<Map.Entry<String, JsonNode>> it = memberSchema.properties().iterator(); it.hasNext(); ) {
             Map.Entry<String, JsonNode> memberAttribute = it.next();
             String keyword = memberAttribute.getKey();
-            if (!skippedKeywords.contains(keyword) && memberAttribute.getValue().equals(referencedDefinition.get(keyword))) {
+            if (!skippedKeywords.contains(keyword) && this.structuralHashes.areEqual(memberAttribute.getValue(), referencedDefinition.get(keyword))) {
                 // remove member attribute, that also exists on the referenced definition
+                this.structuralHashes.forgetModifiableNodeHashes();
                 it.remove();
             }
         }
@@ -681,14 +703,7 @@ public class SchemaCleanUpUtils {
      * @return URI compatible version of the given definition key
      */
     public String ensureDefinitionKeyIsUriCompatible(String definitionKey) {
-        return definitionKey
-                // marking arrays with an asterisk instead of square brackets
-                .replaceAll("\\[\\]", "*")
-                // indicating generics in parentheses instead of angled brackets
-                .replaceAll("<", "(")
-                .replaceAll(">", ")")
-                // removing white-spaces and any other remaining invalid characters
-                .replaceAll("[^a-zA-Z0-9\\.\\-_\\$\\*\\(\\),]+", "");
+        return SchemaCleanUpUtils.sanitizeDefinitionKey(definitionKey, false);
     }
 
     /**
@@ -698,17 +713,82 @@ public class SchemaCleanUpUtils {
      * @return simplified version of the given definition key
      */
     public String ensureDefinitionKeyIsPlain(String definitionKey) {
-        return definitionKey
-                // avoid dollar symbols for inner types
-                .replaceAll("\\$", "-")
-                // marking arrays with three dots instead of square brackets
-                .replaceAll("\\[\\]", "...")
-                // indicating generics in underscores instead of angled brackets
-                .replaceAll("[<>]", "_")
-                // use dots instead of commas between type parameters
-                .replaceAll(",", ".")
-                // removing white-spaces and any other remaining invalid characters
-                .replaceAll("[^a-zA-Z0-9\\.\\-_]+", "");
+        return SchemaCleanUpUtils.sanitizeDefinitionKey(definitionKey, true);
+    }
+
+    /**
+     * Replace/remove the invalid characters in the given definition key in a single pass, returning the given key as-is if there are none.
+     *
+     * @param definitionKey {@code SchemaDefinitionNamingStrategy} output
+     * @param plain whether only alphanumeric characters, dots, dashes and underscores are allowed; otherwise URI compatible characters are allowed
+     * @return sanitized version of the given definition key
+     */
+    private static String sanitizeDefinitionKey(String definitionKey, boolean plain) {
+        int length = definitionKey.length();
+        int index = 0;
+        while (index < length && SchemaCleanUpUtils.isValidDefinitionKeyCharacter(definitionKey.charAt(index), plain)) {
+            index++;
+        }
+        if (index == length) {
+            return definitionKey;
+        }
+        StringBuilder result = new StringBuilder(length + 8).append(definitionKey, 0, index);
+        while (index < length) {
+            index = SchemaCleanUpUtils.appendSanitizedDefinitionKeyPart(result, definitionKey, index, plain);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Append the sanitized version of the definition key's character at the given index.
+     *
+     * @param result builder of the sanitized definition key
+     * @param definitionKey {@code SchemaDefinitionNamingStrategy} output
+     * @param index position of the character in the definition key to handle
+     * @param plain whether only alphanumeric characters, dots, dashes and underscores are allowed; otherwise URI compatible characters are allowed
+     * @return index of the next character to handle
+     */
+    private static int appendSanitizedDefinitionKeyPart(StringBuilder result, String definitionKey, int index, boolean plain) {
+        char character = definitionKey.charAt(index);
+        if (SchemaCleanUpUtils.isValidDefinitionKeyCharacter(character, plain)) {
+            result.append(character);
+            return index + 1;
+        }
+        switch (character) {
+        case '[':
+            if (index + 1 < definitionKey.length() && definitionKey.charAt(index + 1) == ']') {
+                // marking arrays with three dots (plain) or an asterisk (URI compatible) instead of square brackets
+                result.append(plain ? "..." : "*");
+                return index + 2;
+            }
+            break;
+        case '<':
+            // indicating generics in underscores (plain) or parentheses (URI compatible) instead of angled brackets
+            result.append(plain ? '_' : '(');
+            break;
+        case '>':
+            result.append(plain ? '_' : ')');
+            break;
+        case '$':
+            // avoid dollar symbols for inner types (only reached for plain keys)
+            result.append('-');
+            break;
+        case ',':
+            // use dots instead of commas between type parameters (only reached for plain keys)
+            result.append('.');
+            break;
+        default:
+            // removing white-spaces and any other remaining invalid characters
+            break;
+        }
+        return index + 1;
+    }
+
+    private static boolean isValidDefinitionKeyCharacter(char character, boolean plain) {
+        if (character >= 'a' && character <= 'z' || character >= 'A' && character <= 'Z' || character >= '0' && character <= '9') {
+            return true;
+        }
+        return (plain ? ".-_" : ".-_$*(),").indexOf(character) != -1;
     }
 
     /**
@@ -23,18 +23,20 @@ import com.github.victools.jsonschema.generator.CustomPropertyDefinitionProvider
 import com.github.victools.jsonschema.generator.FieldScope;
 import com.github.victools.jsonschema.generator.MemberScope;
 import com.github.victools.jsonschema.generator.MethodScope;
+import com.github.victools.jsonschema.generator.Option;
 import com.github.victools.jsonschema.generator.SchemaGenerationContext;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
 import com.github.victools.jsonschema.generator.SchemaKeyword;
 import com.github.victools.jsonschema.generator.TypeContext;
 import com.github.victools.jsonschema.generator.TypeScope;
 import java.util.AbstractMap;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -59,10 +61,23 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
 
     private final SchemaGeneratorConfig generatorConfig;
     private final TypeContext typeContext;
-    private final Map<DefinitionKey, ObjectNode> definitions = new LinkedHashMap<>();
-    private final Map<DefinitionKey, List<ObjectNode>> references = new HashMap<>();
-    private final Map<DefinitionKey, List<ObjectNode>> nullableReferences = new HashMap<>();
-    private final Set<DefinitionKey> neverInlinedDefinitions  = new HashSet<>();
+    private final DefinitionKeyIndex keyIndex = new DefinitionKeyIndex();
+    /**
+     * Definitions, references and markers per definition key, at the position of the ID assigned by the {@link #keyIndex}.
+     */
+    private final List<DefinitionEntry> entriesById = new ArrayList<>();
+    private final Set<DefinitionKey> definedKeys = new LinkedHashSet<>();
+    /**
+     * Types currently being traversed (the innermost one on top), in order to record which type's schema depends on which other types.
+     */
+    private final Deque<DefinitionEntry> entriesInProgress = new ArrayDeque<>();
+    private final Set<DefinitionEntry> rootEntries = new LinkedHashSet<>();
+    private final Set<ResolvedType> traversedTypes = new LinkedHashSet<>();
+    private final GenerationLimitGuard limitGuard;
+    /**
+     * Whether all sub-schemas are being written directly into their respective target nodes, as per {@link Option#INLINE_ALL_SCHEMAS}.
+     */
+    private final boolean inlineAllSchemas;
 
     /**
      * Constructor initialising type resolution context.
@@ -73,6 +88,8 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
     public SchemaGenerationContextImpl(SchemaGeneratorConfig generatorConfig, TypeContext typeContext) {
         this.generatorConfig = generatorConfig;
         this.typeContext = typeContext;
+        this.limitGuard = new GenerationLimitGuard(generatorConfig.getGenerationLimits());
+        this.inlineAllSchemas = generatorConfig.shouldInlineAllSchemas();
     }
 
     @Override
@@ -96,6 +113,21 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
         return new DefinitionKey(type, null);
     }
 
+    /**
+     * Parse the given (possibly generic) type and write its schema directly into the given node. This is intended to be used only once, for the
+     * schema's main target type, if {@link Option#INLINE_ALL_SCHEMAS} is enabled.
+     *
+     * @param type (possibly generic) type to analyse
+     * @param targetNode node in the JSON schema that should represent the given type
+     * @return definition key identifying the given entry point
+     *
+     * @since 5.1.0
+     */
+    public DefinitionKey parseTypeInline(ResolvedType type, ObjectNode targetNode) {
+        this.traverseGenericType(type, targetNode);
+        return new DefinitionKey(type, null);
+    }
+
     /**
      * Add the given type's definition to this context.
      *
@@ -106,10 +138,59 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
      */
     SchemaGenerationContextImpl putDefinition(ResolvedType javaType, ObjectNode definitionNode,
             CustomDefinitionProviderV2 ignoredDefinitionProvider) {
-        this.definitions.put(new DefinitionKey(javaType, ignoredDefinitionProvider), definitionNode);
+        DefinitionEntry entry = this.getOrCreateEntry(javaType, ignoredDefinitionProvider);
+        if (entry.definition == null) {
+            this.definedKeys.add(entry.key);
+        }
+        entry.definition = definitionNode;
         return this;
     }
 
+    /**
+     * Getter for all types that have been traversed in this context so far, i.e., including types that have been inlined or were represented by a
+     * custom definition.
+     *
+     * @return traversed types (in the order they were first encountered)
+     *
+     * @since 5.1.0
+     */
+    public Set<ResolvedType> getTraversedTypes() {
+        return Collections.unmodifiableSet(this.traversedTypes);
+    }
+
+    /**
+     * Getter for the types that have been traversed as entry points, i.e., the main type and/or any types for which a reference was created
+     * directly (rather than while traversing another type).
+     *
+     * @return entry point types (in the order they were first encountered)
+     *
+     * @since 5.1.0
+     */
+    public Set<ResolvedType> getRootTypes() {
+        Set<ResolvedType> rootTypes = new LinkedHashSet<>();
+        this.rootEntries.forEach(entry -> rootTypes.add(entry.key.getType()));
+        return rootTypes;
+    }
+
+    /**
+     * Getter for the types each traversed type's schema depends on directly, i.e., the types of its properties, items, subtypes or any other types
+     * whose schema got included or referenced while traversing it. Alternative definitions for the same type (e.g., when a custom definition
+     * provider was ignored) are being combined.
+     *
+     * @return direct dependencies per traversed type (in the order they were first encountered)
+     *
+     * @since 5.1.0
+     */
+    public Map<ResolvedType, Set<ResolvedType>> getTypeDependencies() {
+        Map<ResolvedType, Set<ResolvedType>> typeDependencies = new LinkedHashMap<>();
+        for (DefinitionEntry entry : this.entriesById) {
+            Set<ResolvedType> dependencies = typeDependencies.computeIfAbsent(entry.key.getType(), _type -> new LinkedHashSet<>());
+            entry.dependencies.forEach(dependency -> dependencies.add(dependency.key.getType()));
+            dependencies.remove(entry.key.getType());
+        }
+        return typeDependencies;
+    }
+
     /**
      * Based on the given custom definition for the given type, potentially mark it as never to be inlined, i.e., that it should always be included in
      * the {@link SchemaKeyword#TAG_DEFINITIONS}.
@@ -124,7 +205,7 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
     SchemaGenerationContextImpl markDefinitionAsNeverInlinedIfRequired(CustomDefinition customDefinition, ResolvedType javaType,
             CustomDefinitionProviderV2 ignoredDefinitionProvider) {
         if (customDefinition.shouldAlwaysProduceDefinition()) {
-            this.neverInlinedDefinitions.add(new DefinitionKey(javaType, ignoredDefinitionProvider));
+            this.getOrCreateEntry(javaType, ignoredDefinitionProvider).neverInlined = true;
         }
         return this;
     }
@@ -137,7 +218,8 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
      * @return whether a definition for the given type is already present
      */
     public boolean containsDefinition(ResolvedType javaType, CustomDefinitionProviderV2 ignoredDefinitionProvider) {
-        return this.definitions.containsKey(new DefinitionKey(javaType, ignoredDefinitionProvider));
+        DefinitionEntry entry = this.getEntry(this.keyIndex.getId(javaType, ignoredDefinitionProvider));
+        return entry != null && entry.definition != null;
     }
 
     /**
@@ -148,7 +230,8 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
      * @see #putDefinition(ResolvedType, ObjectNode, CustomDefinitionProviderV2)
      */
     public ObjectNode getDefinition(DefinitionKey key) {
-        return this.definitions.get(key);
+        DefinitionEntry entry = this.getEntry(key);
+        return entry == null ? null : entry.definition;
     }
 
     /**
@@ -157,7 +240,7 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
      * @return types for which a definition is present
      */
     public Set<DefinitionKey> getDefinedTypes() {
-        return Collections.unmodifiableSet(this.definitions.keySet());
+        return Collections.unmodifiableSet(this.definedKeys);
     }
 
     /**
@@ -175,10 +258,12 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
             // referencingNode should only be null for the main class for which the schema is being generated
             return this;
         }
-        Map<DefinitionKey, List<ObjectNode>> targetMap = isNullable ? this.nullableReferences : this.references;
-        DefinitionKey key = new DefinitionKey(javaType, ignoredDefinitionProvider);
-        List<ObjectNode> valueList = targetMap.computeIfAbsent(key, k -> new ArrayList<>());
-        valueList.add(referencingNode);
+        DefinitionEntry entry = this.getOrCreateEntry(javaType, ignoredDefinitionProvider);
+        if (isNullable) {
+            entry.nullableReferences.add(referencingNode);
+        } else {
+            entry.references.add(referencingNode);
+        }
         return this;
     }
 
@@ -189,7 +274,8 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
      * @return not-nullable nodes to be populated with the schema of the given type
      */
     public List<ObjectNode> getReferences(DefinitionKey key) {
-        return Collections.unmodifiableList(this.references.getOrDefault(key, Collections.emptyList()));
+        DefinitionEntry entry = this.getEntry(key);
+        return entry == null ? Collections.emptyList() : Collections.unmodifiableList(entry.references);
     }
 
     /**
@@ -199,7 +285,8 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
      * @return nullable nodes to be populated with the schema of the given type
      */
     public List<ObjectNode> getNullableReferences(DefinitionKey key) {
-        return Collections.unmodifiableList(this.nullableReferences.getOrDefault(key, Collections.emptyList()));
+        DefinitionEntry entry = this.getEntry(key);
+        return entry == null ? Collections.emptyList() : Collections.unmodifiableList(entry.nullableReferences);
     }
 
     /**
@@ -212,7 +299,24 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
      * @since 4.27.0
      */
     public boolean shouldNeverInlineDefinition(DefinitionKey key) {
-        return this.neverInlinedDefinitions.contains(key);
+        DefinitionEntry entry = this.getEntry(key);
+        return entry != null && entry.neverInlined;
+    }
+
+    private DefinitionEntry getEntry(DefinitionKey key) {
+        return this.getEntry(this.keyIndex.getId(key));
+    }
+
+    private DefinitionEntry getEntry(int id) {
+        return id == DefinitionKeyIndex.UNKNOWN_ID ? null : this.entriesById.get(id);
+    }
+
+    private DefinitionEntry getOrCreateEntry(ResolvedType javaType, CustomDefinitionProviderV2 ignoredDefinitionProvider) {
+        int id = this.keyIndex.getOrAssignId(javaType, ignoredDefinitionProvider);
+        if (id == this.entriesById.size()) {
+            this.entriesById.add(new DefinitionEntry(this.keyIndex.getKey(id)));
+        }
+        return this.entriesById.get(id);
     }
 
     /* * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * * *
@@ -288,22 +392,54 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
      */
     private void traverseGenericType(ObjectNode targetNode, GenericTypeDetails typeDetails) {
         ResolvedType targetType = typeDetails.getScope().getType();
+        DefinitionEntry entry = this.getOrCreateEntry(targetType, typeDetails.getIgnoredDefinitionProvider());
+        DefinitionEntry dependentEntry = this.entriesInProgress.peek();
+        if (dependentEntry == null) {
+            this.rootEntries.add(entry);
+        } else if (dependentEntry != entry) {
+            dependentEntry.dependencies.add(entry);
+        }
+        if (this.isCircularInlineDefinition(entry, targetNode)) {
+            throw new IllegalArgumentException("Option.INLINE_ALL_SCHEMAS cannot be fulfilled due to a circular reference to "
+                    + this.typeContext.getFullTypeDescription(targetType));
+        }
         if (shouldAddReferenceForExistingDefinition(typeDetails)) {
             logger.debug("adding reference to existing definition of {}", targetType);
             this.addReference(targetType, targetNode, typeDetails.getIgnoredDefinitionProvider(), typeDetails.isNullable());
             // nothing more to be done
             return;
         }
+        if (!this.limitGuard.enterType(targetType, this.definedKeys.size())) {
+            if (targetNode == null) {
+                // the main schema "#" still requires a definition to refer to
+                this.putDefinition(targetType, this.generatorConfig.createObjectNode(), typeDetails.getIgnoredDefinitionProvider());
+            }
+            // leave the target node empty as placeholder
+            return;
+        }
+        this.entriesInProgress.push(entry);
+        try {
+            this.traverseGenericTypeWithinLimits(targetNode, typeDetails);
+        } finally {
+            this.entriesInProgress.pop();
+            this.limitGuard.exitType();
+        }
+    }
+
+    private void traverseGenericTypeWithinLimits(ObjectNode targetNode, GenericTypeDetails typeDetails) {
+        ResolvedType targetType = typeDetails.getScope().getType();
+        this.traversedTypes.add(targetType);
         final Map.Entry<ObjectNode, Boolean> definitionAndTypeAttributeInclusionFlag;
         final CustomDefinition customDefinition = this.generatorConfig.getCustomDefinition(targetType, this,
                 typeDetails.getIgnoredDefinitionProvider());
         if (customDefinition == null) {
             // always inline array types
             GenericTypeDetails typeDetailsWithInlineArrays = typeDetails.withAlternativeReasonToInline(
-                    this.typeContext.isContainerType(targetType) && targetNode != null);
+                    (this.inlineAllSchemas || this.typeContext.isContainerType(targetType)) && targetNode != null);
             definitionAndTypeAttributeInclusionFlag = this.applyStandardDefinition(targetNode, typeDetailsWithInlineArrays);
         } else {
-            GenericTypeDetails typeDetailsWithCustomPreference = typeDetails.withAlternativeReasonToInline(customDefinition.isMeantToBeInline());
+            GenericTypeDetails typeDetailsWithCustomPreference = typeDetails.withAlternativeReasonToInline(customDefinition.isMeantToBeInline()
+                    || this.inlineAllSchemas && targetNode != null && !customDefinition.shouldAlwaysProduceDefinition());
             definitionAndTypeAttributeInclusionFlag = this.applyCustomDefinition(customDefinition, targetNode, typeDetailsWithCustomPreference);
         }
         final ObjectNode definition = definitionAndTypeAttributeInclusionFlag.getKey();
@@ -320,6 +456,18 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
                 .forEach(override -> override.overrideTypeAttributes(definition, typeDetails.getScope(), this));
     }
 
+    /**
+     * Check whether the given type is about to be written directly into a target node, while it is still being traversed further up, i.e., it would
+     * be included endlessly when {@link Option#INLINE_ALL_SCHEMAS} is enabled.
+     *
+     * @param entry entry of the type about to be traversed
+     * @param targetNode node in the JSON schema that should represent the type
+     * @return whether the given type is circularly referencing itself
+     */
+    private boolean isCircularInlineDefinition(DefinitionEntry entry, ObjectNode targetNode) {
+        return this.inlineAllSchemas && targetNode != null && !entry.neverInlined && this.entriesInProgress.contains(entry);
+    }
+
     private boolean shouldAddReferenceForExistingDefinition(GenericTypeDetails typeDetails) {
         return !typeDetails.isInlineDefinition()
                 && this.containsDefinition(typeDetails.getScope().getType(), typeDetails.getIgnoredDefinitionProvider());
@@ -372,6 +520,10 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
         } else {
             logger.debug("generating definition for {}", targetType);
             includeTypeAttributes = !this.addSubtypeReferencesInDefinition(targetType, definition);
+            if (typeDetails.isInlineDefinition() && typeDetails.isNullable()) {
+                // only applicable with Option.INLINE_ALL_SCHEMAS, otherwise there would be a nullable reference instead
+                this.makeNullable(definition);
+            }
         }
         return new AbstractMap.SimpleEntry<>(definition, includeTypeAttributes);
     }
@@ -455,12 +607,14 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
     private void generateObjectDefinition(ResolvedType targetType, ObjectNode definition) {
         definition.put(this.getKeyword(SchemaKeyword.TAG_TYPE), this.getKeyword(SchemaKeyword.TAG_TYPE_OBJECT));
 
-        MemberCollectionContextImpl memberCollectionContext = new MemberCollectionContextImpl(targetType, this.generatorConfig, this.typeContext);
-        memberCollectionContext.collectProperties();
+        MemberCollectionCache.CollectedMembers collectedMembers = this.generatorConfig.shouldReuseCollectedMembers()
+                ? this.typeContext.getConfigBoundCache(this.generatorConfig, MemberCollectionCache.class, MemberCollectionCache::new)
+                        .getCollectedMembers(targetType, this.generatorConfig, this.typeContext)
+                : MemberCollectionCache.collectMembers(targetType, this.generatorConfig, this.typeContext);
 
-        List<MemberScope<?, ?>> sortedProperties = memberCollectionContext.getSortedProperties();
+        List<MemberScope<?, ?>> sortedProperties = this.limitGuard.limitProperties(targetType, collectedMembers.getSortedProperties());
         if (!sortedProperties.isEmpty()) {
-            this.addPropertiesToDefinition(definition, sortedProperties, memberCollectionContext.getRequiredPropertyNames());
+            this.addPropertiesToDefinition(definition, sortedProperties, collectedMembers.getRequiredPropertyNames());
         }
     }
 
@@ -844,4 +998,21 @@ public class SchemaGenerationContextImpl implements SchemaGenerationContext {
             return this.ignoredDefinitionProvider;
         }
     }
+
+    /**
+     * Everything collected for a single definition key.
+     */
+    private static class DefinitionEntry {
+
+        private final DefinitionKey key;
+        private ObjectNode definition;
+        private final List<ObjectNode> references = new ArrayList<>();
+        private final List<ObjectNode> nullableReferences = new ArrayList<>();
+        private boolean neverInlined;
+        private final Set<DefinitionEntry> dependencies = new LinkedHashSet<>();
+
+        DefinitionEntry(DefinitionKey key) {
+            this.key = key;
+        }
+    }
 }
@@ -24,16 +24,19 @@ import com.github.victools.jsonschema.generator.CustomPropertyDefinition;
 import com.github.victools.jsonschema.generator.CustomPropertyDefinitionProvider;
 import com.github.victools.jsonschema.generator.FieldScope;
 import com.github.victools.jsonschema.generator.InstanceAttributeOverrideV2;
+import com.github.victools.jsonschema.generator.KeyedPropertySorter;
 import com.github.victools.jsonschema.generator.MemberScope;
 import com.github.victools.jsonschema.generator.MethodScope;
 import com.github.victools.jsonschema.generator.Option;
 import com.github.victools.jsonschema.generator.SchemaGenerationContext;
+import com.github.victools.jsonschema.generator.SchemaGenerationLimits;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfigPart;
 import com.github.victools.jsonschema.generator.SchemaGeneratorGeneralConfigPart;
 import com.github.victools.jsonschema.generator.SchemaKeyword;
 import com.github.victools.jsonschema.generator.SchemaVersion;
 import com.github.victools.jsonschema.generator.TypeAttributeOverrideV2;
+import com.github.victools.jsonschema.generator.TypeContext;
 import com.github.victools.jsonschema.generator.TypeScope;
 import com.github.victools.jsonschema.generator.naming.SchemaDefinitionNamingStrategy;
 import java.lang.annotation.Annotation;
@@ -45,6 +48,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.WeakHashMap;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.node.ArrayNode;
@@ -55,13 +59,31 @@ import tools.jackson.databind.node.ObjectNode;
  */
 public class SchemaGeneratorConfigImpl implements SchemaGeneratorConfig {
 
+    /**
+     * Whether a {@link KeyedPropertySorter} implementation still relies on its sort keys, i.e., it does not override the default
+     * {@link KeyedPropertySorter#compare(MemberScope, MemberScope) compare()} implementation (e.g., in a subclass of a keyed sorter).
+     */
+    private static final ClassValue<Boolean> KEYED_SORTING_APPLICABLE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> sorterType) {
+            try {
+                return sorterType.getMethod("compare", MemberScope.class, MemberScope.class).getDeclaringClass() == KeyedPropertySorter.class;
+            } catch (NoSuchMethodException ex) {
+                return Boolean.FALSE;
+            }
+        }
+    };
+
     private final ObjectMapper objectMapper;
     private final SchemaVersion schemaVersion;
+    private final SchemaKeywordTable keywordTable;
     private final Set<Option> enabledOptions;
     private final SchemaGeneratorGeneralConfigPart typesInGeneralConfigPart;
     private final SchemaGeneratorConfigPart<FieldScope> fieldConfigPart;
     private final SchemaGeneratorConfigPart<MethodScope> methodConfigPart;
     private final Map<Class<? extends Annotation>, AnnotationInclusion> annotationInclusionOverrides;
+    private volatile CustomDefinitionProviderIndex customDefinitionProviderIndex;
+    private final Map<TypeContext, ClassBoundCache<DefinitionKey, String>> definitionNameCaches = new WeakHashMap<>();
 
     /**
      * Constructor of a configuration instance.
@@ -79,6 +101,7 @@ public class SchemaGeneratorConfigImpl implements SchemaGeneratorConfig {
             SchemaGeneratorConfigPart<MethodScope> methodConfigPart, Map<Class<? extends Annotation>, AnnotationInclusion> inclusionOverrides) {
         this.objectMapper = objectMapper;
         this.schemaVersion = schemaVersion;
+        this.keywordTable = SchemaKeywordTable.forVersion(schemaVersion);
         this.enabledOptions = enabledOptions;
         this.typesInGeneralConfigPart = typesInGeneralConfigPart;
         this.fieldConfigPart = fieldConfigPart;
@@ -86,6 +109,21 @@ public class SchemaGeneratorConfigImpl implements SchemaGeneratorConfig {
         this.annotationInclusionOverrides = inclusionOverrides;
     }
 
+    /**
+     * Look-up the cache of definition names per definition key, to be re-used across schema generations with this configuration. This should only
+     * be used if the applied {@link SchemaDefinitionNamingStrategy} is {@link SchemaDefinitionNamingStrategy#isCacheable() cacheable}.
+     *
+     * @param typeContext type context being used during the schema generation
+     * @return cache instance specific to the given type context
+     * @since 5.1.0
+     */
+    public ClassBoundCache<DefinitionKey, String> getDefinitionNameCache(TypeContext typeContext) {
+        synchronized (this.definitionNameCaches) {
+            return this.definitionNameCaches.computeIfAbsent(typeContext, _key -> new ClassBoundCache<>(
+                    definitionKey -> ClassBoundCache.getOwningClass(definitionKey.getType().getErasedType(), definitionKey.getType())));
+        }
+    }
+
     @Override
     public void resetAfterSchemaGenerationFinished() {
         this.typesInGeneralConfigPart.resetAfterSchemaGenerationFinished();
@@ -110,7 +148,7 @@ public class SchemaGeneratorConfigImpl implements SchemaGeneratorConfig {
 
     @Override
     public String getKeyword(SchemaKeyword keyword) {
-        return keyword.forVersion(this.getSchemaVersion());
+        return this.keywordTable.getKeyword(keyword);
     }
 
     @Override
@@ -173,6 +211,16 @@ public class SchemaGeneratorConfigImpl implements SchemaGeneratorConfig {
         return this.isOptionEnabled(Option.STRICT_TYPE_INFO);
     }
 
+    @Override
+    public boolean shouldHoistRepeatedSubschemas() {
+        return this.isOptionEnabled(Option.HOIST_REPEATED_SUBSCHEMAS);
+    }
+
+    @Override
+    public boolean shouldReuseCollectedMembers() {
+        return this.isOptionEnabled(Option.REUSE_COLLECTED_MEMBERS);
+    }
+
     @Override
     public boolean shouldIncludeStaticFields() {
         return this.isOptionEnabled(Option.PUBLIC_STATIC_FIELDS) || this.isOptionEnabled(Option.NONPUBLIC_STATIC_FIELDS);
@@ -228,11 +276,25 @@ public class SchemaGeneratorConfigImpl implements SchemaGeneratorConfig {
         return this.typesInGeneralConfigPart.getPropertySorter().compare(first, second);
     }
 
+    @Override
+    public List<MemberScope<?, ?>> sortProperties(Collection<? extends MemberScope<?, ?>> properties) {
+        if (this.typesInGeneralConfigPart.getPropertySorter() instanceof KeyedPropertySorter<?> keyedSorter
+                && KEYED_SORTING_APPLICABLE.get(keyedSorter.getClass())) {
+            return keyedSorter.sort(properties);
+        }
+        return SchemaGeneratorConfig.super.sortProperties(properties);
+    }
+
     @Override
     public SchemaDefinitionNamingStrategy getDefinitionNamingStrategy() {
         return this.typesInGeneralConfigPart.getDefinitionNamingStrategy();
     }
 
+    @Override
+    public SchemaGenerationLimits getGenerationLimits() {
+        return this.typesInGeneralConfigPart.getGenerationLimits();
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <M extends MemberScope<?, ?>> CustomPropertyDefinition getCustomDefinition(M scope, SchemaGenerationContext context,
@@ -282,14 +344,18 @@ public class SchemaGeneratorConfigImpl implements SchemaGeneratorConfig {
     @Override
     public CustomDefinition getCustomDefinition(ResolvedType javaType, SchemaGenerationContext context,
             CustomDefinitionProviderV2 ignoredDefinitionProvider) {
+        return this.getCustomDefinitionProviderIndex().getCustomDefinition(javaType, context, ignoredDefinitionProvider);
+    }
+
+    private CustomDefinitionProviderIndex getCustomDefinitionProviderIndex() {
         final List<CustomDefinitionProviderV2> providers = this.typesInGeneralConfigPart.getCustomDefinitionProviders();
-        int providerCountToIgnore = 1 + providers.indexOf(ignoredDefinitionProvider);
-        return providers.stream()
-                .skip(providerCountToIgnore)
-                .map(provider -> provider.provideCustomSchemaDefinition(javaType, context))
-                .filter(Objects::nonNull)
-                .findFirst()
-                .orElse(null);
+        CustomDefinitionProviderIndex index = this.customDefinitionProviderIndex;
+        // providers can only ever be added to the config part, i.e., a different number indicates a change after the index was created
+        if (index == null || index.getProviderCount() != providers.size()) {
+            index = new CustomDefinitionProviderIndex(providers);
+            this.customDefinitionProviderIndex = index;
+        }
+        return index;
     }
 
     @Override
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.github.victools.jsonschema.generator.SchemaKeyword;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable look-up of all {@link SchemaKeyword} values for a single {@link SchemaVersion}, being determined only once per version.
+ *
+ * @since 5.1.0
+ */
+public final class SchemaKeywordTable {
+
+    private static final Map<SchemaVersion, SchemaKeywordTable> TABLES_PER_VERSION = createTables();
+
+    private final String[] keywords;
+    private final Map<String, SchemaKeyword> reverseTagMap;
+    private final Map<String, SchemaKeyword> reverseTagMapWithImpliedTypes;
+    private final Map<SchemaKeyword.TagContent, Set<String>> tagNamesPerContentType;
+
+    /**
+     * Constructor.
+     *
+     * @param version schema version to look-up all keywords for
+     */
+    private SchemaKeywordTable(SchemaVersion version) {
+        SchemaKeyword[] allKeywords = SchemaKeyword.values();
+        this.keywords = new String[allKeywords.length];
+        for (SchemaKeyword keyword : allKeywords) {
+            // interning the keywords, to re-use the same instances as field names in all generated schemas
+            this.keywords[keyword.ordinal()] = keyword.forVersion(version).intern();
+        }
+        this.reverseTagMap = Collections.unmodifiableMap(SchemaKeyword.getReverseTagMap(version, _tag -> true));
+        this.reverseTagMapWithImpliedTypes = Collections.unmodifiableMap(
+                SchemaKeyword.getReverseTagMap(version, tag -> !tag.getImpliedTypes().isEmpty()));
+        this.tagNamesPerContentType = new EnumMap<>(SchemaKeyword.TagContent.class);
+        for (SchemaKeyword.TagContent contentType : SchemaKeyword.TagContent.values()) {
+            this.tagNamesPerContentType.put(contentType, Collections.unmodifiableSet(
+                    SchemaKeyword.getReverseTagMap(version, tag -> tag.supportsContentType(contentType)).keySet()));
+        }
+    }
+
+    private static Map<SchemaVersion, SchemaKeywordTable> createTables() {
+        Map<SchemaVersion, SchemaKeywordTable> tables = new EnumMap<>(SchemaVersion.class);
+        for (SchemaVersion version : SchemaVersion.values()) {
+            tables.put(version, new SchemaKeywordTable(version));
+        }
+        return tables;
+    }
+
+    /**
+     * Look-up the keyword table for the given schema version.
+     *
+     * @param version schema version to look-up the keyword table for
+     * @return keyword table
+     */
+    public static SchemaKeywordTable forVersion(SchemaVersion version) {
+        return TABLES_PER_VERSION.get(version);
+    }
+
+    /**
+     * Look-up the tag name/value of the given keyword.
+     *
+     * @param keyword keyword to look-up
+     * @return tag name/value (always the same instance for the same keyword)
+     * @see SchemaKeyword#forVersion(SchemaVersion)
+     */
+    public String getKeyword(SchemaKeyword keyword) {
+        return this.keywords[keyword.ordinal()];
+    }
+
+    /**
+     * Getter for the mapping of all keywords representing a schema tag/property by their tag name.
+     *
+     * @return unmodifiable mapping of schema tag/property name to its corresponding tag
+     * @see SchemaKeyword#getReverseTagMap(SchemaVersion, java.util.function.Predicate)
+     */
+    public Map<String, SchemaKeyword> getReverseTagMap() {
+        return this.reverseTagMap;
+    }
+
+    /**
+     * Getter for the mapping of all keywords representing a schema tag/property, that imply a particular {@link SchemaKeyword#TAG_TYPE} value.
+     *
+     * @return unmodifiable mapping of schema tag/property name to its corresponding tag
+     * @see SchemaKeyword#getImpliedTypes()
+     */
+    public Map<String, SchemaKeyword> getReverseTagMapWithImpliedTypes() {
+        return this.reverseTagMapWithImpliedTypes;
+    }
+
+    /**
+     * Getter for the names of schema tags that may contain the given type of content.
+     *
+     * @param contentType targeted type of content that can be expected under a returned tag
+     * @return unmodifiable set of eligible tag names
+     */
+    public Set<String> getTagNamesSupporting(SchemaKeyword.TagContent contentType) {
+        return this.tagNamesPerContentType.get(contentType);
+    }
+}
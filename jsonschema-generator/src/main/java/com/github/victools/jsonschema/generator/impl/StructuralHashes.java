@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Structural hash codes of schema nodes, for short-circuiting the deep equality checks performed during the clean-up of generated schemas.
+ * <br>
+ * Hash codes are being computed bottom-up and cached by identity. Arrays only containing values (e.g., {@code "enum"} or {@code "required"}) are
+ * not being modified in place by any of the clean-up steps, i.e., their hash codes remain cached. All other container nodes (i.e., object nodes
+ * and arrays of schemas) may be modified in place, so their cached hash codes need to be discarded via {@link #forgetModifiableNodeHashes()}
+ * whenever a clean-up step is about to modify any node.
+ *
+ * @since 5.1.0
+ */
+final class StructuralHashes {
+
+    private final Map<JsonNode, Integer> cachedValueArrayHashes = new IdentityHashMap<>();
+    private final Map<JsonNode, Integer> cachedModifiableNodeHashes = new IdentityHashMap<>();
+
+    /**
+     * Check whether the two given nodes are equal, only falling back on the deep {@link JsonNode#equals(Object)} check if their structural hash
+     * codes match.
+     *
+     * @param one first node to compare (may be {@code null})
+     * @param two second node to compare (may be {@code null})
+     * @return whether both nodes are equal
+     */
+    boolean areEqual(JsonNode one, JsonNode two) {
+        if (one == two) {
+            return true;
+        }
+        if (one == null || two == null) {
+            return false;
+        }
+        return this.getHash(one) == this.getHash(two) && one.equals(two);
+    }
+
+    /**
+     * Determine the structural hash code of the given node, being consistent with {@link JsonNode#equals(Object)}.
+     *
+     * @param node node to determine hash code for
+     * @return structural hash code
+     */
+    int getHash(JsonNode node) {
+        if (!node.isContainer()) {
+            return node.hashCode();
+        }
+        Integer cachedHash = this.cachedValueArrayHashes.get(node);
+        if (cachedHash == null) {
+            cachedHash = this.cachedModifiableNodeHashes.get(node);
+        }
+        if (cachedHash != null) {
+            return cachedHash;
+        }
+        return node.isArray() ? this.calculateArrayHash(node) : this.calculateObjectHash(node);
+    }
+
+    private int calculateObjectHash(JsonNode objectNode) {
+        // property order is irrelevant for the equality of object nodes
+        int hash = 0;
+        for (Map.Entry<String, JsonNode> property : objectNode.properties()) {
+            hash += property.getKey().hashCode() ^ this.getHash(property.getValue());
+        }
+        this.cachedModifiableNodeHashes.put(objectNode, hash);
+        return hash;
+    }
+
+    private int calculateArrayHash(JsonNode arrayNode) {
+        int hash = 1;
+        boolean onlyContainingValues = true;
+        for (JsonNode item : arrayNode) {
+            hash = 31 * hash + this.getHash(item);
+            onlyContainingValues = onlyContainingValues && (!item.isContainer() || this.cachedValueArrayHashes.containsKey(item));
+        }
+        if (onlyContainingValues) {
+            this.cachedValueArrayHashes.put(arrayNode, hash);
+        } else {
+            this.cachedModifiableNodeHashes.put(arrayNode, hash);
+        }
+        return hash;
+    }
+
+    /**
+     * Discard the cached hash codes of all nodes that may be modified in place, i.e., object nodes and arrays of schemas.
+     */
+    void forgetModifiableNodeHashes() {
+        this.cachedModifiableNodeHashes.clear();
+    }
+
+    /**
+     * Getter for the number of nodes, whose hash codes have been cached.
+     *
+     * @return number of cached hash codes
+     */
+    int getCachedHashCount() {
+        return this.cachedValueArrayHashes.size() + this.cachedModifiableNodeHashes.size();
+    }
+}
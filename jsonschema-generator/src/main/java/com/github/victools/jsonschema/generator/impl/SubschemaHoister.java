@@ -0,0 +1,262 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.github.victools.jsonschema.generator.SchemaKeyword;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Clean-up step moving repeated inline sub-schemas into the common definitions, replacing each occurrence with a reference to it.
+ * <br>
+ * All (sub) schemas are being hash-consed in a single pass, i.e., each distinct JSON structure gets an ID assigned based on the IDs of its children
+ * (regardless of the order of object properties). Afterwards, the number of times each structure would end up in the output is being determined
+ * top-down, in order to not hoist sub-schemas that are only repeated within another sub-schema that is being hoisted itself.
+ *
+ * @since 5.1.0
+ */
+final class SubschemaHoister {
+
+    /**
+     * Minimum number of occurrences of a sub-schema for it to be hoisted.
+     */
+    static final int MIN_OCCURRENCES = 2;
+    /**
+     * Minimum number of JSON values (including the sub-schema itself and all nested values) for a sub-schema to be hoisted.
+     */
+    static final int MIN_WEIGHT = 5;
+    /**
+     * Prefix of the names of the additional definitions, being followed by a sequential number.
+     */
+    static final String DEFINITION_NAME_PREFIX = "subschema-";
+
+    private final Set<String> tagsWithSchemas;
+    private final Set<String> tagsWithSchemaArrays;
+    private final Set<String> tagsWithSchemaObjects;
+    private final String refKeyword;
+    private final ObjectNode definitionsNode;
+    private final String referenceKeyPrefix;
+
+    private final Map<String, Integer> idsByStructureKey = new HashMap<>();
+    private final Map<JsonNode, Integer> idsBySchemaNode = new IdentityHashMap<>();
+    private final List<Structure> structuresById = new ArrayList<>();
+    private int definitionCounter;
+
+    /**
+     * Constructor.
+     *
+     * @param keywordTable keywords of the designated schema version
+     * @param definitionsNode common definitions, to which the hoisted sub-schemas should be added
+     * @param referenceKeyPrefix designated prefix to the entries in the definitions node (i.e., on {@link SchemaKeyword#TAG_REF} values)
+     */
+    SubschemaHoister(SchemaKeywordTable keywordTable, ObjectNode definitionsNode, String referenceKeyPrefix) {
+        this.tagsWithSchemas = keywordTable.getTagNamesSupporting(SchemaKeyword.TagContent.SCHEMA);
+        this.tagsWithSchemaArrays = keywordTable.getTagNamesSupporting(SchemaKeyword.TagContent.ARRAY_OF_SCHEMAS);
+        this.tagsWithSchemaObjects = keywordTable.getTagNamesSupporting(SchemaKeyword.TagContent.NAMED_SCHEMAS);
+        this.refKeyword = keywordTable.getKeyword(SchemaKeyword.TAG_REF);
+        this.definitionsNode = definitionsNode;
+        this.referenceKeyPrefix = referenceKeyPrefix;
+    }
+
+    /**
+     * Hoist the repeated sub-schemas within the given schemas, which are not being hoisted themselves (e.g., as they are already common definitions).
+     *
+     * @param jsonSchemas generated schemas to hoist repeated sub-schemas from
+     */
+    void hoistRepeatedSubschemas(List<ObjectNode> jsonSchemas) {
+        for (ObjectNode schemaNode : jsonSchemas) {
+            int id = this.intern(schemaNode, SchemaKeyword.TagContent.SCHEMA, null);
+            this.structuresById.get(id).rootCount++;
+        }
+        this.determineStructuresToHoist();
+        jsonSchemas.forEach(this::hoistFromChildren);
+    }
+
+    /**
+     * Assign an ID to the given node's structure, collecting the IDs of any contained sub-schemas.
+     *
+     * @param node JSON node to assign ID to
+     * @param contentType expected content of the given node
+     * @param enclosingSchemaChildIds IDs of the sub-schemas within the enclosing schema, to add this node's ID to if it is a sub-schema itself
+     * @return assigned ID
+     */
+    private int intern(JsonNode node, SchemaKeyword.TagContent contentType, List<Integer> enclosingSchemaChildIds) {
+        boolean isSchema = contentType == SchemaKeyword.TagContent.SCHEMA && node instanceof ObjectNode;
+        List<Integer> schemaChildIds = isSchema ? new ArrayList<>() : null;
+        StringBuilder structureKey = new StringBuilder();
+        final int weight;
+        if (node instanceof ObjectNode objectNode) {
+            weight = this.appendObjectStructureKey(objectNode, contentType,
+                    contentType == SchemaKeyword.TagContent.NAMED_SCHEMAS ? enclosingSchemaChildIds : schemaChildIds, structureKey);
+        } else if (node instanceof ArrayNode arrayNode) {
+            weight = this.appendArrayStructureKey(arrayNode, contentType, enclosingSchemaChildIds, structureKey);
+        } else {
+            structureKey.append(node.getNodeType()).append(':').append(node.toString());
+            weight = 1;
+        }
+        int id = this.idsByStructureKey.computeIfAbsent(structureKey.toString(), _key -> {
+            this.structuresById.add(new Structure(weight));
+            return this.structuresById.size() - 1;
+        });
+        if (isSchema) {
+            this.structuresById.get(id).schemaChildIds = schemaChildIds;
+            this.idsBySchemaNode.put(node, id);
+            if (enclosingSchemaChildIds != null) {
+                enclosingSchemaChildIds.add(id);
+            }
+        }
+        return id;
+    }
+
+    private int appendObjectStructureKey(ObjectNode objectNode, SchemaKeyword.TagContent contentType, List<Integer> schemaChildIds,
+            StringBuilder structureKey) {
+        int weight = 1;
+        List<String> propertyKeys = new ArrayList<>(objectNode.size());
+        for (Map.Entry<String, JsonNode> property : objectNode.properties()) {
+            if (property.getValue() == this.definitionsNode) {
+                continue;
+            }
+            int propertyId = this.intern(property.getValue(), this.getPropertyContentType(contentType, property), schemaChildIds);
+            weight += this.structuresById.get(propertyId).weight;
+            // the order of properties is irrelevant for the equality of two objects
+            propertyKeys.add(property.getKey().length() + ":" + property.getKey() + '=' + propertyId);
+        }
+        propertyKeys.sort(null);
+        structureKey.append('{');
+        propertyKeys.forEach(propertyKey -> structureKey.append(propertyKey).append(','));
+        structureKey.append('}');
+        return weight;
+    }
+
+    private int appendArrayStructureKey(ArrayNode arrayNode, SchemaKeyword.TagContent contentType, List<Integer> schemaChildIds,
+            StringBuilder structureKey) {
+        int weight = 1;
+        SchemaKeyword.TagContent itemContentType = contentType == SchemaKeyword.TagContent.ARRAY_OF_SCHEMAS
+                ? SchemaKeyword.TagContent.SCHEMA
+                : SchemaKeyword.TagContent.NON_SCHEMA;
+        structureKey.append('[');
+        for (JsonNode item : arrayNode) {
+            int itemId = this.intern(item, itemContentType, schemaChildIds);
+            weight += this.structuresById.get(itemId).weight;
+            structureKey.append(itemId).append(',');
+        }
+        structureKey.append(']');
+        return weight;
+    }
+
+    private SchemaKeyword.TagContent getPropertyContentType(SchemaKeyword.TagContent parentContentType, Map.Entry<String, JsonNode> property) {
+        if (parentContentType == SchemaKeyword.TagContent.NAMED_SCHEMAS) {
+            return SchemaKeyword.TagContent.SCHEMA;
+        }
+        if (parentContentType != SchemaKeyword.TagContent.SCHEMA) {
+            return SchemaKeyword.TagContent.NON_SCHEMA;
+        }
+        String tagName = property.getKey();
+        JsonNode value = property.getValue();
+        if (value instanceof ArrayNode) {
+            return this.tagsWithSchemaArrays.contains(tagName) ? SchemaKeyword.TagContent.ARRAY_OF_SCHEMAS : SchemaKeyword.TagContent.NON_SCHEMA;
+        }
+        if (this.tagsWithSchemas.contains(tagName)) {
+            return SchemaKeyword.TagContent.SCHEMA;
+        }
+        return this.tagsWithSchemaObjects.contains(tagName) ? SchemaKeyword.TagContent.NAMED_SCHEMAS : SchemaKeyword.TagContent.NON_SCHEMA;
+    }
+
+    /**
+     * Determine which sub-schemas should be hoisted, by going through all distinct structures from the outside in. A structure's ID is always greater
+     * than those of its children, as they are being assigned after all children were visited.
+     */
+    private void determineStructuresToHoist() {
+        for (int id = this.structuresById.size() - 1; id >= 0; id--) {
+            Structure structure = this.structuresById.get(id);
+            if (structure.schemaChildIds == null) {
+                continue;
+            }
+            structure.hoisted = structure.inlineCount >= MIN_OCCURRENCES && structure.weight >= MIN_WEIGHT;
+            int outputCount = structure.rootCount + (structure.hoisted ? 1 : structure.inlineCount);
+            for (int childId : structure.schemaChildIds) {
+                this.structuresById.get(childId).inlineCount += outputCount;
+            }
+        }
+    }
+
+    private void hoistFromChildren(ObjectNode schemaNode) {
+        for (Map.Entry<String, JsonNode> property : schemaNode.properties()) {
+            if (property.getValue() == this.definitionsNode) {
+                continue;
+            }
+            SchemaKeyword.TagContent contentType = this.getPropertyContentType(SchemaKeyword.TagContent.SCHEMA, property);
+            if (contentType == SchemaKeyword.TagContent.SCHEMA) {
+                this.hoistIfRepeated(property.getValue());
+            } else if (contentType != SchemaKeyword.TagContent.NON_SCHEMA) {
+                property.getValue().forEach(this::hoistIfRepeated);
+            }
+        }
+    }
+
+    private void hoistIfRepeated(JsonNode node) {
+        Integer id = this.idsBySchemaNode.get(node);
+        if (id == null) {
+            return;
+        }
+        ObjectNode schemaNode = (ObjectNode) node;
+        Structure structure = this.structuresById.get(id);
+        if (!structure.hoisted) {
+            this.hoistFromChildren(schemaNode);
+            return;
+        }
+        if (structure.definitionName == null) {
+            this.hoistFromChildren(schemaNode);
+            structure.definitionName = this.createDefinitionName();
+            this.definitionsNode.set(structure.definitionName, schemaNode.deepCopy());
+        }
+        schemaNode.removeAll();
+        schemaNode.put(this.refKeyword, this.referenceKeyPrefix + structure.definitionName);
+    }
+
+    private String createDefinitionName() {
+        String definitionName;
+        do {
+            this.definitionCounter++;
+            definitionName = DEFINITION_NAME_PREFIX + this.definitionCounter;
+        } while (this.definitionsNode.has(definitionName));
+        return definitionName;
+    }
+
+    /**
+     * Details of a single distinct JSON structure.
+     */
+    private static class Structure {
+        private final int weight;
+        private List<Integer> schemaChildIds;
+        private int rootCount;
+        private int inlineCount;
+        private boolean hoisted;
+        private String definitionName;
+
+        Structure(int weight) {
+            this.weight = weight;
+        }
+    }
+}
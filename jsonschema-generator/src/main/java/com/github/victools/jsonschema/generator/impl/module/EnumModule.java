@@ -18,6 +18,7 @@ package com.github.victools.jsonschema.generator.impl.module;
 
 import com.fasterxml.classmate.ResolvedType;
 import com.github.victools.jsonschema.generator.CustomDefinition;
+import com.github.victools.jsonschema.generator.CustomDefinitionApplicability;
 import com.github.victools.jsonschema.generator.CustomDefinitionProviderV2;
 import com.github.victools.jsonschema.generator.MethodScope;
 import com.github.victools.jsonschema.generator.Module;
@@ -157,5 +158,16 @@ public class EnumModule implements Module {
             }
             return null;
         }
+
+        @Override
+        public CustomDefinitionApplicability getApplicability() {
+            return new CustomDefinitionApplicability()
+                    .withSupertypes(Enum.class);
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
     }
 }
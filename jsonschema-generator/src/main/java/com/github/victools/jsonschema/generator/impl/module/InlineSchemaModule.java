@@ -27,8 +27,11 @@ import java.util.Deque;
 import tools.jackson.databind.node.ObjectNode;
 
 /**
- * Default module being included if {@code Option.INLINE_ALL_SCHEMAS} is enabled.
+ * Module for defining all sub-schemas in-line, as previously being included if {@code Option.INLINE_ALL_SCHEMAS} was enabled.
+ *
+ * @deprecated {@code Option.INLINE_ALL_SCHEMAS} is being handled directly during the schema generation, without this module
  */
+@Deprecated
 public class InlineSchemaModule implements Module, CustomDefinitionProviderV2 {
 
     private final ThreadLocal<Deque<ResolvedType>> declaringTypes = ThreadLocal.withInitial(ArrayDeque::new);
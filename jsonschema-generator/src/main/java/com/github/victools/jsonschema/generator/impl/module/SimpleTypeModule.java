@@ -18,6 +18,7 @@ package com.github.victools.jsonschema.generator.impl.module;
 
 import com.fasterxml.classmate.ResolvedType;
 import com.github.victools.jsonschema.generator.CustomDefinition;
+import com.github.victools.jsonschema.generator.CustomDefinitionApplicability;
 import com.github.victools.jsonschema.generator.CustomDefinitionProviderV2;
 import com.github.victools.jsonschema.generator.MemberScope;
 import com.github.victools.jsonschema.generator.Module;
@@ -322,6 +323,17 @@ public class SimpleTypeModule implements Module {
             return new CustomDefinition(customSchema, CustomDefinition.DefinitionType.INLINE, CustomDefinition.AttributeInclusion.YES);
         }
 
+        @Override
+        public CustomDefinitionApplicability getApplicability() {
+            return new CustomDefinitionApplicability()
+                    .withTypes(SimpleTypeModule.this.fixedJsonSchemaTypes.keySet());
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return true;
+        }
+
         private boolean shouldAddFormatTag(final ResolvedType javaType, final SchemaGeneratorConfig config) {
             // either OpenAPI extra formats or standard-formats that are registered
             return config.shouldIncludeExtraOpenApiFormatValues()
@@ -33,7 +33,7 @@ public class CleanSchemaDefinitionNamingStrategy implements SchemaDefinitionNami
      * Constructor expecting a naming strategy to be wrapped and the applicable clean-up task.
      *
      * @param strategy definition naming strategy to be wrapped
-     * @param cleanUpTask task discarding/replacing illegal characters
+     * @param cleanUpTask task discarding/replacing illegal characters (expected to be a pure function, i.e., not affecting {@link #isCacheable()})
      */
     public CleanSchemaDefinitionNamingStrategy(SchemaDefinitionNamingStrategy strategy, Function<String, String> cleanUpTask) {
         this.strategy = strategy;
@@ -57,4 +57,9 @@ public class CleanSchemaDefinitionNamingStrategy implements SchemaDefinitionNami
         String output = this.strategy.adjustNullableName(key, definitionName, generationContext);
         return this.cleanUpTask.apply(output);
     }
+
+    @Override
+    public boolean isCacheable() {
+        return this.strategy.isCacheable();
+    }
 }
@@ -33,4 +33,14 @@ public class DefaultSchemaDefinitionNamingStrategy implements SchemaDefinitionNa
         ResolvedType type = key.getType();
         return typeContext.getSimpleTypeDescription(type);
     }
+
+    /**
+     * Declare the definition names to be cacheable, unless this is a subclass (which would need to override this method to confirm it).
+     *
+     * @return whether this is exactly the default strategy
+     */
+    @Override
+    public boolean isCacheable() {
+        return this.getClass() == DefaultSchemaDefinitionNamingStrategy.class;
+    }
 }
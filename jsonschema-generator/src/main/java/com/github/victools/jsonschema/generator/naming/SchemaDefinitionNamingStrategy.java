@@ -68,4 +68,18 @@ public interface SchemaDefinitionNamingStrategy extends StatefulConfig {
     default String adjustNullableName(DefinitionKey key, String definitionName, SchemaGenerationContext generationContext) {
         return definitionName + "-nullable";
     }
+
+    /**
+     * Declare that {@link #getDefinitionNameForKey(DefinitionKey, SchemaGenerationContext) getDefinitionNameForKey()} is a pure function of the
+     * given key, the generator configuration and the type context. Its result may then be re-used for the same key in all subsequent schema
+     * generations with the same configuration.
+     * <br>
+     * A cacheable strategy must neither hold any state nor depend on which other types are being encountered during an ongoing schema generation.
+     *
+     * @return whether the returned definition names may be cached (default: {@code false})
+     * @since 5.1.0
+     */
+    default boolean isCacheable() {
+        return false;
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Test for the {@link CompactJsonNodeFactory} class.
+ */
+public class CompactJsonNodeFactoryTest {
+
+    private final CompactJsonNodeFactory compactFactory = new CompactJsonNodeFactory();
+
+    @Test
+    public void testGenerateSchema() {
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2020_12, OptionPreset.FULL_DOCUMENTATION);
+        ObjectNode expected = new SchemaGenerator(configBuilder.build()).generateSchema(TestClass.class);
+
+        ObjectNode result = new SchemaGenerator(configBuilder.withNodeFactory(this.compactFactory).build()).generateSchema(TestClass.class);
+        Assertions.assertEquals(expected, result);
+        Assertions.assertEquals(expected.toString(), result.toString());
+    }
+
+    @Test
+    public void testFieldOrderBeyondCompactSize() {
+        ObjectNode expected = JsonNodeFactory.instance.objectNode();
+        ObjectNode node = this.compactFactory.objectNode();
+        for (int index = CompactJsonNodeFactory.MAX_COMPACT_FIELD_COUNT + 2; index > 0; index--) {
+            expected.put("field" + index, index);
+            node.put("field" + index, index);
+            Assertions.assertEquals(expected.toString(), node.toString());
+        }
+        node.remove("field3");
+        expected.remove("field3");
+        Assertions.assertEquals(expected, node);
+        Assertions.assertEquals(expected.hashCode(), node.hashCode());
+    }
+
+    @Test
+    public void testEntryModifications() {
+        ObjectNode node = this.compactFactory.objectNode()
+                .put("a", 1)
+                .put("b", 2)
+                .put("c", 3);
+        node.put("b", 20);
+        Iterator<Map.Entry<String, JsonNode>> iterator = node.properties().iterator();
+        Map.Entry<String, JsonNode> firstEntry = iterator.next();
+        firstEntry.setValue(this.compactFactory.numberNode(10));
+        iterator.next();
+        iterator.remove();
+        Assertions.assertEquals("c", iterator.next().getKey());
+        Assertions.assertFalse(iterator.hasNext());
+        Assertions.assertEquals("{\"a\":10,\"c\":3}", node.toString());
+
+        node.removeAll();
+        Assertions.assertTrue(node.isEmpty());
+        Assertions.assertNull(node.get("a"));
+    }
+
+    private static class TestClass {
+        public String text;
+        public int number;
+        public List<TestClass> children;
+        public Map<String, Double> values;
+    }
+}
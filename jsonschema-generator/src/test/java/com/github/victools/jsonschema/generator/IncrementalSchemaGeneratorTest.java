@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import com.fasterxml.classmate.ResolvedType;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Test for {@link IncrementalSchemaGenerator} class.
+ */
+public class IncrementalSchemaGeneratorTest {
+
+    private AtomicInteger generationCounter;
+    private SchemaGenerator generator;
+    private IncrementalSchemaGenerator instance;
+
+    @BeforeEach
+    public void setUp() {
+        this.generationCounter = new AtomicInteger();
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2020_12, OptionPreset.PLAIN_JSON);
+        configBuilder.forTypesInGeneral()
+                .withTitleResolver(scope -> {
+                    if (scope.getType().getErasedType() == TestClassA.class || scope.getType().getErasedType() == TestClassB.class) {
+                        this.generationCounter.incrementAndGet();
+                    }
+                    return null;
+                });
+        this.generator = new SchemaGenerator(configBuilder.build());
+        this.instance = new IncrementalSchemaGenerator(this.generator);
+    }
+
+    @Test
+    public void testGenerateSchema() {
+        ObjectNode expected = this.generator.generateSchema(TestClassA.class);
+        this.generationCounter.set(0);
+
+        ObjectNode result = this.instance.generateSchema(TestClassA.class);
+        Assertions.assertEquals(expected, result);
+        Assertions.assertEquals(1, this.generationCounter.get());
+        result.removeAll();
+        Assertions.assertEquals(expected, this.instance.generateSchema(TestClassA.class));
+        Assertions.assertEquals(1, this.generationCounter.get());
+    }
+
+    @Test
+    public void testRegenerate() {
+        this.instance.generateSchema(TestClassA.class);
+        this.instance.generateSchema(TestClassB.class);
+        this.instance.generateSchema(TestClassC.class);
+        Assertions.assertEquals(2, this.generationCounter.get());
+
+        Map<ResolvedType, ObjectNode> regenerated = this.instance.regenerate(Set.of(TestSuperClass.class));
+        Assertions.assertEquals(List.of(TestClassB.class), regenerated.keySet().stream().map(ResolvedType::getErasedType).toList());
+        Assertions.assertEquals(this.generator.generateSchema(TestClassB.class), regenerated.values().iterator().next());
+        this.generationCounter.set(0);
+
+        Set<ResolvedType> invalidated = this.instance.invalidate(Set.of(TestClassC.class));
+        Assertions.assertEquals(List.of(TestClassA.class, TestClassC.class), invalidated.stream().map(ResolvedType::getErasedType).toList());
+        Assertions.assertNull(this.instance.getTypeDependencyGraph(TestClassA.class));
+        Assertions.assertNotNull(this.instance.getTypeDependencyGraph(TestClassB.class));
+        this.instance.generateSchema(TestClassB.class);
+        Assertions.assertEquals(0, this.generationCounter.get());
+        this.instance.generateSchema(TestClassA.class);
+        Assertions.assertEquals(1, this.generationCounter.get());
+    }
+
+    @Test
+    public void testRegenerate_withCachedMembers() {
+        // a changing ignore check imitates a class being redefined in place, while its collected members are being cached
+        Set<String> ignoredFieldNames = new HashSet<>();
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2020_12, OptionPreset.PLAIN_JSON)
+                .with(Option.REUSE_COLLECTED_MEMBERS);
+        configBuilder.forFields()
+                .withIgnoreCheck(field -> ignoredFieldNames.contains(field.getName()));
+        IncrementalSchemaGenerator incrementalGenerator = new IncrementalSchemaGenerator(new SchemaGenerator(configBuilder.build()));
+        Assertions.assertTrue(incrementalGenerator.generateSchema(TestClassB.class).get("properties").has("text"));
+
+        ignoredFieldNames.add("text");
+        Map<ResolvedType, ObjectNode> regenerated = incrementalGenerator.regenerate(Set.of(TestClassB.class));
+        Assertions.assertFalse(regenerated.values().iterator().next().get("properties").has("text"));
+        Assertions.assertFalse(incrementalGenerator.generateSchema(TestClassB.class).get("properties").has("text"));
+    }
+
+    @Test
+    public void testRegenerate_withGeneratorFactory() {
+        AtomicInteger factoryCounter = new AtomicInteger();
+        IncrementalSchemaGenerator incrementalGenerator = new IncrementalSchemaGenerator(() -> {
+            factoryCounter.incrementAndGet();
+            return this.generator;
+        });
+        Assertions.assertEquals(1, factoryCounter.get());
+        incrementalGenerator.generateSchema(TestClassA.class);
+        incrementalGenerator.regenerate(Set.of(TestClassC.class));
+        Assertions.assertEquals(2, factoryCounter.get());
+    }
+
+    private static class TestClassA {
+        public List<TestClassC> items;
+    }
+
+    private static class TestSuperClass {
+        public int inheritedField;
+    }
+
+    private static class TestClassB extends TestSuperClass {
+        public String text;
+    }
+
+    private static class TestClassC {
+        public boolean flag;
+    }
+}
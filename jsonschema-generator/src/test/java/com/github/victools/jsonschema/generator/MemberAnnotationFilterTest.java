@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Test for the {@link MemberAnnotationFilter} class and its application via {@link SchemaGeneratorConfigBuilder#with(Module)}.
+ */
+public class MemberAnnotationFilterTest {
+
+    @Test
+    public void testGenerateSchema_resolversOnlyAppliedToAnnotatedMembers() {
+        Set<String> resolvedMembers = new HashSet<>();
+        Module module = new TestModule(resolvedMembers);
+        SchemaGeneratorConfig config = new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2020_12, OptionPreset.PLAIN_JSON)
+                .with(Option.NONSTATIC_NONVOID_NONGETTER_METHODS)
+                .with(module)
+                .build();
+        ObjectNode schema = new SchemaGenerator(config).generateSchema(TestClass.class);
+
+        Assertions.assertEquals(Set.of("annotatedField", "fieldWithAnnotatedGetter", "fieldWithTypeAnnotation", "fieldWithTypeAnnotation[]",
+                "metaAnnotatedField", "inheritedMethod()"), resolvedMembers);
+        JsonNode properties = schema.get(config.getKeyword(SchemaKeyword.TAG_PROPERTIES));
+        Assertions.assertEquals("annotatedField", properties.get("annotatedField").get(config.getKeyword(SchemaKeyword.TAG_DESCRIPTION))
+                .stringValue());
+        Assertions.assertNull(properties.get("plainField").get(config.getKeyword(SchemaKeyword.TAG_DESCRIPTION)));
+        Assertions.assertNull(properties.get("plainMethod()").get(config.getKeyword(SchemaKeyword.TAG_DESCRIPTION)));
+    }
+
+    @Test
+    public void testGenerateSchema_filterOnlyAppliedToDeclaringModule() {
+        AtomicInteger counter = new AtomicInteger();
+        SchemaGeneratorConfig config = new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2020_12, OptionPreset.PLAIN_JSON)
+                .with(builder -> builder.forFields().withDescriptionResolver(field -> {
+                    counter.incrementAndGet();
+                    return null;
+                }))
+                .with(new TestModule(new HashSet<>()))
+                .with(builder -> builder.forFields().withTitleResolver(field -> {
+                    counter.incrementAndGet();
+                    return null;
+                }))
+                .build();
+        new SchemaGenerator(config).generateSchema(TestClass.class);
+
+        // each of the five fields and the list item: once for the description and once for the title
+        Assertions.assertEquals(12, counter.get());
+    }
+
+    @Test
+    public void testResetAfterSchemaGenerationFinished_delegatedToFilteredResolver() {
+        AtomicInteger resetCounter = new AtomicInteger();
+        ConfigFunction<FieldScope, String> resolver = new ConfigFunction<>() {
+            @Override
+            public String apply(FieldScope target) {
+                return null;
+            }
+
+            @Override
+            public void resetAfterSchemaGenerationFinished() {
+                resetCounter.incrementAndGet();
+            }
+        };
+        SchemaGeneratorConfig config = new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2020_12, OptionPreset.PLAIN_JSON)
+                .with(new Module() {
+                    @Override
+                    public void applyToConfigBuilder(SchemaGeneratorConfigBuilder builder) {
+                        builder.forFields().withDescriptionResolver(resolver);
+                    }
+
+                    @Override
+                    public Collection<Class<? extends Annotation>> getRelevantMemberAnnotations() {
+                        return List.of(TestAnnotation.class);
+                    }
+                })
+                .build();
+        new SchemaGenerator(config).generateSchema(TestClass.class);
+
+        Assertions.assertEquals(1, resetCounter.get());
+    }
+
+    private static class TestModule implements Module {
+
+        private final Set<String> resolvedMembers;
+
+        TestModule(Set<String> resolvedMembers) {
+            this.resolvedMembers = resolvedMembers;
+        }
+
+        @Override
+        public void applyToConfigBuilder(SchemaGeneratorConfigBuilder builder) {
+            builder.forFields().withDescriptionResolver(this::resolveDescription);
+            builder.forMethods().withDescriptionResolver(this::resolveDescription);
+        }
+
+        @Override
+        public Collection<Class<? extends Annotation>> getRelevantMemberAnnotations() {
+            return List.of(TestAnnotation.class);
+        }
+
+        private String resolveDescription(MemberScope<?, ?> member) {
+            String name = member instanceof MethodScope ? member.getName() + "()" : member.getName();
+            this.resolvedMembers.add(member.isFakeContainerItemScope() ? name + "[]" : name);
+            return name;
+        }
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.FIELD, ElementType.METHOD, ElementType.TYPE_USE})
+    private @interface TestAnnotation {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.FIELD, ElementType.METHOD})
+    @TestAnnotation
+    private @interface MetaAnnotation {
+    }
+
+    private interface TestInterface {
+        @TestAnnotation
+        String inheritedMethod();
+    }
+
+    private static class TestClass implements TestInterface {
+        @TestAnnotation
+        public String annotatedField;
+        public String plainField;
+        private String fieldWithAnnotatedGetter;
+        public List<@TestAnnotation String> fieldWithTypeAnnotation;
+        @MetaAnnotation
+        public int metaAnnotatedField;
+
+        @TestAnnotation
+        public String getFieldWithAnnotatedGetter() {
+            return this.fieldWithAnnotatedGetter;
+        }
+
+        public String plainMethod() {
+            return null;
+        }
+
+        @Override
+        public String inheritedMethod() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Test for {@link PersistentSchemaCache} class.
+ */
+public class PersistentSchemaCacheTest {
+
+    @TempDir
+    Path cacheDirectory;
+
+    private AtomicInteger generationCounter;
+    private SchemaGenerator generator;
+
+    @BeforeEach
+    public void setUp() {
+        this.generationCounter = new AtomicInteger();
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2020_12, OptionPreset.PLAIN_JSON);
+        configBuilder.forTypesInGeneral()
+                .withTitleResolver(scope -> {
+                    if (scope.getType().getErasedType() == TestClass.class) {
+                        this.generationCounter.incrementAndGet();
+                    }
+                    return null;
+                });
+        this.generator = new SchemaGenerator(configBuilder.build());
+    }
+
+    @Test
+    public void testGenerateSchema_cacheHit() {
+        ObjectNode expected = this.generator.generateSchema(TestClass.class);
+        this.generationCounter.set(0);
+
+        PersistentSchemaCache cache = new PersistentSchemaCache(this.generator, this.cacheDirectory, "v1");
+        Assertions.assertEquals(expected, cache.generateSchema(TestClass.class));
+        Assertions.assertEquals(1, this.generationCounter.get());
+
+        PersistentSchemaCache otherCacheInstance = new PersistentSchemaCache(this.generator, this.cacheDirectory, "v1");
+        Assertions.assertEquals(expected, otherCacheInstance.generateSchema(TestClass.class));
+        Assertions.assertEquals(1, this.generationCounter.get());
+    }
+
+    @Test
+    public void testGenerateSchema_differentConfigFingerprint() {
+        new PersistentSchemaCache(this.generator, this.cacheDirectory, "v1").generateSchema(TestClass.class);
+        new PersistentSchemaCache(this.generator, this.cacheDirectory, "v2").generateSchema(TestClass.class);
+        Assertions.assertEquals(2, this.generationCounter.get());
+        Assertions.assertEquals(2, this.listEntryFiles().size());
+    }
+
+    @Test
+    public void testGenerateSchema_outdatedBytecodeHash() throws IOException {
+        PersistentSchemaCache cache = new PersistentSchemaCache(this.generator, this.cacheDirectory, "v1");
+        cache.generateSchema(TestClass.class);
+        Path entryFile = this.listEntryFiles().get(0);
+        ObjectMapper objectMapper = this.generator.getConfig().getObjectMapper();
+        ObjectNode entry = (ObjectNode) objectMapper.readTree(Files.readAllBytes(entryFile));
+        ObjectNode classes = (ObjectNode) entry.get("classes");
+        Assertions.assertTrue(classes.has(TestClass.class.getName()));
+        Assertions.assertTrue(classes.has(TestSuperClass.class.getName()));
+        classes.put(TestSuperClass.class.getName(), "outdated");
+        Files.write(entryFile, objectMapper.writeValueAsBytes(entry));
+
+        cache.generateSchema(TestClass.class);
+        Assertions.assertEquals(2, this.generationCounter.get());
+        cache.generateSchema(TestClass.class);
+        Assertions.assertEquals(2, this.generationCounter.get());
+    }
+
+    @Test
+    public void testGenerateSchema_corruptEntry() throws IOException {
+        PersistentSchemaCache cache = new PersistentSchemaCache(this.generator, this.cacheDirectory, "v1");
+        ObjectNode expected = cache.generateSchema(TestClass.class);
+        Files.writeString(this.listEntryFiles().get(0), "{ not json");
+
+        Assertions.assertEquals(expected, cache.generateSchema(TestClass.class));
+        Assertions.assertEquals(2, this.generationCounter.get());
+    }
+
+    @Test
+    public void testGenerateSchema_evictionOnSizeCap() {
+        PersistentSchemaCache cache = new PersistentSchemaCache(this.generator, this.cacheDirectory, "v1")
+                .withMaxSizeInBytes(1);
+        cache.generateSchema(TestClass.class);
+        cache.generateSchema(TestSuperClass.class);
+        Assertions.assertTrue(this.listEntryFiles().isEmpty());
+    }
+
+    @Test
+    public void testGenerateSchema_evictionConsideringExistingEntries() throws IOException {
+        new PersistentSchemaCache(this.generator, this.cacheDirectory, "v1").generateSchema(TestClass.class);
+        Path existingEntry = this.listEntryFiles().get(0);
+        Files.setLastModifiedTime(existingEntry, FileTime.fromMillis(0));
+        long entrySize = Files.size(existingEntry);
+
+        // entry for the same type with a different fingerprint has the same size, i.e., there is only room for one of them
+        PersistentSchemaCache cache = new PersistentSchemaCache(this.generator, this.cacheDirectory, "v2")
+                .withMaxSizeInBytes(entrySize + 1);
+        cache.generateSchema(TestClass.class);
+        List<Path> remainingEntries = this.listEntryFiles();
+        Assertions.assertEquals(1, remainingEntries.size());
+        Assertions.assertNotEquals(existingEntry, remainingEntries.get(0));
+
+        cache.generateSchema(TestClass.class);
+        Assertions.assertEquals(2, this.generationCounter.get());
+        Assertions.assertEquals(remainingEntries, this.listEntryFiles());
+    }
+
+    @Test
+    public void testClear() {
+        PersistentSchemaCache cache = new PersistentSchemaCache(this.generator, this.cacheDirectory, "v1");
+        cache.generateSchema(TestClass.class);
+        cache.generateSchema(TestSuperClass.class);
+        Assertions.assertEquals(2, this.listEntryFiles().size());
+        cache.clear();
+        Assertions.assertTrue(this.listEntryFiles().isEmpty());
+    }
+
+    private List<Path> listEntryFiles() {
+        try (Stream<Path> files = Files.list(this.cacheDirectory)) {
+            return files.collect(Collectors.toList());
+        } catch (IOException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+
+    private static class TestSuperClass {
+        public int inheritedField;
+    }
+
+    private static class TestClass extends TestSuperClass {
+        public String text;
+        public List<TestSuperClass> items;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Test for {@link PrecompiledSchemaRegistry} class.
+ */
+public class PrecompiledSchemaRegistryTest {
+
+    @TempDir
+    Path resourceDirectory;
+
+    private final SchemaGenerator generator = new SchemaGenerator(
+            new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2020_12, OptionPreset.PLAIN_JSON).build());
+
+    @Test
+    public void testGetSchema() throws IOException {
+        Map<String, ObjectNode> schemas = new LinkedHashMap<>();
+        schemas.put(TestClassA.class.getName(), this.generator.generateSchema(TestClassA.class));
+        schemas.put(TestClassB.class.getName(), this.generator.generateSchema(TestClassB.class));
+        Files.createDirectories(this.resourceDirectory.resolve("schemas"));
+        try (OutputStream indexOutput = Files.newOutputStream(this.resourceDirectory.resolve("schemas/bundle.index"));
+                OutputStream blobOutput = Files.newOutputStream(this.resourceDirectory.resolve("schemas/bundle.schemas"))) {
+            PrecompiledSchemaRegistry.writeBundle(schemas, indexOutput, blobOutput);
+        }
+
+        AtomicInteger fallbackCounter = new AtomicInteger();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{this.resourceDirectory.toUri().toURL()}, null)) {
+            PrecompiledSchemaRegistry registry = new PrecompiledSchemaRegistry(classLoader, "schemas/bundle", () -> {
+                fallbackCounter.incrementAndGet();
+                return this.generator;
+            });
+            Assertions.assertTrue(registry.isPrecompiled(TestClassA.class));
+            Assertions.assertEquals(schemas.get(TestClassA.class.getName()), registry.getSchema(TestClassA.class));
+            Assertions.assertEquals(schemas.get(TestClassB.class.getName()), registry.getSchema(TestClassB.class));
+            Assertions.assertEquals(0, fallbackCounter.get());
+
+            Assertions.assertFalse(registry.isPrecompiled(TestClassC.class));
+            Assertions.assertEquals(this.generator.generateSchema(TestClassC.class), registry.getSchema(TestClassC.class));
+            Assertions.assertEquals(this.generator.generateSchema(TestClassC.class), registry.getSchema(TestClassC.class));
+            Assertions.assertEquals(1, fallbackCounter.get());
+        }
+    }
+
+    @Test
+    public void testGetSchema_missingBundle() {
+        PrecompiledSchemaRegistry registry = new PrecompiledSchemaRegistry(this.getClass().getClassLoader(), "not/existing", () -> this.generator);
+        Assertions.assertFalse(registry.isPrecompiled(TestClassA.class));
+        Assertions.assertEquals(this.generator.generateSchema(TestClassA.class), registry.getSchema(TestClassA.class));
+    }
+
+    private static class TestClassA {
+        public String text;
+    }
+
+    private static class TestClassB {
+        public int number;
+        public double fraction;
+        public TestClassA nested;
+    }
+
+    private static class TestClassC {
+        public boolean flag;
+    }
+}
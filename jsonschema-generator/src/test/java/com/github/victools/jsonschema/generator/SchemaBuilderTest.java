@@ -16,7 +16,15 @@
 
 package com.github.victools.jsonschema.generator;
 
+import com.fasterxml.classmate.ResolvedType;
+import com.github.victools.jsonschema.generator.impl.DefinitionKey;
 import com.github.victools.jsonschema.generator.impl.TypeContextFactory;
+import com.github.victools.jsonschema.generator.naming.DefaultSchemaDefinitionNamingStrategy;
+import com.github.victools.jsonschema.generator.naming.SchemaDefinitionNamingStrategy;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -73,6 +81,150 @@ public class SchemaBuilderTest {
         Mockito.verify(this.config, Mockito.times(4)).resetAfterSchemaGenerationFinished();
     }
 
+    @Test
+    public void testMultiTypeSchemaGenerationWithDeferredCleanUp() throws Exception {
+        SchemaGeneratorConfig fullConfig = new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2020_12, OptionPreset.FULL_DOCUMENTATION)
+                .with(Option.DEFINITIONS_FOR_ALL_OBJECTS, Option.NULLABLE_FIELDS_BY_DEFAULT, Option.STRICT_TYPE_INFO)
+                .build();
+        SchemaBuilder eagerInstance = SchemaBuilder.forMultipleTypes(fullConfig, TypeContextFactory.createDefaultTypeContext(fullConfig));
+        ObjectNode eagerReference1 = eagerInstance.createSchemaReference(TestClass1.class);
+        ObjectNode eagerReference3 = eagerInstance.createSchemaReference(TestClass3.class);
+        ObjectNode eagerDefinitions = eagerInstance.collectDefinitions("components/schemas");
+
+        SchemaBuilder deferredInstance = SchemaBuilder.forMultipleTypes(fullConfig, TypeContextFactory.createDefaultTypeContext(fullConfig));
+        ObjectNode deferredReference1 = deferredInstance.createSchemaReference(TestClass1.class);
+        ObjectNode deferredReference3 = deferredInstance.createSchemaReference(TestClass3.class);
+        DeferredCleanUpSchemaDefinitions deferredDefinitions = deferredInstance.collectDefinitionsWithDeferredCleanUp("components/schemas");
+
+        Assertions.assertEquals(eagerReference1, deferredReference1);
+        Assertions.assertEquals(eagerReference3, deferredReference3);
+        Assertions.assertEquals(eagerDefinitions.propertyNames(), deferredDefinitions.getDefinitionNames());
+        String referencedName = deferredReference1.get("$ref").stringValue().substring("#/components/schemas/".length());
+        Assertions.assertEquals(eagerDefinitions.get(referencedName), deferredDefinitions.getReferencedDefinition(deferredReference1.get("$ref").stringValue()));
+        Assertions.assertNull(deferredDefinitions.getDefinition("unknown"));
+        Assertions.assertEquals(eagerDefinitions, deferredDefinitions.getAllDefinitions());
+    }
+
+    @Test
+    public void testMultiTypeSchemaGenerationWithDeferredCleanUpAndHoisting() {
+        SchemaGeneratorConfig hoistingConfig = new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2020_12, OptionPreset.PLAIN_JSON)
+                .with(Option.DEFINITIONS_FOR_ALL_OBJECTS, Option.NULLABLE_FIELDS_BY_DEFAULT, Option.HOIST_REPEATED_SUBSCHEMAS)
+                .build();
+        SchemaBuilder eagerInstance = SchemaBuilder.forMultipleTypes(hoistingConfig, TypeContextFactory.createDefaultTypeContext(hoistingConfig));
+        ObjectNode eagerReference = eagerInstance.createSchemaReference(TestClass4.class);
+        ObjectNode eagerDefinitions = eagerInstance.collectDefinitions("components/schemas");
+        Assertions.assertTrue(eagerDefinitions.has("subschema-1"));
+
+        SchemaBuilder deferredInstance = SchemaBuilder.forMultipleTypes(hoistingConfig, TypeContextFactory.createDefaultTypeContext(hoistingConfig));
+        ObjectNode deferredReference = deferredInstance.createSchemaReference(TestClass4.class);
+        DeferredCleanUpSchemaDefinitions deferredDefinitions = deferredInstance.collectDefinitionsWithDeferredCleanUp("components/schemas");
+
+        Assertions.assertEquals(eagerReference, deferredReference);
+        Assertions.assertEquals(eagerDefinitions.propertyNames(), deferredDefinitions.getDefinitionNames());
+        Assertions.assertEquals(eagerDefinitions.get("subschema-1"), deferredDefinitions.getDefinition("subschema-1"));
+        Assertions.assertEquals(eagerDefinitions, deferredDefinitions.getAllDefinitions());
+    }
+
+    @Test
+    public void testTypeDependencyGraph() {
+        SchemaBuilder instance = SchemaBuilder.forMultipleTypes(this.config, this.typeContext);
+        instance.createSchemaReference(TestClass1.class);
+        instance.createSchemaReference(TestClass3.class);
+        TypeDependencyGraph graph = instance.getTypeDependencyGraph();
+
+        ResolvedType type1 = this.typeContext.resolve(TestClass1.class);
+        ResolvedType type2 = this.typeContext.resolve(TestClass2.class);
+        ResolvedType type3 = this.typeContext.resolve(TestClass3.class);
+        ResolvedType stringType = this.typeContext.resolve(String.class);
+        Assertions.assertEquals(Set.of(type1, type3), graph.getRootTypes());
+        Assertions.assertEquals(Set.of(type1, type2, type3, stringType, this.typeContext.resolve(double.class)), graph.getTypes());
+        Assertions.assertEquals(Set.of(type2), graph.getDependencies(type1));
+        Assertions.assertEquals(Set.of(stringType), graph.getDependencies(type2));
+        Assertions.assertEquals(Set.of(type1), graph.getDependents(type2));
+        Assertions.assertEquals(Set.of(type2, type1), graph.getAffectedTypes(Set.of(TestClass2.class)));
+        Assertions.assertEquals(Set.of(type3), graph.getAffectedTypes(Set.of(TestClass3.class)));
+        Assertions.assertEquals(Set.of(), graph.getAffectedTypes(Set.of(Integer.class)));
+    }
+
+    @Test
+    public void testInlineSchemaForSingleType() {
+        SchemaDefinitionNamingStrategy namingStrategy = Mockito.mock(SchemaDefinitionNamingStrategy.class);
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2019_09, OptionPreset.PLAIN_JSON)
+                .with(Option.INLINE_ALL_SCHEMAS, Option.NULLABLE_FIELDS_BY_DEFAULT)
+                .without(Option.SCHEMA_VERSION_INDICATOR);
+        configBuilder.forTypesInGeneral().withDefinitionNamingStrategy(namingStrategy);
+        SchemaGeneratorConfig inlineConfig = configBuilder.build();
+        SchemaBuilder instance = new SchemaBuilder(inlineConfig, this.typeContext);
+        ObjectNode result = instance.createSchemaForSingleType(TestClass1.class);
+
+        Assertions.assertEquals("{\"type\":\"object\",\"properties\":{\"value2\":{\"type\":[\"object\",\"null\"],"
+                + "\"properties\":{\"text\":{\"type\":[\"string\",\"null\"]}}}}}", result.toString());
+        Mockito.verify(namingStrategy, Mockito.never()).getDefinitionNameForKey(Mockito.any(), Mockito.any());
+        // the type dependencies are being tracked nonetheless
+        ResolvedType type1 = this.typeContext.resolve(TestClass1.class);
+        ResolvedType type2 = this.typeContext.resolve(TestClass2.class);
+        Assertions.assertEquals(Set.of(type2), instance.getTypeDependencyGraph().getDependencies(type1));
+    }
+
+    @Test
+    public void testInlineSchemaForSingleType_withAlwaysReferencedCustomDefinition() {
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2019_09, OptionPreset.PLAIN_JSON)
+                .with(Option.INLINE_ALL_SCHEMAS)
+                .without(Option.SCHEMA_VERSION_INDICATOR);
+        configBuilder.forTypesInGeneral().withCustomDefinitionProvider(new CustomDefinitionProviderV2() {
+            @Override
+            public CustomDefinition provideCustomSchemaDefinition(ResolvedType javaType, SchemaGenerationContext context) {
+                if (javaType.getErasedType() != TestClass2.class) {
+                    return null;
+                }
+                return new CustomDefinition(context.createStandardDefinition(javaType, this).put("title", "custom"),
+                        CustomDefinition.DefinitionType.ALWAYS_REF, CustomDefinition.AttributeInclusion.NO);
+            }
+        });
+        ObjectNode result = new SchemaBuilder(configBuilder.build(), this.typeContext).createSchemaForSingleType(TestClass1.class);
+
+        Assertions.assertEquals("{\"$defs\":{\"TestClass2\":{\"type\":\"object\",\"properties\":{\"text\":{\"type\":\"string\"}},"
+                + "\"title\":\"custom\"}},\"type\":\"object\",\"properties\":{\"value2\":{\"$ref\":\"#/$defs/TestClass2\"}}}",
+                result.toString());
+    }
+
+    @Test
+    public void testDefinitionNamesCachedAcrossGenerations() {
+        AtomicInteger cacheableCounter = new AtomicInteger();
+        AtomicInteger uncacheableCounter = new AtomicInteger();
+        SchemaGenerator cachingGenerator = new SchemaGenerator(this.createConfigWithCountingNamingStrategy(cacheableCounter, true));
+        SchemaGenerator uncachedGenerator = new SchemaGenerator(this.createConfigWithCountingNamingStrategy(uncacheableCounter, false));
+
+        ObjectNode firstResult = cachingGenerator.generateSchema(TestClass1.class);
+        Assertions.assertEquals(uncachedGenerator.generateSchema(TestClass1.class), firstResult);
+        Assertions.assertEquals(2, cacheableCounter.get());
+        Assertions.assertEquals(2, uncacheableCounter.get());
+
+        Assertions.assertEquals(firstResult, cachingGenerator.generateSchema(TestClass1.class));
+        Assertions.assertEquals(firstResult, uncachedGenerator.generateSchema(TestClass1.class));
+        Assertions.assertEquals(2, cacheableCounter.get());
+        Assertions.assertEquals(4, uncacheableCounter.get());
+    }
+
+    private SchemaGeneratorConfig createConfigWithCountingNamingStrategy(AtomicInteger counter, boolean cacheable) {
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2020_12, OptionPreset.PLAIN_JSON)
+                .with(Option.DEFINITIONS_FOR_ALL_OBJECTS);
+        configBuilder.forTypesInGeneral()
+                .withDefinitionNamingStrategy(new DefaultSchemaDefinitionNamingStrategy() {
+                    @Override
+                    public String getDefinitionNameForKey(DefinitionKey key, SchemaGenerationContext generationContext) {
+                        counter.incrementAndGet();
+                        return "My" + super.getDefinitionNameForKey(key, generationContext);
+                    }
+
+                    @Override
+                    public boolean isCacheable() {
+                        return cacheable;
+                    }
+                });
+        return configBuilder.build();
+    }
+
     private static class TestClass1 {
 
         public TestClass2 value2;
@@ -87,4 +239,10 @@ public class SchemaBuilderTest {
 
         public double number;
     }
+
+    private static class TestClass4 {
+
+        public List<String> first;
+        public List<String> second;
+    }
 }
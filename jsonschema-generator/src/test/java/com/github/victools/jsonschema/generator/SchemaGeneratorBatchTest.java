@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Test for {@link SchemaGenerator#generateSchemas(java.util.Collection)} and its asynchronous variants.
+ */
+public class SchemaGeneratorBatchTest {
+
+    private final SchemaGenerator generator = new SchemaGenerator(
+            new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2020_12, OptionPreset.FULL_DOCUMENTATION)
+                    .with(Option.DEFINITIONS_FOR_ALL_OBJECTS)
+                    .build());
+
+    private List<Type> createTargetTypes() {
+        List<Type> types = new ArrayList<>();
+        for (int index = 0; index < 20; index++) {
+            types.add(TestClassA.class);
+            types.add(TestClassB.class);
+            types.add(String.class);
+            types.add(TestClassC.class);
+        }
+        return types;
+    }
+
+    @Test
+    public void testGenerateSchemas() {
+        List<Type> targetTypes = this.createTargetTypes();
+        List<ObjectNode> expected = targetTypes.stream()
+                .map(this.generator::generateSchema)
+                .collect(Collectors.toList());
+        Assertions.assertEquals(expected, this.generator.generateSchemas(targetTypes));
+    }
+
+    @Test
+    public void testGenerateSchemas_empty() {
+        Assertions.assertEquals(List.of(), this.generator.generateSchemas(List.of()));
+    }
+
+    @Test
+    public void testGenerateSchemas_failure() {
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2020_12, OptionPreset.PLAIN_JSON);
+        configBuilder.forTypesInGeneral()
+                .withTitleResolver(scope -> {
+                    if (scope.getType().getErasedType() == TestClassC.class) {
+                        throw new IllegalArgumentException("expected failure");
+                    }
+                    return null;
+                });
+        SchemaGenerator failingGenerator = new SchemaGenerator(configBuilder.build());
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> failingGenerator.generateSchemas(List.of(TestClassA.class, TestClassC.class)));
+        Assertions.assertEquals("expected failure", exception.getMessage());
+    }
+
+    @Test
+    public void testGenerateSchemas_statefulConfigResetOnWorkerThreadAfterEachGeneration() throws Exception {
+        ThreadLocal<Boolean> dirty = new ThreadLocal<>();
+        AtomicInteger lookUpCounter = new AtomicInteger();
+        AtomicInteger resetCounter = new AtomicInteger();
+        AtomicInteger staleStateCounter = new AtomicInteger();
+        ConfigFunction<TypeScope, String> resolver = new ConfigFunction<>() {
+            @Override
+            public String apply(TypeScope target) {
+                // the title is only being looked-up once per generation for a String schema
+                lookUpCounter.incrementAndGet();
+                if (dirty.get() != null) {
+                    staleStateCounter.incrementAndGet();
+                }
+                dirty.set(Boolean.TRUE);
+                return null;
+            }
+
+            @Override
+            public void resetAfterSchemaGenerationFinished() {
+                dirty.remove();
+                resetCounter.incrementAndGet();
+            }
+        };
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2020_12, OptionPreset.PLAIN_JSON);
+        configBuilder.forTypesInGeneral().withTitleResolver(resolver);
+        SchemaGenerator statefulGenerator = new SchemaGenerator(configBuilder.build());
+        List<Type> targetTypes = Collections.nCopies(5, String.class);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Assertions.assertEquals(5, statefulGenerator.generateSchemasAsync(targetTypes, executor).get(30, TimeUnit.SECONDS).size());
+        } finally {
+            executor.shutdown();
+        }
+        Assertions.assertEquals(5, lookUpCounter.get());
+        Assertions.assertEquals(0, staleStateCounter.get());
+        Assertions.assertEquals(5, resetCounter.get());
+    }
+
+    @Test
+    public void testGenerateSchemasAsync_withGivenExecutor() throws Exception {
+        List<Type> targetTypes = this.createTargetTypes();
+        List<ObjectNode> expected = targetTypes.stream()
+                .map(this.generator::generateSchema)
+                .collect(Collectors.toList());
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Assertions.assertEquals(expected, this.generator.generateSchemasAsync(targetTypes, executor).get(30, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static class TestClassA {
+        public String text;
+        public List<TestClassB> items;
+    }
+
+    private static class TestClassB {
+        public int number;
+        public TestClassC nested;
+        public Map<String, TestClassA> lookup;
+    }
+
+    private static class TestClassC {
+        public boolean flag;
+        public TestClassA parent;
+    }
+}
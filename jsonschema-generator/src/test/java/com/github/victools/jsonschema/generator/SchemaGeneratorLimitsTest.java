@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Test for {@link SchemaGenerator} class, with {@link SchemaGenerationLimits} being configured.
+ */
+public class SchemaGeneratorLimitsTest {
+
+    private static SchemaGenerator createGenerator(SchemaGenerationLimits limits) {
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2020_12, OptionPreset.PLAIN_JSON)
+                .with(Option.DEFINITIONS_FOR_ALL_OBJECTS);
+        configBuilder.forTypesInGeneral()
+                .withGenerationLimits(limits);
+        return new SchemaGenerator(configBuilder.build());
+    }
+
+    @Test
+    public void testGenerateSchema_withoutLimits() {
+        JsonNode result = createGenerator(null).generateSchema(Level1.class);
+        Assertions.assertEquals(2, result.get("$defs").size());
+    }
+
+    @Test
+    public void testGenerateSchema_maxDepthFailing() {
+        SchemaGenerator generator = createGenerator(new SchemaGenerationLimits().withMaxDepth(2));
+        SchemaGenerationLimitExceededException exception = Assertions.assertThrows(SchemaGenerationLimitExceededException.class,
+                () -> generator.generateSchema(Level1.class));
+        Assertions.assertEquals(Arrays.asList(Level1.class.getName(), Level2.class.getName(), Level3.class.getName()), exception.getPath());
+    }
+
+    @Test
+    public void testGenerateSchema_maxDepthPlaceholder() {
+        SchemaGenerator generator = createGenerator(new SchemaGenerationLimits()
+                .withMaxDepth(2)
+                .withBreachHandling(SchemaGenerationLimits.BreachHandling.PLACEHOLDER));
+        JsonNode result = generator.generateSchema(Level1.class);
+        JsonNode level2 = result.get("$defs").get("Level2");
+        Assertions.assertNotNull(level2);
+        Assertions.assertTrue(level2.get("properties").get("next").isEmpty());
+        Assertions.assertNull(result.get("$defs").get("Level3"));
+    }
+
+    @Test
+    public void testGenerateSchema_maxDefinitionsFailing() {
+        SchemaGenerator generator = createGenerator(new SchemaGenerationLimits().withMaxDefinitions(2));
+        Assertions.assertThrows(SchemaGenerationLimitExceededException.class, () -> generator.generateSchema(Level1.class));
+    }
+
+    @Test
+    public void testGenerateSchema_maxPropertiesPerTypePlaceholder() {
+        SchemaGenerator generator = createGenerator(new SchemaGenerationLimits()
+                .withMaxPropertiesPerType(1)
+                .withBreachHandling(SchemaGenerationLimits.BreachHandling.PLACEHOLDER));
+        JsonNode result = generator.generateSchema(Level3.class);
+        Assertions.assertEquals(1, result.get("properties").size());
+        Assertions.assertNotNull(result.get("properties").get("first"));
+    }
+
+    @Test
+    public void testGenerateSchema_maxDurationFailing() {
+        SchemaGenerator generator = createGenerator(new SchemaGenerationLimits().withMaxDuration(Duration.ofNanos(-1)));
+        SchemaGenerationLimitExceededException exception = Assertions.assertThrows(SchemaGenerationLimitExceededException.class,
+                () -> generator.generateSchema(Level1.class));
+        Assertions.assertEquals(List.of(Level1.class.getName()), exception.getPath());
+    }
+
+    private static class Level1 {
+        public Level2 next;
+    }
+
+    private static class Level2 {
+        public Level3 next;
+    }
+
+    private static class Level3 {
+        public String first;
+        public String second;
+    }
+}
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -58,6 +59,22 @@ public class SchemaGeneratorMemberCleanUpTest {
                 .forEach(fieldName -> Assertions.assertTrue(expectedMemberAttributes.contains(fieldName)));
     }
 
+    @Test
+    public void testHoistRepeatedSubschemas() {
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2020_12, OptionPreset.PLAIN_JSON)
+                .with(Option.NULLABLE_FIELDS_BY_DEFAULT, Option.HOIST_REPEATED_SUBSCHEMAS);
+        configBuilder.forFields()
+                .withStringFormatResolver(field -> field.getType().isInstanceOf(String.class) ? "email" : null);
+        ObjectNode schema = new SchemaGenerator(configBuilder.build()).generateSchema(ContactClass.class);
+
+        Assertions.assertEquals(List.of("$schema", "$defs", "type", "properties"), List.copyOf(schema.propertyNames()));
+        Assertions.assertEquals("{\"subschema-1\":{\"type\":[\"string\",\"null\"],\"format\":\"email\"}}", schema.get("$defs").toString());
+        JsonNode properties = schema.get("properties");
+        Assertions.assertEquals("{\"$ref\":\"#/$defs/subschema-1\"}", properties.get("primaryMail").toString());
+        Assertions.assertEquals("{\"$ref\":\"#/$defs/subschema-1\"}", properties.get("secondaryMail").toString());
+        Assertions.assertEquals("{\"type\":[\"integer\",\"null\"]}", properties.get("count").toString());
+    }
+
     private static class TestClass {
         @JsonProperty("map_value")
         public Map<String, ValueClass> mapValue;
@@ -69,4 +86,10 @@ public class SchemaGeneratorMemberCleanUpTest {
         @JsonProperty("string_value")
         public String stringValue;
     }
+
+    private static class ContactClass {
+        public String primaryMail;
+        public String secondaryMail;
+        public Integer count;
+    }
 }
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Test for {@link SchemaRegistry} class.
+ */
+public class SchemaRegistryTest {
+
+    private final AtomicInteger generationCounter = new AtomicInteger();
+    private final SchemaGenerator generator = this.createGenerator(null);
+
+    private SchemaGenerator createGenerator(CountDownLatch generationLatch) {
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2020_12, OptionPreset.PLAIN_JSON);
+        configBuilder.forTypesInGeneral().withTitleResolver(scope -> {
+            if (scope.getType().getErasedType().getDeclaringClass() == SchemaRegistryTest.class) {
+                this.generationCounter.incrementAndGet();
+                if (generationLatch != null) {
+                    this.awaitLatch(generationLatch);
+                }
+            }
+            return null;
+        });
+        return new SchemaGenerator(configBuilder.build());
+    }
+
+    private void awaitLatch(CountDownLatch latch) {
+        try {
+            Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Test
+    public void testGetSchema() throws IOException {
+        SchemaRegistry registry = new SchemaRegistry(this.generator);
+        ObjectNode expectedSchema = this.generator.generateSchema(TestClassA.class);
+        this.generationCounter.set(0);
+
+        ObjectNode schema = registry.getSchema(TestClassA.class);
+        Assertions.assertEquals(expectedSchema, schema);
+        schema.put("modified", true);
+        Assertions.assertEquals(expectedSchema, registry.getSchema(TestClassA.class));
+        Assertions.assertEquals(1, this.generationCounter.get());
+
+        SchemaRegistry.Entry entry = registry.getEntry(TestClassA.class);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        entry.writeTo(output);
+        Assertions.assertArrayEquals(entry.getBytes(), output.toByteArray());
+        Assertions.assertEquals(expectedSchema, this.generator.getConfig().getObjectMapper().readTree(entry.getBytes()));
+        Assertions.assertEquals(entry.getBytes().length, entry.getSizeInBytes());
+        Assertions.assertEquals(64, entry.getContentHash().length());
+        Assertions.assertEquals('"' + entry.getContentHash() + '"', entry.getETag());
+        Assertions.assertEquals(entry.getETag(), new SchemaRegistry(this.generator).getEntry(TestClassA.class).getETag());
+        Assertions.assertNotEquals(entry.getETag(), registry.getEntry(TestClassB.class).getETag());
+    }
+
+    @Test
+    public void testGetSchema_parameterizedType() {
+        SchemaRegistry registry = new SchemaRegistry(this.generator);
+        ObjectNode stringSchema = registry.getSchema(TestGenericClass.class, String.class);
+        ObjectNode integerSchema = registry.getSchema(TestGenericClass.class, Integer.class);
+        Assertions.assertEquals(this.generator.generateSchema(TestGenericClass.class, String.class), stringSchema);
+        Assertions.assertEquals(this.generator.generateSchema(TestGenericClass.class, Integer.class), integerSchema);
+        Assertions.assertNotEquals(stringSchema, integerSchema);
+        Assertions.assertEquals(2, registry.getEntryCount());
+    }
+
+    @Test
+    public void testGetSchema_concurrentRequests() throws Exception {
+        CountDownLatch generationLatch = new CountDownLatch(1);
+        SchemaRegistry registry = new SchemaRegistry(this.createGenerator(generationLatch));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<SchemaRegistry.Entry>> futures = new ArrayList<>();
+            for (int index = 0; index < 4; index++) {
+                futures.add(executor.submit(() -> registry.getEntry(TestClassA.class)));
+            }
+            generationLatch.countDown();
+            SchemaRegistry.Entry firstEntry = futures.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<SchemaRegistry.Entry> future : futures) {
+                Assertions.assertSame(firstEntry, future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assertions.assertEquals(1, this.generationCounter.get());
+    }
+
+    @Test
+    public void testGetSchema_failedGeneration() {
+        AtomicInteger attemptCounter = new AtomicInteger();
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2020_12, OptionPreset.PLAIN_JSON);
+        configBuilder.forTypesInGeneral().withTitleResolver(scope -> {
+            if (scope.getType().getErasedType() == TestClassA.class && attemptCounter.incrementAndGet() == 1) {
+                throw new IllegalStateException("first attempt");
+            }
+            return null;
+        });
+        SchemaRegistry registry = new SchemaRegistry(new SchemaGenerator(configBuilder.build()));
+        IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class, () -> registry.getSchema(TestClassA.class));
+        Assertions.assertEquals("first attempt", exception.getMessage());
+        Assertions.assertEquals(0, registry.getEntryCount());
+
+        Assertions.assertNotNull(registry.getSchema(TestClassA.class));
+        Assertions.assertEquals(1, registry.getEntryCount());
+    }
+
+    @Test
+    public void testEviction_maxEntryCount() {
+        SchemaRegistry registry = new SchemaRegistry(this.generator)
+                .withMaxEntryCount(2);
+        registry.getEntry(TestClassA.class);
+        registry.getEntry(TestClassB.class);
+        // mark A as recently used, to evict B instead
+        registry.getEntry(TestClassA.class);
+        registry.getEntry(TestClassC.class);
+        Assertions.assertEquals(2, registry.getEntryCount());
+        Assertions.assertEquals(3, this.generationCounter.get());
+
+        registry.getEntry(TestClassA.class);
+        Assertions.assertEquals(3, this.generationCounter.get());
+        registry.getEntry(TestClassB.class);
+        Assertions.assertEquals(4, this.generationCounter.get());
+    }
+
+    @Test
+    public void testEviction_maxSizeInBytes() {
+        SchemaRegistry unboundedRegistry = new SchemaRegistry(this.generator);
+        int sizeA = unboundedRegistry.getEntry(TestClassA.class).getSizeInBytes();
+        int sizeB = unboundedRegistry.getEntry(TestClassB.class).getSizeInBytes();
+        Assertions.assertEquals(sizeA + sizeB, unboundedRegistry.getSizeInBytes());
+
+        SchemaRegistry registry = new SchemaRegistry(this.generator)
+                .withMaxSizeInBytes(sizeA + sizeB - 1);
+        registry.getEntry(TestClassA.class);
+        registry.getEntry(TestClassB.class);
+        Assertions.assertEquals(1, registry.getEntryCount());
+        Assertions.assertEquals(sizeB, registry.getSizeInBytes());
+
+        // an entry exceeding the limit on its own is still being kept until the next one is being added
+        SchemaRegistry tinyRegistry = new SchemaRegistry(this.generator)
+                .withMaxSizeInBytes(1);
+        tinyRegistry.getEntry(TestClassA.class);
+        Assertions.assertEquals(1, tinyRegistry.getEntryCount());
+    }
+
+    @Test
+    public void testWarmUp() {
+        SchemaRegistry registry = new SchemaRegistry(this.generator);
+        registry.warmUp(List.of(TestClassA.class, TestClassB.class, TestClassA.class));
+        Assertions.assertEquals(2, registry.getEntryCount());
+        Assertions.assertEquals(2, this.generationCounter.get());
+
+        registry.getSchema(TestClassB.class);
+        Assertions.assertEquals(2, this.generationCounter.get());
+
+        registry.clear();
+        Assertions.assertEquals(0, registry.getEntryCount());
+        Assertions.assertEquals(0, registry.getSizeInBytes());
+    }
+
+    @Test
+    public void testWarmUpAsync() {
+        SchemaRegistry registry = new SchemaRegistry(this.generator);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            registry.warmUpAsync(List.of(TestClassA.class, TestClassB.class, TestClassC.class), executor).join();
+        } finally {
+            executor.shutdown();
+        }
+        Assertions.assertEquals(3, registry.getEntryCount());
+        Assertions.assertEquals(3, this.generationCounter.get());
+    }
+
+    private static class TestClassA {
+        public String text;
+    }
+
+    private static class TestClassB {
+        public int number;
+        public double fraction;
+    }
+
+    private static class TestClassC {
+        public boolean flag;
+    }
+
+    private static class TestGenericClass<T> {
+        public T value;
+    }
+}
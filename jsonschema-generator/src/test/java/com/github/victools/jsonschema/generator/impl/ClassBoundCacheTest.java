@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.classmate.TypeResolver;
+import com.github.victools.jsonschema.generator.OptionPreset;
+import com.github.victools.jsonschema.generator.SchemaGenerator;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for the {@link ClassBoundCache} class.
+ */
+public class ClassBoundCacheTest {
+
+    @Test
+    public void testComputeIfAbsent() {
+        ClassBoundCache<Class<?>, String> cache = ClassBoundCache.forClasses();
+        AtomicInteger counter = new AtomicInteger();
+        Assertions.assertEquals("String1", cache.computeIfAbsent(String.class, type -> type.getSimpleName() + counter.incrementAndGet()));
+        Assertions.assertEquals("String1", cache.get(String.class));
+        Assertions.assertEquals("String1", cache.computeIfAbsent(String.class, type -> type.getSimpleName() + counter.incrementAndGet()));
+        Assertions.assertNull(cache.computeIfAbsent(Integer.class, type -> {
+            counter.incrementAndGet();
+            return null;
+        }));
+        Assertions.assertNull(cache.computeIfAbsent(Integer.class, type -> "not expected"));
+        Assertions.assertEquals(2, counter.get());
+    }
+
+    @Test
+    public void testSize() throws Exception {
+        ClassBoundCache<Class<?>, String> cache = ClassBoundCache.forClasses();
+        Assertions.assertEquals(0, cache.size());
+        cache.putIfAbsent(String.class, "String");
+        cache.putIfAbsent(Integer.class, null);
+        Assertions.assertEquals(2, cache.size());
+        try (URLClassLoader classLoader = new ChildFirstClassLoader(UnloadableType.class)) {
+            Class<?> childType = classLoader.loadClass(UnloadableType.class.getName());
+            cache.putIfAbsent(childType, "UnloadableType");
+            cache.putIfAbsent(childType, "not expected");
+            Assertions.assertEquals(3, cache.size());
+            Assertions.assertEquals("UnloadableType", cache.get(childType));
+        }
+    }
+
+    @Test
+    public void testResolvedTypeCacheSize() {
+        ClassBoundResolvedTypeCache typeCache = new ClassBoundResolvedTypeCache();
+        TypeResolver typeResolver = new TypeResolver(typeCache);
+        typeResolver.resolve(UnloadableType.class);
+        int size = typeCache.size();
+        Assertions.assertTrue(size > 0);
+        typeResolver.resolve(UnloadableType.class);
+        Assertions.assertEquals(size, typeCache.size());
+    }
+
+    @Test
+    public void testGetOwningClass() throws Exception {
+        TypeResolver typeResolver = new TypeResolver();
+        try (URLClassLoader classLoader = new ChildFirstClassLoader(UnloadableType.class)) {
+            Class<?> childType = classLoader.loadClass(UnloadableType.class.getName());
+            ResolvedType listOfChildType = typeResolver.resolve(List.class, childType);
+            Assertions.assertSame(childType, ClassBoundCache.getOwningClass(List.class, listOfChildType.getTypeParameters().get(0)));
+            ResolvedType nestedType = typeResolver.resolve(Map.class, String.class, listOfChildType);
+            Assertions.assertSame(childType, ClassBoundCache.getOwningClass(Map.class, nestedType.getTypeParameters().toArray(new ResolvedType[0])));
+            ResolvedType arrayType = typeResolver.arrayType(listOfChildType);
+            Assertions.assertSame(childType, ClassBoundCache.getOwningClass(Object.class, arrayType));
+            Assertions.assertSame(List.class, ClassBoundCache.getOwningClass(List.class, typeResolver.resolve(String.class)));
+
+            try (URLClassLoader siblingClassLoader = new ChildFirstClassLoader(UnloadableType.class)) {
+                Class<?> siblingType = siblingClassLoader.loadClass(UnloadableType.class.getName());
+                Assertions.assertNull(ClassBoundCache.getOwningClass(childType, typeResolver.resolve(siblingType)));
+
+                ClassBoundCache<ResolvedType, Object> cache = ClassBoundCache.forResolvedTypes();
+                ResolvedType unrelatedTypes = typeResolver.resolve(Map.class, childType, siblingType);
+                AtomicInteger counter = new AtomicInteger();
+                cache.computeIfAbsent(unrelatedTypes, type -> counter.incrementAndGet());
+                cache.computeIfAbsent(unrelatedTypes, type -> counter.incrementAndGet());
+                Assertions.assertEquals(2, counter.get());
+            }
+        }
+    }
+
+    @Test
+    public void testClassUnloading() throws Exception {
+        SchemaGenerator generator = new SchemaGenerator(new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2020_12, OptionPreset.FULL_DOCUMENTATION)
+                .build());
+        WeakReference<Class<?>> unloadableType = this.generateSchemaWithDiscardedClassLoader(generator);
+        for (int attempt = 0; unloadableType.get() != null && attempt < 20; attempt++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        Assertions.assertNull(unloadableType.get(), "class from discarded class loader is still reachable");
+        // the long-lived generator is still usable
+        Assertions.assertNotNull(generator.generateSchema(UnloadableType.class));
+    }
+
+    private WeakReference<Class<?>> generateSchemaWithDiscardedClassLoader(SchemaGenerator generator) throws Exception {
+        try (URLClassLoader classLoader = new ChildFirstClassLoader(UnloadableType.class)) {
+            Class<?> type = classLoader.loadClass(UnloadableType.class.getName());
+            Assertions.assertNotSame(UnloadableType.class, type);
+            generator.generateSchema(type);
+            generator.generateSchema(List.class, type);
+            return new WeakReference<>(type);
+        }
+    }
+
+    /**
+     * Class loader loading a nested class (and its declaring class) itself instead of delegating to its parent, as e.g. an application server would
+     * for deployed classes.
+     */
+    static final class ChildFirstClassLoader extends URLClassLoader {
+
+        private final String childFirstClassNamePrefix;
+
+        ChildFirstClassLoader(Class<?> childFirstClass) {
+            super(new URL[]{childFirstClass.getProtectionDomain().getCodeSource().getLocation()}, childFirstClass.getClassLoader());
+            this.childFirstClassNamePrefix = childFirstClass.getDeclaringClass().getName();
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(this.childFirstClassNamePrefix)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (this.getClassLoadingLock(name)) {
+                Class<?> loadedClass = this.findLoadedClass(name);
+                return loadedClass == null ? this.findClass(name) : loadedClass;
+            }
+        }
+    }
+
+    public static class UnloadableType {
+        public String text;
+        public List<String> values;
+        public UnloadableType parent;
+        public List<UnloadableType> children;
+        public Map<String, UnloadableType> childrenByName;
+    }
+}
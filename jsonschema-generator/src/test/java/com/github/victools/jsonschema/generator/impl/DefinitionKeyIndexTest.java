@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.github.victools.jsonschema.generator.CustomDefinitionProviderV2;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
+import com.github.victools.jsonschema.generator.TypeContext;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test for the {@link DefinitionKeyIndex} class.
+ */
+public class DefinitionKeyIndexTest {
+
+    private final TypeContext typeContext = TypeContextFactory.createDefaultTypeContext(Mockito.mock(SchemaGeneratorConfig.class));
+
+    @Test
+    public void testIdAssignment() {
+        ResolvedType listType = this.typeContext.resolve(List.class, String.class);
+        ResolvedType equalListType = this.typeContext.resolve(List.class, String.class);
+        ResolvedType otherListType = this.typeContext.resolve(List.class, Integer.class);
+        CustomDefinitionProviderV2 provider = (_javaType, _context) -> null;
+        DefinitionKeyIndex index = new DefinitionKeyIndex();
+
+        Assertions.assertEquals(DefinitionKeyIndex.UNKNOWN_ID, index.getId(listType, null));
+        Assertions.assertEquals(0, index.getOrAssignId(listType, null));
+        Assertions.assertEquals(0, index.getOrAssignId(equalListType, null));
+        Assertions.assertEquals(1, index.getOrAssignId(otherListType, null));
+        Assertions.assertEquals(2, index.getOrAssignId(listType, provider));
+        Assertions.assertEquals(2, index.getId(equalListType, provider));
+        Assertions.assertEquals(3, index.size());
+
+        DefinitionKey key = index.getKey(2);
+        Assertions.assertSame(listType, key.getType());
+        Assertions.assertSame(provider, key.getIgnoredDefinitionProvider());
+        Assertions.assertEquals(2, index.getId(new DefinitionKey(equalListType, provider)));
+        Assertions.assertEquals(DefinitionKeyIndex.UNKNOWN_ID, index.getId(otherListType, provider));
+    }
+}
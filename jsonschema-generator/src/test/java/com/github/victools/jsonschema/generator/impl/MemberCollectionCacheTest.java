@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.github.victools.jsonschema.generator.Option;
+import com.github.victools.jsonschema.generator.OptionPreset;
+import com.github.victools.jsonschema.generator.SchemaGenerator;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import com.github.victools.jsonschema.generator.TypeContext;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Test for the {@link MemberCollectionCache} class.
+ */
+public class MemberCollectionCacheTest {
+
+    @Test
+    public void testMembersAreCollectedOnceAcrossGenerations() {
+        AtomicInteger requiredCheckCounter = new AtomicInteger();
+        SchemaGenerator generator = new SchemaGenerator(this.createConfig(requiredCheckCounter, true));
+
+        ObjectNode firstResult = generator.generateSchema(TestClass.class);
+        int requiredChecksInFirstGeneration = requiredCheckCounter.get();
+        Assertions.assertEquals(2, requiredChecksInFirstGeneration);
+        Assertions.assertEquals("[\"text\"]", firstResult.get("required").toString());
+
+        Assertions.assertEquals(firstResult, generator.generateSchema(TestClass.class));
+        Assertions.assertEquals(requiredChecksInFirstGeneration, requiredCheckCounter.get());
+    }
+
+    @Test
+    public void testMembersAreCollectedInEachGenerationByDefault() {
+        AtomicInteger requiredCheckCounter = new AtomicInteger();
+        SchemaGenerator generator = new SchemaGenerator(this.createConfig(requiredCheckCounter, false));
+
+        ObjectNode firstResult = generator.generateSchema(TestClass.class);
+        Assertions.assertEquals(2, requiredCheckCounter.get());
+
+        Assertions.assertEquals(firstResult, generator.generateSchema(TestClass.class));
+        Assertions.assertEquals(4, requiredCheckCounter.get());
+    }
+
+    @Test
+    public void testTypeContextIsNotRetainedByConfig() throws InterruptedException {
+        SchemaGeneratorConfig config = this.createConfig(new AtomicInteger(), true);
+        WeakReference<TypeContext> typeContext = this.generateSchemaWithDiscardedTypeContext(config);
+        for (int attempt = 0; typeContext.get() != null && attempt < 20; attempt++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        Assertions.assertNull(typeContext.get());
+        // the configuration itself remains in use
+        Assertions.assertNotNull(new SchemaGenerator(config).generateSchema(TestClass.class));
+    }
+
+    @Test
+    public void testTypeContextIsNotRetainedByClassFromOtherClassLoader() throws Exception {
+        SchemaGeneratorConfig config = this.createConfig(new AtomicInteger(), true);
+        URL testClassLocation = TestClass.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{testClassLocation}, ClassLoader.getPlatformClassLoader())) {
+            Class<?> otherTestClass = classLoader.loadClass(TestClass.class.getName());
+            Assertions.assertNotSame(TestClass.class, otherTestClass);
+
+            WeakReference<TypeContext> typeContext = this.generateSchemaWithDiscardedTypeContext(config, otherTestClass);
+            for (int attempt = 0; typeContext.get() != null && attempt < 20; attempt++) {
+                System.gc();
+                Thread.sleep(50);
+            }
+            // the class is still loaded, but should not keep the type context (and its cached members) reachable
+            Assertions.assertNull(typeContext.get());
+            Assertions.assertNotNull(otherTestClass.getDeclaredField("text"));
+        }
+    }
+
+    private WeakReference<TypeContext> generateSchemaWithDiscardedTypeContext(SchemaGeneratorConfig config) {
+        return this.generateSchemaWithDiscardedTypeContext(config, TestClass.class);
+    }
+
+    private WeakReference<TypeContext> generateSchemaWithDiscardedTypeContext(SchemaGeneratorConfig config, Class<?> targetType) {
+        TypeContext typeContext = TypeContextFactory.createDefaultTypeContext(config);
+        ObjectNode result = new SchemaGenerator(config, typeContext).generateSchema(targetType);
+        Assertions.assertEquals("[\"text\"]", result.get("required").toString());
+        return new WeakReference<>(typeContext);
+    }
+
+    private SchemaGeneratorConfig createConfig(AtomicInteger requiredCheckCounter, boolean reuseCollectedMembers) {
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2020_12, OptionPreset.PLAIN_JSON);
+        if (reuseCollectedMembers) {
+            configBuilder.with(Option.REUSE_COLLECTED_MEMBERS);
+        }
+        configBuilder.forFields()
+                .withRequiredCheck(field -> {
+                    requiredCheckCounter.incrementAndGet();
+                    return "text".equals(field.getName());
+                });
+        return configBuilder.build();
+    }
+
+    private static class TestClass {
+        public String text;
+        public int number;
+    }
+}
@@ -17,9 +17,11 @@
 package com.github.victools.jsonschema.generator.impl;
 
 import com.github.victools.jsonschema.generator.FieldScope;
+import com.github.victools.jsonschema.generator.KeyedPropertySorter;
 import com.github.victools.jsonschema.generator.MemberScope;
 import com.github.victools.jsonschema.generator.MethodScope;
 import java.util.Comparator;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
@@ -65,4 +67,28 @@ public class PropertySortUtilsTest {
                 .collect(Collectors.joining(" "));
         Assertions.assertEquals(expectedResult, sortingResult);
     }
+
+    static Stream<Arguments> parametersForTestSortPropertiesByExtractedKeys() {
+        return parametersForTestSortProperties().skip(1);
+    }
+
+    @ParameterizedTest
+    @MethodSource("parametersForTestSortPropertiesByExtractedKeys")
+    public void testSortPropertiesByExtractedKeys(String _testCaseName, String expectedResult, Comparator<MemberScope<?, ?>> sortingLogic) {
+        List<MemberScope<?, ?>> properties = List.of(
+                this.createMemberMock(FieldScope.class, false, "c"),
+                this.createMemberMock(MethodScope.class, true, "f()"),
+                this.createMemberMock(FieldScope.class, true, "e"),
+                this.createMemberMock(FieldScope.class, false, "a"),
+                this.createMemberMock(MethodScope.class, false, "b()"),
+                this.createMemberMock(MethodScope.class, true, "d()"));
+        String sortingResult = ((KeyedPropertySorter<?>) sortingLogic).sort(properties).stream()
+                .map(MemberScope::getSchemaPropertyName)
+                .collect(Collectors.joining(" "));
+        Assertions.assertEquals(expectedResult, sortingResult);
+        // the sort key should only be extracted once per property (plus the invocation for the assertion above)
+        for (MemberScope<?, ?> property : properties) {
+            Mockito.verify(property, Mockito.times(2)).getSchemaPropertyName();
+        }
+    }
 }
@@ -21,6 +21,8 @@ import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
 import com.github.victools.jsonschema.generator.SchemaVersion;
 import java.util.Collections;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -28,6 +30,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.skyscreamer.jsonassert.JSONAssert;
 import org.skyscreamer.jsonassert.JSONCompareMode;
 import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
 import tools.jackson.databind.node.ObjectNode;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -138,4 +141,98 @@ public class SchemaCleanUpUtilsTest {
         String schemaAsString = schema.toString();
         JSONAssert.assertEquals('\n' + schemaAsString + '\n', expectedOutput, schemaAsString, JSONCompareMode.STRICT);
     }
+
+    Stream<Arguments> parametersForTestHoistRepeatedSubschemas() {
+        String email = "{\"type\":[\"string\",\"null\"],\"format\":\"email\"}";
+        String reorderedEmail = "{\"format\":\"email\",\"type\":[\"string\",\"null\"]}";
+        String smallSchema = "{\"type\":\"string\",\"format\":\"email\"}";
+        String object = "{\"type\":\"object\",\"properties\":{\"mail\":" + email + ",\"count\":{\"type\":\"integer\"}}}";
+        String reference = "{\"$ref\":\"#/$defs/subschema-1\"}";
+        return Stream.of(
+                Arguments.of("{\"type\":\"object\",\"properties\":{\"a\":" + email + ",\"b\":" + reorderedEmail + "}}",
+                        "{\"type\":\"object\",\"properties\":{\"a\":" + reference + ",\"b\":" + reference + "}}",
+                        "{\"subschema-1\":" + email + "}"),
+                Arguments.of("{\"anyOf\":[" + email + ",{\"type\":\"array\",\"items\":" + email + "}]}",
+                        "{\"anyOf\":[" + reference + ",{\"type\":\"array\",\"items\":" + reference + "}]}",
+                        "{\"subschema-1\":" + email + "}"),
+                Arguments.of("{\"type\":\"object\",\"properties\":{\"a\":" + smallSchema + ",\"b\":" + smallSchema + "}}",
+                        "{\"type\":\"object\",\"properties\":{\"a\":" + smallSchema + ",\"b\":" + smallSchema + "}}",
+                        "{}"),
+                Arguments.of("{\"type\":\"object\",\"properties\":{\"a\":" + object + ",\"b\":" + object + ",\"c\":" + object + "}}",
+                        "{\"type\":\"object\",\"properties\":{\"a\":" + reference + ",\"b\":" + reference + ",\"c\":" + reference + "}}",
+                        "{\"subschema-1\":" + object + "}")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("parametersForTestHoistRepeatedSubschemas")
+    public void testHoistRepeatedSubschemas(String schemaInput, String expectedOutput, String expectedDefinitions) throws Exception {
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2020_12, OptionPreset.PLAIN_JSON);
+        SchemaCleanUpUtils utilsInstance = new SchemaCleanUpUtils(configBuilder.build());
+
+        JsonNode schema = configBuilder.getObjectMapper().readTree(schemaInput);
+        ObjectNode definitions = configBuilder.getObjectMapper().createObjectNode();
+        utilsInstance.hoistRepeatedSubschemas(Collections.singletonList((ObjectNode) schema), definitions, "#/$defs/");
+
+        String schemaAsString = schema.toString();
+        JSONAssert.assertEquals('\n' + schemaAsString + '\n', expectedOutput, schemaAsString, JSONCompareMode.STRICT);
+        JSONAssert.assertEquals(expectedDefinitions, definitions.toString(), JSONCompareMode.STRICT);
+    }
+
+    Stream<Arguments> parametersForTestEnsureDefinitionKey() {
+        return Stream.of(
+                Arguments.of("Foo", "Foo", "Foo"),
+                Arguments.of("java.lang.String", "java.lang.String", "java.lang.String"),
+                Arguments.of("Map<String, List<Optional<Foo<Bar>>>>", "Map(String,List(Optional(Foo(Bar))))", "Map_String.List_Optional_Foo_Bar____"),
+                Arguments.of("Outer$Inner[]", "Outer$Inner*", "Outer-Inner..."),
+                Arguments.of("int[][]", "int**", "int......"),
+                Arguments.of("[[]] \u00e4?", "*", "..."),
+                Arguments.of("Map<String, Map<String, List<Foo$Bar[]>>>[]", "Map(String,Map(String,List(Foo$Bar*)))*",
+                        "Map_String.Map_String.List_Foo-Bar...___...")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("parametersForTestEnsureDefinitionKey")
+    public void testEnsureDefinitionKey(String definitionKey, String expectedUriCompatibleKey, String expectedPlainKey) {
+        SchemaCleanUpUtils utilsInstance = new SchemaCleanUpUtils(null);
+        Assertions.assertEquals(expectedUriCompatibleKey, utilsInstance.ensureDefinitionKeyIsUriCompatible(definitionKey));
+        Assertions.assertEquals(expectedPlainKey, utilsInstance.ensureDefinitionKeyIsPlain(definitionKey));
+    }
+
+    @Test
+    public void testEnsureDefinitionKey_alreadyClean() {
+        SchemaCleanUpUtils utilsInstance = new SchemaCleanUpUtils(null);
+        String uriCompatibleKey = "Map(String,List(Optional(Foo$Bar*)))";
+        Assertions.assertSame(uriCompatibleKey, utilsInstance.ensureDefinitionKeyIsUriCompatible(uriCompatibleKey));
+        String plainKey = "Map_String.List_Optional_Foo-Bar...___";
+        Assertions.assertSame(plainKey, utilsInstance.ensureDefinitionKeyIsPlain(plainKey));
+    }
+
+    @Test
+    public void testReduceRedundantMemberAttributes_largeEnums() {
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2020_12, OptionPreset.PLAIN_JSON);
+        SchemaCleanUpUtils utilsInstance = new SchemaCleanUpUtils(configBuilder.build());
+        ObjectNode definitions = configBuilder.getObjectMapper().createObjectNode();
+        this.addLargeEnum(definitions.putObject("Values"), 0);
+
+        ObjectNode schema = configBuilder.getObjectMapper().createObjectNode();
+        ObjectNode properties = schema.putObject("properties");
+        for (int index = 0; index < 100; index++) {
+            // every other member repeats the referenced definition's enum, the rest declare a different one
+            this.addLargeEnum(properties.putObject("member" + index).put("$ref", "#/$defs/Values"), index % 2);
+        }
+        utilsInstance.reduceRedundantMemberAttributes(Collections.singletonList(schema), definitions, "#/$defs/");
+
+        for (int index = 0; index < 100; index++) {
+            Assertions.assertEquals(index % 2 == 1, properties.get("member" + index).has("enum"), "member" + index);
+        }
+    }
+
+    private void addLargeEnum(ObjectNode schema, int offset) {
+        ArrayNode enumNode = schema.putArray("enum");
+        for (int index = 0; index < 10_000; index++) {
+            enumNode.add("VALUE_" + (index + offset));
+        }
+    }
 }
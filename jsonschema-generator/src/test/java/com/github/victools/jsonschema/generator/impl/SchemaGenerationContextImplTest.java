@@ -56,6 +56,7 @@ public class SchemaGenerationContextImplTest extends AbstractTypeAwareTest {
         Mockito.when(config.getSchemaVersion()).thenReturn(schemaVersion);
         Mockito.when(config.getKeyword(Mockito.any()))
                 .thenAnswer(invocation -> ((SchemaKeyword) invocation.getArgument(0)).forVersion(schemaVersion));
+        Mockito.when(config.sortProperties(Mockito.anyCollection())).thenCallRealMethod();
         Mockito.when(config.resolveTitle(Mockito.any(FieldScope.class))).thenReturn("Field Title");
         Mockito.when(config.resolveTitle(Mockito.any(MethodScope.class))).thenReturn("Method Title");
         Mockito.when(config.resolveDescriptionForType(Mockito.any())).thenReturn("Type Description");
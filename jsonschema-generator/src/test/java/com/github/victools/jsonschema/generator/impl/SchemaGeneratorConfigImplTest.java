@@ -17,17 +17,22 @@
 package com.github.victools.jsonschema.generator.impl;
 
 import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.classmate.TypeResolver;
 import com.github.victools.jsonschema.generator.AbstractTypeAwareTest;
 import com.github.victools.jsonschema.generator.CustomDefinition;
+import com.github.victools.jsonschema.generator.CustomDefinitionApplicability;
 import com.github.victools.jsonschema.generator.CustomDefinitionProviderV2;
 import com.github.victools.jsonschema.generator.FieldScope;
 import com.github.victools.jsonschema.generator.InstanceAttributeOverrideV2;
 import com.github.victools.jsonschema.generator.MethodScope;
 import com.github.victools.jsonschema.generator.Option;
+import com.github.victools.jsonschema.generator.SchemaGenerationContext;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfigPart;
 import com.github.victools.jsonschema.generator.SchemaGeneratorGeneralConfigPart;
 import com.github.victools.jsonschema.generator.SchemaVersion;
 import com.github.victools.jsonschema.generator.TypeAttributeOverrideV2;
+import com.github.victools.jsonschema.generator.TypeContext;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -149,6 +154,55 @@ public class SchemaGeneratorConfigImplTest extends AbstractTypeAwareTest {
         Assertions.assertSame(valueOne, this.instance.getCustomDefinition(Mockito.mock(ResolvedType.class), this.getContext(), null));
     }
 
+    @Test
+    public void testGetCustomDefinition_withApplicability() {
+        CustomDefinition stringValue = Mockito.mock(CustomDefinition.class);
+        CustomDefinition fallbackValue = Mockito.mock(CustomDefinition.class);
+        CustomDefinitionProviderV2 stringProvider = Mockito.mock(CustomDefinitionProviderV2.class);
+        Mockito.when(stringProvider.provideCustomSchemaDefinition(Mockito.any(), Mockito.any())).thenReturn(stringValue);
+        Mockito.when(stringProvider.getApplicability()).thenReturn(new CustomDefinitionApplicability().withTypes(String.class));
+        CustomDefinitionProviderV2 fallbackProvider = (type, context) -> fallbackValue;
+        Mockito.when(this.typesInGeneralConfigPart.getCustomDefinitionProviders()).thenReturn(Arrays.asList(stringProvider, fallbackProvider));
+
+        TypeResolver typeResolver = new TypeResolver();
+        Assertions.assertSame(stringValue, this.instance.getCustomDefinition(typeResolver.resolve(String.class), this.getContext(), null));
+        Assertions.assertSame(fallbackValue, this.instance.getCustomDefinition(typeResolver.resolve(Integer.class), this.getContext(), null));
+        Assertions.assertSame(fallbackValue,
+                this.instance.getCustomDefinition(typeResolver.resolve(String.class), this.getContext(), stringProvider));
+        Assertions.assertNull(this.instance.getCustomDefinition(typeResolver.resolve(String.class), this.getContext(), fallbackProvider));
+        // only invoked for the String type once
+        Mockito.verify(stringProvider).provideCustomSchemaDefinition(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testGetCustomDefinition_withCacheableProvider() {
+        CustomDefinitionProviderV2 provider = Mockito.mock(CustomDefinitionProviderV2.class);
+        Mockito.when(provider.isCacheable()).thenReturn(true);
+        Mockito.when(provider.provideCustomSchemaDefinition(Mockito.any(), Mockito.any()))
+                .thenAnswer(_invocation -> new CustomDefinition(new ObjectMapper().createObjectNode().put("type", "string")));
+        Mockito.when(this.typesInGeneralConfigPart.getCustomDefinitionProviders()).thenReturn(Collections.singletonList(provider));
+
+        TypeResolver typeResolver = new TypeResolver();
+        CustomDefinition firstResult = this.instance.getCustomDefinition(typeResolver.resolve(String.class), this.getContext(), null);
+        // the cached value should not be affected by changes to previously returned definitions
+        firstResult.getValue().put("title", "changed");
+        CustomDefinition secondResult = this.instance.getCustomDefinition(typeResolver.resolve(String.class), this.getContext(), null);
+        Assertions.assertEquals("{\"type\":\"string\"}", secondResult.getValue().toString());
+        Assertions.assertNotSame(secondResult.getValue(), this.instance.getCustomDefinition(typeResolver.resolve(String.class), this.getContext(), null)
+                .getValue());
+        Mockito.verify(provider).provideCustomSchemaDefinition(Mockito.any(), Mockito.any());
+
+        this.instance.getCustomDefinition(typeResolver.resolve(Integer.class), this.getContext(), null);
+        Mockito.verify(provider, Mockito.times(2)).provideCustomSchemaDefinition(Mockito.any(), Mockito.any());
+
+        // results may depend on the type context's annotation configuration, i.e., they are not being shared with another type context
+        TypeContext otherTypeContext = TypeContextFactory.createDefaultTypeContext(Mockito.mock(SchemaGeneratorConfig.class));
+        SchemaGenerationContext otherContext = Mockito.mock(SchemaGenerationContext.class);
+        Mockito.when(otherContext.getTypeContext()).thenReturn(otherTypeContext);
+        this.instance.getCustomDefinition(typeResolver.resolve(String.class), otherContext, null);
+        Mockito.verify(provider, Mockito.times(3)).provideCustomSchemaDefinition(Mockito.any(), Mockito.any());
+    }
+
     static Stream<Arguments> parametersForTestIsNullable() {
         return Stream.of(
             Arguments.of(null, true, true),
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import com.github.victools.jsonschema.generator.SchemaKeyword;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Test for the {@link SchemaKeywordTable} class.
+ */
+public class SchemaKeywordTableTest {
+
+    @ParameterizedTest
+    @EnumSource(SchemaVersion.class)
+    public void testGetKeyword(SchemaVersion version) {
+        SchemaKeywordTable table = SchemaKeywordTable.forVersion(version);
+        for (SchemaKeyword keyword : SchemaKeyword.values()) {
+            Assertions.assertEquals(keyword.forVersion(version), table.getKeyword(keyword));
+            Assertions.assertSame(table.getKeyword(keyword), SchemaKeywordTable.forVersion(version).getKeyword(keyword));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(SchemaVersion.class)
+    public void testReverseLookUps(SchemaVersion version) {
+        SchemaKeywordTable table = SchemaKeywordTable.forVersion(version);
+        Assertions.assertEquals(SchemaKeyword.getReverseTagMap(version, _tag -> true), table.getReverseTagMap());
+        Assertions.assertEquals(SchemaKeyword.getReverseTagMap(version, tag -> !tag.getImpliedTypes().isEmpty()),
+                table.getReverseTagMapWithImpliedTypes());
+        for (SchemaKeyword.TagContent contentType : SchemaKeyword.TagContent.values()) {
+            Assertions.assertEquals(SchemaKeyword.getReverseTagMap(version, tag -> tag.supportsContentType(contentType)).keySet(),
+                    table.getTagNamesSupporting(contentType));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.generator.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Test for the {@link StructuralHashes} class.
+ */
+public class StructuralHashesTest {
+
+    private static final int ENUM_SIZE = 10_000;
+
+    private final JsonMapper mapper = JsonMapper.shared();
+
+    @Test
+    public void testAreEqual() {
+        StructuralHashes hashes = new StructuralHashes();
+        JsonNode node = this.mapper.readTree("{\"type\":\"object\",\"properties\":{\"a\":{\"type\":\"string\"}},\"required\":[\"a\"]}");
+        JsonNode reorderedNode = this.mapper.readTree("{\"required\":[\"a\"],\"properties\":{\"a\":{\"type\":\"string\"}},\"type\":\"object\"}");
+        JsonNode otherNode = this.mapper.readTree("{\"type\":\"object\",\"properties\":{\"a\":{\"type\":\"string\"}},\"required\":[]}");
+
+        Assertions.assertTrue(hashes.areEqual(null, null));
+        Assertions.assertFalse(hashes.areEqual(node, null));
+        Assertions.assertFalse(hashes.areEqual(null, node));
+        Assertions.assertTrue(hashes.areEqual(node, node));
+        Assertions.assertTrue(hashes.areEqual(node, reorderedNode));
+        Assertions.assertEquals(hashes.getHash(node), hashes.getHash(reorderedNode));
+        Assertions.assertFalse(hashes.areEqual(node, otherNode));
+        Assertions.assertFalse(hashes.areEqual(this.mapper.readTree("[1,2]"), this.mapper.readTree("[2,1]")));
+    }
+
+    @Test
+    public void testAreEqual_largeEnums() {
+        StructuralHashes hashes = new StructuralHashes();
+        ObjectNode definition = this.createEnumSchema(0);
+        ObjectNode equalMember = this.createEnumSchema(0);
+        ObjectNode differentMember = this.createEnumSchema(1);
+
+        Assertions.assertTrue(hashes.areEqual(definition.get("enum"), equalMember.get("enum")));
+        Assertions.assertFalse(hashes.areEqual(definition.get("enum"), differentMember.get("enum")));
+        Assertions.assertFalse(hashes.areEqual(definition, differentMember));
+        // each enum array has been hashed only once, in addition to the two compared object nodes
+        Assertions.assertEquals(5, hashes.getCachedHashCount());
+    }
+
+    @Test
+    public void testGetHash_objectsCachedUntilForgotten() {
+        StructuralHashes hashes = new StructuralHashes();
+        ArrayNode arrayOfObjects = (ArrayNode) this.mapper.readTree("[{\"type\":\"string\"},{\"type\":\"integer\",\"enum\":[1,2]}]");
+        int hash = hashes.getHash(arrayOfObjects);
+        // the outer array, both objects and the array of values
+        Assertions.assertEquals(4, hashes.getCachedHashCount());
+        Assertions.assertEquals(hash, hashes.getHash(arrayOfObjects));
+
+        ((ObjectNode) arrayOfObjects.get(0)).put("format", "email");
+        hashes.forgetModifiableNodeHashes();
+        // only the array of values remains cached
+        Assertions.assertEquals(1, hashes.getCachedHashCount());
+        Assertions.assertNotEquals(hash, hashes.getHash(arrayOfObjects));
+    }
+
+    private ObjectNode createEnumSchema(int offset) {
+        ObjectNode schema = this.mapper.createObjectNode().put("type", "string");
+        ArrayNode enumNode = schema.putArray("enum");
+        for (int index = 0; index < ENUM_SIZE; index++) {
+            enumNode.add("VALUE_" + (index + offset));
+        }
+        return schema;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.plugin.maven;
+
+import com.fasterxml.classmate.ResolvedType;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.TreeMap;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Collector of the classes being accessed reflectively during the schema generation, in order to produce a GraalVM native image reflection
+ * configuration (i.e., the contents of a {@code reflect-config.json}) for running the generator within a native image.
+ * <ul>
+ * <li>All traversed types and their super types are being registered with all their declared fields and methods.</li>
+ * <li>All annotations on those types and their declared fields and methods (including type annotations and meta annotations) are being registered
+ * with all their declared methods.</li>
+ * <li>All classes being referenced from those annotations (e.g., a naming strategy in {@code @JsonNaming}) are being registered with their default
+ * constructor, in case a module instantiates them.</li>
+ * </ul>
+ *
+ * @since 5.1.0
+ */
+public class ReflectionConfigCollector {
+
+    private static final String META_ANNOTATIONS_PACKAGE = "java.lang.annotation";
+
+    private final Map<String, Registration> registrations = new TreeMap<>();
+
+    /**
+     * Register the given type (including its type parameters) as having been traversed during the schema generation.
+     *
+     * @param type traversed type
+     */
+    public void addTraversedType(ResolvedType type) {
+        this.addTraversedType(type.getErasedType());
+        if (type.isArray()) {
+            this.addTraversedType(type.getArrayElementType());
+        }
+        type.getTypeParameters().forEach(this::addTraversedType);
+    }
+
+    /**
+     * Register the given class as having been traversed during the schema generation.
+     *
+     * @param type traversed class
+     */
+    public void addTraversedType(Class<?> type) {
+        Class<?> componentType = type;
+        while (componentType.isArray()) {
+            componentType = componentType.getComponentType();
+        }
+        if (componentType.isPrimitive() || this.getRegistration(componentType).includesMembers) {
+            return;
+        }
+        this.getRegistration(componentType).includesMembers = true;
+        this.addAnnotations(componentType);
+        for (Field field : componentType.getDeclaredFields()) {
+            this.addAnnotations(field);
+            this.addTypeAnnotations(field.getAnnotatedType());
+        }
+        for (Method method : componentType.getDeclaredMethods()) {
+            this.addAnnotations(method);
+            this.addTypeAnnotations(method.getAnnotatedReturnType());
+        }
+        if (componentType.getSuperclass() != null) {
+            this.addTraversedType(componentType.getSuperclass());
+        }
+        for (Class<?> interfaceType : componentType.getInterfaces()) {
+            this.addTraversedType(interfaceType);
+        }
+    }
+
+    private Registration getRegistration(Class<?> type) {
+        return this.registrations.computeIfAbsent(type.getName(), _name -> new Registration());
+    }
+
+    private void addTypeAnnotations(AnnotatedType annotatedType) {
+        this.addAnnotations(annotatedType);
+        if (annotatedType instanceof AnnotatedParameterizedType parameterizedType) {
+            for (AnnotatedType typeArgument : parameterizedType.getAnnotatedActualTypeArguments()) {
+                this.addTypeAnnotations(typeArgument);
+            }
+        } else if (annotatedType instanceof AnnotatedArrayType arrayType) {
+            this.addTypeAnnotations(arrayType.getAnnotatedGenericComponentType());
+        }
+    }
+
+    private void addAnnotations(AnnotatedElement annotatedElement) {
+        for (Annotation annotation : annotatedElement.getDeclaredAnnotations()) {
+            this.addAnnotation(annotation);
+        }
+    }
+
+    private void addAnnotation(Annotation annotation) {
+        Class<? extends Annotation> annotationType = annotation.annotationType();
+        if (annotationType.getPackageName().equals(META_ANNOTATIONS_PACKAGE)) {
+            return;
+        }
+        Registration registration = this.getRegistration(annotationType);
+        if (!registration.includesAnnotationMethods) {
+            registration.includesAnnotationMethods = true;
+            // consider meta annotations, e.g., for annotations being combined via @JacksonAnnotationsInside
+            this.addAnnotations(annotationType);
+        }
+        for (Method attribute : annotationType.getDeclaredMethods()) {
+            if (attribute.getParameterCount() == 0) {
+                this.addAnnotationAttributeValue(this.getAttributeValue(annotation, attribute));
+            }
+        }
+    }
+
+    private Object getAttributeValue(Annotation annotation, Method attribute) {
+        try {
+            return attribute.invoke(annotation);
+        } catch (IllegalAccessException | InvocationTargetException | RuntimeException ex) {
+            // attribute cannot be read (e.g., due to a missing class), i.e., it is not relevant for the schema generation either
+            return null;
+        }
+    }
+
+    private void addAnnotationAttributeValue(Object value) {
+        if (value instanceof Class<?> referencedType && !referencedType.isPrimitive()) {
+            this.getRegistration(referencedType).includesDefaultConstructor = true;
+        } else if (value instanceof Annotation nestedAnnotation) {
+            this.addAnnotation(nestedAnnotation);
+        } else if (value instanceof Object[] values) {
+            for (Object item : values) {
+                this.addAnnotationAttributeValue(item);
+            }
+        }
+    }
+
+    /**
+     * Create the reflection configuration for all registered classes, sorted by their names.
+     *
+     * @param objectMapper object mapper to create the JSON nodes with
+     * @return contents of a {@code reflect-config.json}
+     */
+    public ArrayNode toReflectionConfig(ObjectMapper objectMapper) {
+        ArrayNode reflectionConfig = objectMapper.createArrayNode();
+        this.registrations.forEach((className, registration) -> {
+            ObjectNode entry = reflectionConfig.addObject()
+                    .put("name", className);
+            if (registration.includesMembers) {
+                entry.put("allDeclaredFields", true)
+                        .put("allDeclaredMethods", true)
+                        .put("queryAllDeclaredConstructors", true);
+            } else if (registration.includesAnnotationMethods) {
+                entry.put("allDeclaredMethods", true);
+            }
+            if (registration.includesDefaultConstructor) {
+                entry.putArray("methods").addObject()
+                        .put("name", "<init>")
+                        .set("parameterTypes", objectMapper.createArrayNode());
+            }
+        });
+        return reflectionConfig;
+    }
+
+    /**
+     * Aspects of a single class to be accessible via reflection.
+     */
+    private static final class Registration {
+
+        private boolean includesMembers;
+        private boolean includesAnnotationMethods;
+        private boolean includesDefaultConstructor;
+    }
+}
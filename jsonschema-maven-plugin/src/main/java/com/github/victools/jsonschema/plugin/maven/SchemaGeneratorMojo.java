@@ -16,8 +16,10 @@
 
 package com.github.victools.jsonschema.plugin.maven;
 
+import com.github.victools.jsonschema.generator.IncrementalSchemaGenerator;
 import com.github.victools.jsonschema.generator.Module;
 import com.github.victools.jsonschema.generator.OptionPreset;
+import com.github.victools.jsonschema.generator.PrecompiledSchemaRegistry;
 import com.github.victools.jsonschema.generator.SchemaGenerator;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
@@ -36,9 +38,11 @@ import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ClassInfo;
 import io.github.classgraph.ClassInfoList;
 import io.github.classgraph.ScanResult;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.lang.reflect.Array;
@@ -53,7 +57,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -65,6 +71,7 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.apache.maven.project.MavenProject;
+import tools.jackson.core.JacksonException;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 
@@ -143,6 +150,26 @@ public class SchemaGeneratorMojo extends AbstractMojo {
     @Parameter(property = "schemaFileName", defaultValue = "{0}-schema.json")
     private String schemaFileName;
 
+    /**
+     * The name of a single precompiled bundle to write all generated schemas into (instead of separate schema files), relative to the
+     * {@link #schemaFilePath}. The bundle consists of two files: an index (with the extension {@code .index}) and the schemas themselves (with the
+     * extension {@code .schemas}), to be loaded at runtime via the {@code PrecompiledSchemaRegistry}.
+     *
+     * @since 5.1.0
+     */
+    @Parameter(property = "precompiledBundleName")
+    private String precompiledBundleName;
+
+    /**
+     * The GraalVM native image reflection configuration file to write, listing the classes (and their members and annotations) that are being
+     * accessed reflectively when generating the configured schemas. This allows running the generator within a native image, e.g., when placing it
+     * under: {@code ${project.build.outputDirectory}/META-INF/native-image/<groupId>/<artifactId>/reflect-config.json}
+     *
+     * @since 5.1.0
+     */
+    @Parameter(property = "reflectionConfigFile")
+    private File reflectionConfigFile;
+
     /**
      * The schema version to be used: DRAFT_6, DRAFT_7, DRAFT_2019_09 or DRAFT_2020_12.
      */
@@ -188,6 +215,16 @@ public class SchemaGeneratorMojo extends AbstractMojo {
      */
     private List<PotentialSchemaClass> allTypes;
 
+    /**
+     * The generated schemas to be written into a precompiled bundle (if a {@link #precompiledBundleName} is configured).
+     */
+    private final Map<String, JsonNode> precompiledSchemas = new TreeMap<>();
+
+    /**
+     * The classes being accessed reflectively during the schema generations (if a {@link #reflectionConfigFile} is configured).
+     */
+    private final ReflectionConfigCollector reflectionConfigCollector = new ReflectionConfigCollector();
+
     /**
      * Invoke the schema generator.
      *
@@ -210,6 +247,12 @@ public class SchemaGeneratorMojo extends AbstractMojo {
             this.getLog().info("Generating JSON Schema for all annotated classes");
             this.generateSchema("**/*", false);
         }
+        if (!Util.isNullOrEmpty(this.precompiledBundleName)) {
+            this.writePrecompiledBundle();
+        }
+        if (this.reflectionConfigFile != null) {
+            this.writeReflectionConfig();
+        }
     }
 
     /**
@@ -264,7 +307,21 @@ public class SchemaGeneratorMojo extends AbstractMojo {
      * @throws MojoExecutionException In case of problems
      */
     private void generateSchema(Class<?> schemaClass) throws MojoExecutionException {
-        JsonNode jsonSchema = getGenerator().generateSchema(schemaClass);
+        JsonNode jsonSchema;
+        if (this.reflectionConfigFile == null) {
+            jsonSchema = getGenerator().generateSchema(schemaClass);
+        } else {
+            // determine all traversed types along with the schema itself
+            IncrementalSchemaGenerator trackingGenerator = new IncrementalSchemaGenerator(getGenerator());
+            jsonSchema = trackingGenerator.generateSchema(schemaClass);
+            trackingGenerator.getTypeDependencyGraph(schemaClass).getTypes()
+                    .forEach(this.reflectionConfigCollector::addTraversedType);
+        }
+        if (!Util.isNullOrEmpty(this.precompiledBundleName)) {
+            this.getLog().info("- Adding schema to precompiled bundle: " + schemaClass.getName());
+            this.precompiledSchemas.put(schemaClass.getName(), jsonSchema);
+            return;
+        }
         File file = getSchemaFile(schemaClass);
         this.getLog().info("- Writing schema to file: " + file);
         this.writeToFile(jsonSchema, file);
@@ -373,6 +430,22 @@ public class SchemaGeneratorMojo extends AbstractMojo {
      * @return The full path name of the schema file
      */
     private File getSchemaFile(Class<?> mainType) {
+        // Build the full qualified file name.
+        String fileName = MessageFormat.format(this.schemaFileName,
+                // placeholder {0}
+                mainType.getSimpleName(),
+                // placeholder {1}
+                mainType.getPackage().getName().replace('.', File.separatorChar));
+        return this.getFileInSchemaDirectory(fileName);
+    }
+
+    /**
+     * Return the file with the given name in the {@link #schemaFilePath}, ensuring its parent directory exists.
+     *
+     * @param fileName relative path including the file name
+     * @return The full path name of the file
+     */
+    private File getFileInSchemaDirectory(String fileName) {
         // At first find the root location where the schema files are written
         File directory;
         if (this.schemaFilePath == null) {
@@ -381,23 +454,16 @@ public class SchemaGeneratorMojo extends AbstractMojo {
         } else {
             directory = this.schemaFilePath;
         }
-
-        // Then build the full qualified file name.
-        String fileName = MessageFormat.format(this.schemaFileName,
-                // placeholder {0}
-                mainType.getSimpleName(),
-                // placeholder {1}
-                mainType.getPackage().getName().replace('.', File.separatorChar));
-        File schemaFile = new File(directory, fileName);
+        File file = new File(directory, fileName);
 
         // Make sure the directory is available
         try {
-            Files.createDirectories(schemaFile.getParentFile().toPath());
+            Files.createDirectories(file.getParentFile().toPath());
         } catch (IOException e) {
-            this.getLog().warn("Failed to ensure existence of " + schemaFile.getParent(), e);
+            this.getLog().warn("Failed to ensure existence of " + file.getParent(), e);
         }
 
-        return schemaFile;
+        return file;
     }
 
     /**
@@ -602,6 +668,42 @@ public class SchemaGeneratorMojo extends AbstractMojo {
         }
     }
 
+    /**
+     * Write all collected schemas into a precompiled bundle, i.e., an index file and a file containing the schemas themselves.
+     *
+     * @throws MojoExecutionException In case of problems when writing the targeted files
+     */
+    private void writePrecompiledBundle() throws MojoExecutionException {
+        File indexFile = this.getFileInSchemaDirectory(this.precompiledBundleName + PrecompiledSchemaRegistry.INDEX_FILE_EXTENSION);
+        File blobFile = this.getFileInSchemaDirectory(this.precompiledBundleName + PrecompiledSchemaRegistry.BLOB_FILE_EXTENSION);
+        this.getLog().info("Writing precompiled bundle with " + this.precompiledSchemas.size() + " schemas to files: " + indexFile + ", " + blobFile);
+        try (OutputStream indexOutput = new BufferedOutputStream(new FileOutputStream(indexFile));
+                OutputStream blobOutput = new BufferedOutputStream(new FileOutputStream(blobFile))) {
+            PrecompiledSchemaRegistry.writeBundle(this.precompiledSchemas, indexOutput, blobOutput);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Error: Can not write precompiled bundle " + indexFile + ", " + blobFile, e);
+        }
+    }
+
+    /**
+     * Write the GraalVM native image reflection configuration for all classes being accessed during the schema generations.
+     *
+     * @throws MojoExecutionException In case of problems when writing the targeted file
+     */
+    private void writeReflectionConfig() throws MojoExecutionException {
+        this.getLog().info("Writing native image reflection configuration to file: " + this.reflectionConfigFile);
+        ObjectMapper mapper = getGenerator().getConfig().getObjectMapper();
+        try {
+            if (this.reflectionConfigFile.getParentFile() != null) {
+                Files.createDirectories(this.reflectionConfigFile.getParentFile().toPath());
+            }
+            mapper.writerWithDefaultPrettyPrinter()
+                    .writeValue(this.reflectionConfigFile, this.reflectionConfigCollector.toReflectionConfig(mapper));
+        } catch (IOException | JacksonException e) {
+            throw new MojoExecutionException("Error: Can not write native image reflection configuration " + this.reflectionConfigFile, e);
+        }
+    }
+
     /**
      * Check whether a given class is deemed abstract but not an interface.
      *
@@ -16,9 +16,22 @@
 
 package com.github.victools.jsonschema.plugin.maven;
 
+import com.fasterxml.jackson.annotation.JsonClassDescription;
+import com.github.victools.jsonschema.generator.PrecompiledSchemaRegistry;
+import com.github.victools.jsonschema.plugin.maven.annotations.AnotherTestAnnotation;
+import com.github.victools.jsonschema.plugin.maven.annotations.TestAnnotation;
+import com.github.victools.jsonschema.plugin.maven.testpackage.TestClassA;
+import com.github.victools.jsonschema.plugin.maven.testpackage.TestClassB;
+import com.github.victools.jsonschema.plugin.maven.testpackage.sub.TestClassC;
 import java.io.File;
 import java.io.FileReader;
+import java.lang.annotation.Retention;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.apache.commons.io.FileUtils;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.testing.AbstractMojoTestCase;
@@ -32,6 +45,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
 
 public class SchemaGeneratorMojoTest extends AbstractMojoTestCase {
 
@@ -327,6 +342,83 @@ public class SchemaGeneratorMojoTest extends AbstractMojoTestCase {
             "Generated schema for TestClassA is not equal to the expected reference.");
     }
 
+    /**
+     * Unit test to test the generation of a precompiled bundle for multiple classes, to be loaded via the {@link PrecompiledSchemaRegistry}
+     */
+    @Test
+    public void testPrecompiledBundle() throws Exception {
+        File testCaseLocation = new File("src/test/resources/reference-test-cases");
+        File generationLocation = new File("target/generated-test-sources/PrecompiledBundle");
+
+        // Execute the pom
+        executePom(new File(testCaseLocation, "PrecompiledBundle-pom.xml"));
+
+        // Validate that the bundle files are created instead of separate schema files.
+        File indexFile = new File(generationLocation, "schemas/precompiled" + PrecompiledSchemaRegistry.INDEX_FILE_EXTENSION);
+        Assertions.assertTrue(indexFile.exists());
+        indexFile.deleteOnExit();
+        File blobFile = new File(generationLocation, "schemas/precompiled" + PrecompiledSchemaRegistry.BLOB_FILE_EXTENSION);
+        Assertions.assertTrue(blobFile.exists());
+        blobFile.deleteOnExit();
+        Assertions.assertFalse(new File(generationLocation, "TestClassA-schema.json").exists());
+
+        // Validate that the bundled schemas are the same as the references
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{ generationLocation.toURI().toURL() }, null)) {
+            PrecompiledSchemaRegistry registry = new PrecompiledSchemaRegistry(classLoader, "schemas/precompiled", () -> {
+                throw new AssertionError("fallback generator should not be required");
+            });
+            ObjectMapper objectMapper = new ObjectMapper();
+            Assertions.assertTrue(registry.isPrecompiled(TestClassA.class));
+            Assertions.assertEquals(objectMapper.readTree(new File(testCaseLocation, "TestClassA-reference.json")),
+                    registry.getSchema(TestClassA.class));
+            Assertions.assertTrue(registry.isPrecompiled(TestClassB.class));
+            Assertions.assertEquals(objectMapper.readTree(new File(testCaseLocation, "TestClassB-reference.json")),
+                    registry.getSchema(TestClassB.class));
+            Assertions.assertFalse(registry.isPrecompiled(TestClassC.class));
+        }
+    }
+
+    /**
+     * Unit test to test the generation of a native image reflection configuration alongside the schemas
+     */
+    @Test
+    public void testReflectionConfig() throws Exception {
+        File testCaseLocation = new File("src/test/resources/reference-test-cases");
+        File generationLocation = new File("target/generated-test-sources/ReflectionConfig");
+
+        // Execute the pom
+        executePom(new File(testCaseLocation, "ReflectionConfig-pom.xml"));
+
+        // Validate that the schema files are still the same as the reference
+        File resultFileA = new File(generationLocation, "TestClassA-schema.json");
+        Assertions.assertTrue(resultFileA.exists());
+        resultFileA.deleteOnExit();
+        Assertions.assertTrue(FileUtils.contentEqualsIgnoreEOL(resultFileA, new File(testCaseLocation, "TestClassA-reference.json"), CHARSET_NAME),
+                "Generated schema for TestClassA is not equal to the expected reference.");
+
+        File configFile = new File(generationLocation, "META-INF/native-image/reflect-config.json");
+        Assertions.assertTrue(configFile.exists());
+        configFile.deleteOnExit();
+        JsonNode reflectionConfig = new ObjectMapper().readTree(configFile);
+        Map<String, JsonNode> entries = new HashMap<>();
+        reflectionConfig.forEach(entry -> entries.put(entry.get("name").asString(), entry));
+
+        for (Class<?> traversedType : List.of(TestClassA.class, TestClassB.class, Object.class)) {
+            JsonNode entry = entries.get(traversedType.getName());
+            Assertions.assertNotNull(entry, traversedType.getName());
+            Assertions.assertTrue(entry.get("allDeclaredFields").asBoolean());
+            Assertions.assertTrue(entry.get("allDeclaredMethods").asBoolean());
+        }
+        for (Class<?> annotationType : List.of(TestAnnotation.class, AnotherTestAnnotation.class, JsonClassDescription.class)) {
+            JsonNode entry = entries.get(annotationType.getName());
+            Assertions.assertNotNull(entry, annotationType.getName());
+            Assertions.assertTrue(entry.get("allDeclaredMethods").asBoolean());
+            Assertions.assertFalse(entry.has("allDeclaredFields"));
+        }
+        Assertions.assertFalse(entries.containsKey(TestClassC.class.getName()));
+        Assertions.assertFalse(entries.containsKey(Retention.class.getName()));
+    }
+
     /**
      * Execute the schema-generator plugin as define the the given pom file
      *
@@ -22,15 +22,25 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.github.victools.jsonschema.generator.AnnotationHelper;
 import com.github.victools.jsonschema.generator.CustomDefinition;
+import com.github.victools.jsonschema.generator.CustomDefinitionApplicability;
 import com.github.victools.jsonschema.generator.CustomDefinitionProviderV2;
 import com.github.victools.jsonschema.generator.SchemaGenerationContext;
 import com.github.victools.jsonschema.generator.SchemaKeyword;
 import com.github.victools.jsonschema.generator.impl.AttributeCollector;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import tools.jackson.databind.node.ObjectNode;
@@ -45,6 +55,25 @@ public class CustomEnumDefinitionProvider implements CustomDefinitionProviderV2
 
     private final boolean checkForJsonValueAnnotatedMethod;
     private final boolean checkForJsonPropertyAnnotations;
+    /**
+     * Results of invoking a {@link JsonValue} annotated method on all constants of an enum type, per method. Being attached to the enum type via a
+     * {@link ClassValue}, they do not prevent it from being unloaded.
+     */
+    private final ClassValue<ConcurrentMap<Method, Optional<List<Object>>>> jsonValuesPerEnumType = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<Method, Optional<List<Object>>> computeValue(Class<?> enumType) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    /**
+     * Serialized names of an enum type's constants, per constant name, as per their {@link JsonProperty} annotations (being empty if not annotated).
+     */
+    private final ClassValue<Map<String, Optional<String>>> jsonPropertyValuesPerEnumType = new ClassValue<>() {
+        @Override
+        protected Map<String, Optional<String>> computeValue(Class<?> enumType) {
+            return CustomEnumDefinitionProvider.collectJsonPropertyValues(enumType);
+        }
+    };
 
     /**
      * Constructor indicating how to attempt to serialise enum constant values. If both flags are provided as {@code true}, the {@link JsonValue}
@@ -86,6 +115,22 @@ public class CustomEnumDefinitionProvider implements CustomDefinitionProviderV2
         return new CustomDefinition(customNode);
     }
 
+    @Override
+    public CustomDefinitionApplicability getApplicability() {
+        return new CustomDefinitionApplicability()
+                .withSupertypes(Enum.class);
+    }
+
+    /**
+     * Declare the provided custom definitions to be cacheable, unless this is a subclass (which would need to override this method to confirm it).
+     *
+     * @return whether this is exactly the standard provider
+     */
+    @Override
+    public boolean isCacheable() {
+        return this.getClass() == CustomEnumDefinitionProvider.class;
+    }
+
     /**
      * Check whether the given type is an enum with at least one constant value and a single {@link JsonValue} annotated method with
      * {@code value = true} and no expected arguments.
@@ -100,15 +145,38 @@ public class CustomEnumDefinitionProvider implements CustomDefinitionProviderV2
         if (jsonValueAnnotatedEnumMethod == null) {
             return null;
         }
+        // since 5.1.0: the method is only being invoked once per enum constant
+        return this.jsonValuesPerEnumType.get(javaType.getErasedType())
+                .computeIfAbsent(jsonValueAnnotatedEnumMethod.getRawMember(), method -> CustomEnumDefinitionProvider.invoke(method, enumConstants))
+                .map(ArrayList::new)
+                .orElse(null);
+    }
+
+    /**
+     * Invoke the given argument-free method on each of the given enum constants.
+     *
+     * @param method method to invoke
+     * @param enumConstants enum constants to invoke the method on
+     * @return results for each enum constant (or an empty {@code Optional} if the method could not be invoked successfully on all of them)
+     */
+    private static Optional<List<Object>> invoke(Method method, Object[] enumConstants) {
+        MethodHandle methodHandle;
         try {
-            List<Object> serializedJsonValues = new ArrayList<>(enumConstants.length);
-            for (Object enumConstant : enumConstants) {
-                serializedJsonValues.add(jsonValueAnnotatedEnumMethod.getRawMember().invoke(enumConstant));
+            methodHandle = MethodHandles.lookup().unreflect(method)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException ex) {
+            return Optional.empty();
+        }
+        List<Object> serializedJsonValues = new ArrayList<>(enumConstants.length);
+        for (Object enumConstant : enumConstants) {
+            try {
+                serializedJsonValues.add(methodHandle.invokeExact(enumConstant));
+            } catch (Throwable ex) {
+                // equivalent to an InvocationTargetException when invoking the method reflectively
+                return Optional.empty();
             }
-            return serializedJsonValues;
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
-            return null;
         }
+        return Optional.of(Collections.unmodifiableList(serializedJsonValues));
     }
 
     /**
@@ -140,22 +208,41 @@ public class CustomEnumDefinitionProvider implements CustomDefinitionProviderV2
      * @return annotated {@link JsonProperty#value()} for each enum constant (or {@code null} if the criteria are not met)
      */
     protected List<String> getSerializedValuesFromJsonProperty(ResolvedType javaType, Object[] enumConstants) {
+        Map<String, Optional<String>> jsonPropertyValues;
         try {
-            List<String> serializedJsonValues = new ArrayList<>(enumConstants.length);
-            for (Object enumConstant : enumConstants) {
-                String enumValueName = ((Enum<?>) enumConstant).name();
-                Optional<JsonProperty> annotation = AnnotationHelper.resolveAnnotation(javaType.getErasedType().getDeclaredField(enumValueName),
-                        JsonProperty.class, JacksonSchemaModule.NESTED_ANNOTATION_CHECK);
-                if (!annotation.isPresent()) {
-                    // enum constant without @JsonProperty annotation
-                    return null;
-                }
-                final String annotationValue = annotation.get().value();
-                serializedJsonValues.add(JsonProperty.USE_DEFAULT_NAME.equals(annotationValue) ? enumValueName : annotationValue);
-            }
-            return serializedJsonValues;
-        } catch (NoSuchFieldException | SecurityException ex) {
+            jsonPropertyValues = this.jsonPropertyValuesPerEnumType.get(javaType.getErasedType());
+        } catch (SecurityException ex) {
             return null;
         }
+        List<String> serializedJsonValues = new ArrayList<>(enumConstants.length);
+        for (Object enumConstant : enumConstants) {
+            Optional<String> annotationValue = jsonPropertyValues.getOrDefault(((Enum<?>) enumConstant).name(), Optional.empty());
+            if (!annotationValue.isPresent()) {
+                // enum constant without @JsonProperty annotation
+                return null;
+            }
+            serializedJsonValues.add(annotationValue.get());
+        }
+        return serializedJsonValues;
+    }
+
+    /**
+     * Look-up the {@link JsonProperty} annotations on all constants of the given enum type at once.
+     *
+     * @param enumType type declaring the enum constants
+     * @return annotated {@link JsonProperty#value()} (or the constant's name if it is the default) per enum constant name
+     */
+    private static Map<String, Optional<String>> collectJsonPropertyValues(Class<?> enumType) {
+        Map<String, Optional<String>> jsonPropertyValues = new HashMap<>();
+        for (Field field : enumType.getDeclaredFields()) {
+            if (field.isEnumConstant()) {
+                String enumValueName = field.getName();
+                jsonPropertyValues.put(enumValueName,
+                        AnnotationHelper.resolveAnnotation(field, JsonProperty.class, JacksonSchemaModule.NESTED_ANNOTATION_CHECK)
+                                .map(JsonProperty::value)
+                                .map(value -> JsonProperty.USE_DEFAULT_NAME.equals(value) ? enumValueName : value));
+            }
+        }
+        return jsonPropertyValues;
     }
 }
@@ -33,13 +33,12 @@ import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfigPart;
 import com.github.victools.jsonschema.generator.SchemaGeneratorGeneralConfigPart;
 import com.github.victools.jsonschema.generator.TypeScope;
+import com.github.victools.jsonschema.generator.impl.ClassBoundCache;
 import com.github.victools.jsonschema.generator.impl.Util;
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import tools.jackson.databind.BeanDescription;
@@ -65,8 +64,8 @@ public class JacksonSchemaModule implements Module {
 
     private final Set<JacksonOption> options;
     private ObjectMapper objectMapper;
-    private final Map<Class<?>, BeanDescription> beanDescriptions = Collections.synchronizedMap(new HashMap<>());
-    private final Map<Class<?>, PropertyNamingStrategy> namingStrategies = Collections.synchronizedMap(new HashMap<>());
+    private final ClassBoundCache<Class<?>, BeanDescription> beanDescriptions = ClassBoundCache.forClasses();
+    private final ClassBoundCache<Class<?>, PropertyNamingStrategy> namingStrategies = ClassBoundCache.forClasses();
 
     /**
      * Constructor, without any additional options.
@@ -228,11 +227,8 @@ public class JacksonSchemaModule implements Module {
      * @return altered property name (or {@code null})
      */
     protected String getPropertyNameOverrideBasedOnJsonNamingAnnotation(FieldScope field) {
-        final PropertyNamingStrategy strategy;
-        synchronized (this.namingStrategies) {
-            strategy = this.namingStrategies.computeIfAbsent(field.getDeclaringType().getErasedType(),
-                    this::getAnnotatedNamingStrategy);
-        }
+        PropertyNamingStrategy strategy = this.namingStrategies.computeIfAbsent(field.getDeclaringType().getErasedType(),
+                this::getAnnotatedNamingStrategy);
         if (strategy == null) {
             return null;
         }
@@ -267,17 +263,15 @@ public class JacksonSchemaModule implements Module {
      * @return introspection result of given type's erased class
      */
     protected final BeanDescription getBeanDescriptionForClass(ResolvedType targetType) {
-        // use a map to cater for some caching (and thereby performance improvement)
-        synchronized (this.beanDescriptions) {
-            return this.beanDescriptions.computeIfAbsent(targetType.getErasedType(),
-                    type -> {
-                        ClassIntrospector classIntrospector = this.objectMapper.serializationConfig()
-                                .classIntrospectorInstance();
-                        JavaType javaType = this.objectMapper.getTypeFactory().constructType(type);
-                        return classIntrospector
-                                .introspectForSerialization(javaType, classIntrospector.introspectClassAnnotations(javaType));
-                    });
-        }
+        // use a cache for some performance improvement, without preventing the introspected classes from being unloaded
+        return this.beanDescriptions.computeIfAbsent(targetType.getErasedType(),
+                type -> {
+                    ClassIntrospector classIntrospector = this.objectMapper.serializationConfig()
+                            .classIntrospectorInstance();
+                    JavaType javaType = this.objectMapper.getTypeFactory().constructType(type);
+                    return classIntrospector
+                            .introspectForSerialization(javaType, classIntrospector.introspectClassAnnotations(javaType));
+                });
     }
 
     /**
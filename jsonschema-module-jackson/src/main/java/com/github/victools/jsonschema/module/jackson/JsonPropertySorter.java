@@ -19,26 +19,40 @@ package com.github.victools.jsonschema.module.jackson;
 import com.fasterxml.classmate.members.HierarchicType;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.github.victools.jsonschema.generator.AnnotationHelper;
+import com.github.victools.jsonschema.generator.KeyedPropertySorter;
 import com.github.victools.jsonschema.generator.MemberScope;
 import com.github.victools.jsonschema.generator.MethodScope;
-import com.github.victools.jsonschema.generator.impl.PropertySortUtils;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 /**
  * Implementation of the sorting logic for an object's properties based on a {@link JsonPropertyOrder} annotation on the declaring type.
  */
-public class JsonPropertySorter implements Comparator<MemberScope<?, ?>> {
+public class JsonPropertySorter implements KeyedPropertySorter<JsonPropertySorter.SortKey> {
 
     private final boolean sortAlphabeticallyIfNotAnnotated;
-    private final Map<Class<?>, List<String>> propertyOrderPerDeclaringType = new HashMap<>();
-    private final Map<Class<?>, Boolean> enabledAlphabeticSorting = new HashMap<>();
+    private final ClassValue<Map<String, Integer>> propertyOrderPerDeclaringType = new ClassValue<>() {
+        @Override
+        protected Map<String, Integer> computeValue(Class<?> declaringType) {
+            Map<String, Integer> propertyIndexes = new HashMap<>();
+            List<String> sortedProperties = JsonPropertySorter.this.getAnnotatedPropertyOrder(declaringType);
+            for (int index = 0; index < sortedProperties.size(); index++) {
+                // keep the first index, in case a property name is mentioned more than once
+                propertyIndexes.putIfAbsent(sortedProperties.get(index), index);
+            }
+            return propertyIndexes;
+        }
+    };
+    private final ClassValue<Boolean> enabledAlphabeticSorting = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> declaringType) {
+            return JsonPropertySorter.this.shouldSortPropertiesAlphabetically(declaringType);
+        }
+    };
 
     /**
      * Constructor.
@@ -50,15 +64,20 @@ public class JsonPropertySorter implements Comparator<MemberScope<?, ?>> {
     }
 
     @Override
-    public int compare(MemberScope<?, ?> first, MemberScope<?, ?> second) {
-        int result = PropertySortUtils.SORT_PROPERTIES_FIELDS_BEFORE_METHODS.compare(first, second);
+    public SortKey extractSortKey(MemberScope<?, ?> property) {
+        String propertyName = property.getSchemaPropertyName();
+        return new SortKey(propertyName, propertyName.endsWith(")"), this.getPropertyIndex(property),
+                this.enabledAlphabeticSorting.get(property.getDeclaringType().getErasedType()));
+    }
+
+    @Override
+    public int compareSortKeys(SortKey first, SortKey second) {
+        int result = Boolean.compare(first.isMethod, second.isMethod);
         if (result == 0) {
-            result = this.getPropertyIndex(first) - this.getPropertyIndex(second);
+            result = Integer.compare(first.propertyIndex, second.propertyIndex);
         }
-        if (result == 0 && Stream.of(first, second)
-                .map(property -> property.getDeclaringType().getErasedType())
-                .anyMatch(parentType -> this.enabledAlphabeticSorting.computeIfAbsent(parentType, this::shouldSortPropertiesAlphabetically))) {
-            result = PropertySortUtils.SORT_PROPERTIES_BY_NAME_ALPHABETICALLY.compare(first, second);
+        if (result == 0 && (first.sortAlphabetically || second.sortAlphabetically)) {
+            result = first.propertyName.compareTo(second.propertyName);
         }
         return result;
     }
@@ -72,8 +91,7 @@ public class JsonPropertySorter implements Comparator<MemberScope<?, ?>> {
      */
     protected int getPropertyIndex(MemberScope<?, ?> property) {
         HierarchicType topMostHierarchyType = property.getDeclaringTypeMembers().allTypesAndOverrides().get(0);
-        List<String> sortedProperties = this.propertyOrderPerDeclaringType
-                .computeIfAbsent(topMostHierarchyType.getErasedType(), this::getAnnotatedPropertyOrder);
+        Map<String, Integer> sortedProperties = this.propertyOrderPerDeclaringType.get(topMostHierarchyType.getErasedType());
         String fieldName;
         if (property instanceof MethodScope method) {
             fieldName = Optional.<MemberScope<?,?>>ofNullable(method.findGetterField())
@@ -83,11 +101,7 @@ public class JsonPropertySorter implements Comparator<MemberScope<?, ?>> {
         } else {
             fieldName = property.getSchemaPropertyName();
         }
-        int propertyIndex = sortedProperties.indexOf(fieldName);
-        if (propertyIndex == -1) {
-            propertyIndex = Integer.MAX_VALUE;
-        }
-        return propertyIndex;
+        return sortedProperties.getOrDefault(fieldName, Integer.MAX_VALUE);
     }
 
     /**
@@ -117,4 +131,22 @@ public class JsonPropertySorter implements Comparator<MemberScope<?, ?>> {
                 .map(Arrays::asList)
                 .orElseGet(Collections::emptyList);
     }
+
+    /**
+     * Sort key of a single property, consisting of all the values relevant for determining its position.
+     */
+    static final class SortKey {
+
+        private final String propertyName;
+        private final boolean isMethod;
+        private final int propertyIndex;
+        private final boolean sortAlphabetically;
+
+        SortKey(String propertyName, boolean isMethod, int propertyIndex, boolean sortAlphabetically) {
+            this.propertyName = propertyName;
+            this.isMethod = isMethod;
+            this.propertyIndex = propertyIndex;
+            this.sortAlphabetically = sortAlphabetically;
+        }
+    }
 }
@@ -25,10 +25,13 @@ import com.github.victools.jsonschema.generator.CustomDefinition;
 import com.github.victools.jsonschema.generator.CustomDefinitionProviderV2;
 import com.github.victools.jsonschema.generator.SchemaGenerationContext;
 import com.github.victools.jsonschema.generator.SchemaKeyword;
+import java.lang.reflect.AnnotatedElement;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.node.ArrayNode;
@@ -41,12 +44,29 @@ import tools.jackson.databind.node.ObjectNode;
  */
 public class JsonUnwrappedDefinitionProvider implements CustomDefinitionProviderV2 {
 
+    /**
+     * Whether any field or method declared in a type's hierarchy carries an enabled {@link JsonUnwrapped @JsonUnwrapped} annotation. This is only
+     * being determined once per class, in order to skip the member resolution for the vast majority of types without any such annotation.
+     */
+    private final ClassValue<Boolean> declaresUnwrappedMembers = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> erasedType) {
+            return JsonUnwrappedDefinitionProvider.this.collectHierarchy(erasedType, new LinkedHashSet<>()).stream()
+                    .flatMap(type -> Stream.concat(Stream.of(type.getDeclaredFields()), Stream.of(type.getDeclaredMethods())))
+                    .anyMatch(JsonUnwrappedDefinitionProvider.this::hasJsonUnwrappedAnnotation);
+        }
+    };
+
     @Override
     public CustomDefinition provideCustomSchemaDefinition(ResolvedType javaType, SchemaGenerationContext context) {
         if (javaType == null) {
             // since 4.37.0: not for void methods
             return null;
         }
+        if (!this.declaresUnwrappedMembers.get(javaType.getErasedType())) {
+            // since 5.1.0: no need to resolve the members, if no relevant annotation is present anywhere in the type hierarchy
+            return null;
+        }
         ResolvedTypeWithMembers typeWithMembers = context.getTypeContext().resolveWithMembers(javaType);
 
         if (Arrays.stream(typeWithMembers.getMemberFields()).noneMatch(this::hasJsonUnwrappedAnnotation)
@@ -80,6 +100,35 @@ public class JsonUnwrappedDefinitionProvider implements CustomDefinitionProvider
                 .isPresent();
     }
 
+    /**
+     * Check whether the given field/method declaration carries an enabled {@link JsonUnwrapped @JsonUnwrapped} annotation.
+     *
+     * @param member declared field/method to check
+     * @return whether the given member has an {@code enabled} {@link JsonUnwrapped @JsonUnwrapped} annotation
+     */
+    private boolean hasJsonUnwrappedAnnotation(AnnotatedElement member) {
+        return AnnotationHelper.resolveAnnotation(member, JsonUnwrapped.class, JacksonSchemaModule.NESTED_ANNOTATION_CHECK)
+                .filter(JsonUnwrapped::enabled)
+                .isPresent();
+    }
+
+    /**
+     * Collect the given class and all its super classes and implemented interfaces.
+     *
+     * @param type class to start from (may be {@code null})
+     * @param hierarchy collection to add the encountered classes to
+     * @return the given hierarchy collection
+     */
+    private Set<Class<?>> collectHierarchy(Class<?> type, Set<Class<?>> hierarchy) {
+        if (type != null && hierarchy.add(type)) {
+            this.collectHierarchy(type.getSuperclass(), hierarchy);
+            for (Class<?> implementedInterface : type.getInterfaces()) {
+                this.collectHierarchy(implementedInterface, hierarchy);
+            }
+        }
+        return hierarchy;
+    }
+
     /**
      * Create a schema representing an unwrapped member's type. Contained properties may get a certain prefix and/or suffix applied to their names.
      *
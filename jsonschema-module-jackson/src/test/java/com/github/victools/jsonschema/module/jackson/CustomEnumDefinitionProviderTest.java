@@ -30,9 +30,11 @@ import com.github.victools.jsonschema.generator.impl.TypeContextFactory;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -180,6 +182,33 @@ public class CustomEnumDefinitionProviderTest {
         }
     }
 
+    @Test
+    public void testGetSerializedValuesFromJsonValue_invokedOncePerConstant() {
+        CustomEnumDefinitionProvider provider = new CustomEnumDefinitionProvider(true, false);
+        ResolvedType type = this.typeContext.resolve(EnumWithCountingJsonValue.class);
+        Object[] enumConstants = EnumWithCountingJsonValue.values();
+        EnumWithCountingJsonValue.INVOCATION_COUNTER.set(0);
+
+        List<Object> result = provider.getSerializedValuesFromJsonValue(type, enumConstants, this.generationContext);
+        Assertions.assertEquals(Arrays.asList("a", "b"), result);
+        Assertions.assertEquals(Arrays.asList("a", "b"), provider.getSerializedValuesFromJsonValue(type, enumConstants, this.generationContext));
+        Assertions.assertEquals(2, EnumWithCountingJsonValue.INVOCATION_COUNTER.get());
+        // returned lists are not shared
+        result.clear();
+        Assertions.assertEquals(Arrays.asList("a", "b"), provider.getSerializedValuesFromJsonValue(type, enumConstants, this.generationContext));
+    }
+
+    @Test
+    public void testIsCacheable() {
+        Assertions.assertTrue(new CustomEnumDefinitionProvider(true, false).isCacheable());
+        Assertions.assertFalse(new CustomEnumDefinitionProvider(true, false) {
+            @Override
+            protected List<String> getSerializedValuesFromJsonProperty(ResolvedType javaType, Object[] enumConstants) {
+                return null;
+            }
+        }.isCacheable());
+    }
+
     private static final class ClassWithJsonValue {
 
         @JsonValue
@@ -239,4 +268,16 @@ public class CustomEnumDefinitionProviderTest {
             return "json-value-" + this.name();
         }
     }
+
+    private enum EnumWithCountingJsonValue {
+        A, B;
+
+        static final AtomicInteger INVOCATION_COUNTER = new AtomicInteger();
+
+        @JsonValue
+        public String getJsonValue() {
+            INVOCATION_COUNTER.incrementAndGet();
+            return this.name().toLowerCase();
+        }
+    }
 }
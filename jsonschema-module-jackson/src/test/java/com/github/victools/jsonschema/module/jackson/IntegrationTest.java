@@ -34,12 +34,18 @@ import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
 import com.github.victools.jsonschema.generator.SchemaVersion;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.charset.StandardCharsets;
 import java.util.Scanner;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
 import org.skyscreamer.jsonassert.JSONCompareMode;
 import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.PropertyNamingStrategies;
+import tools.jackson.databind.annotation.JsonNaming;
 
 /**
  * Integration test of this module being used in a real SchemaGenerator instance.
@@ -76,6 +82,44 @@ public class IntegrationTest {
         return stringBuilder.toString();
     }
 
+    @Test
+    public void testClassUnloading() throws Exception {
+        SchemaGeneratorConfig config = new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2020_12, OptionPreset.PLAIN_JSON)
+                .with(new JacksonSchemaModule(JacksonOption.RESPECT_JSONPROPERTY_ORDER))
+                .build();
+        SchemaGenerator generator = new SchemaGenerator(config);
+        WeakReference<Class<?>> unloadableType = this.generateSchemaWithDiscardedClassLoader(generator);
+        // jackson's own type cache is out of scope here
+        config.getObjectMapper().getTypeFactory().clearCache();
+        for (int attempt = 0; unloadableType.get() != null && attempt < 20; attempt++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        Assertions.assertNull(unloadableType.get(), "class from discarded class loader is still reachable");
+    }
+
+    private WeakReference<Class<?>> generateSchemaWithDiscardedClassLoader(SchemaGenerator generator) throws Exception {
+        URL location = UnloadableType.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{location}, IntegrationTest.class.getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                // load this test class and its nested classes again, as e.g. an application server would for deployed classes
+                if (!name.startsWith(IntegrationTest.class.getName())) {
+                    return super.loadClass(name, resolve);
+                }
+                synchronized (this.getClassLoadingLock(name)) {
+                    Class<?> loadedClass = this.findLoadedClass(name);
+                    return loadedClass == null ? this.findClass(name) : loadedClass;
+                }
+            }
+        }) {
+            Class<?> type = classLoader.loadClass(UnloadableType.class.getName());
+            Assertions.assertNotSame(UnloadableType.class, type);
+            generator.generateSchema(type);
+            return new WeakReference<>(type);
+        }
+    }
+
     @JsonClassDescription("test description")
     static class TestClass {
 
@@ -168,4 +212,12 @@ public class IntegrationTest {
         @JsonUnwrapped
         public TypeToBeUnwrapped typeToBeUnwrapped;
     }
+
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static class UnloadableType {
+        @JsonPropertyDescription("some text")
+        public String someText;
+        @JsonProperty("other")
+        public UnloadableType otherInstance;
+    }
 }
@@ -19,6 +19,7 @@ package com.github.victools.jsonschema.module.jackson;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.github.victools.jsonschema.generator.MemberScope;
 import com.github.victools.jsonschema.generator.Option;
 import com.github.victools.jsonschema.generator.OptionPreset;
 import com.github.victools.jsonschema.generator.SchemaGenerator;
@@ -31,6 +32,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import tools.jackson.databind.JsonNode;
@@ -62,6 +64,25 @@ public class JsonPropertySorterIntegrationTest {
         Assertions.assertEquals(Arrays.asList(expectedFieldOrder.split(" ")), resultPropertyNames);
     }
 
+    @Test
+    public void testJsonPropertySorterSubclassOverridingCompare() {
+        JsonPropertySorter reversedSorter = new JsonPropertySorter(true) {
+            @Override
+            public int compare(MemberScope<?, ?> first, MemberScope<?, ?> second) {
+                return super.compare(second, first);
+            }
+        };
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2019_09, OptionPreset.PLAIN_JSON)
+                .with(Option.NONSTATIC_NONVOID_NONGETTER_METHODS, Option.FIELDS_DERIVED_FROM_ARGUMENTFREE_METHODS)
+                .with(new JacksonSchemaModule(JacksonOption.INCLUDE_ONLY_JSONPROPERTY_ANNOTATED_METHODS));
+        configBuilder.forTypesInGeneral().withPropertySorter(reversedSorter);
+        SchemaGeneratorConfig config = configBuilder.build();
+        JsonNode result = new SchemaGenerator(config).generateSchema(TestContainer.class);
+
+        ObjectNode properties = (ObjectNode) result.get(config.getKeyword(SchemaKeyword.TAG_PROPERTIES));
+        Assertions.assertEquals(Arrays.asList("three", "two", "one"), new ArrayList<>(properties.propertyNames()));
+    }
+
     @JsonPropertyOrder({"one", "two", "three"})
     public static class TestContainer {
 
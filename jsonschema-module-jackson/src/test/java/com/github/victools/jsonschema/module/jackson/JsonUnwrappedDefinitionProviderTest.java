@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.github.victools.jsonschema.generator.CustomDefinition;
+import com.github.victools.jsonschema.generator.SchemaGenerationContext;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
+import com.github.victools.jsonschema.generator.SchemaKeyword;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import com.github.victools.jsonschema.generator.TypeContext;
+import com.github.victools.jsonschema.generator.impl.TypeContextFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Test for the {@link JsonUnwrappedDefinitionProvider}.
+ */
+public class JsonUnwrappedDefinitionProviderTest {
+
+    private final JsonUnwrappedDefinitionProvider provider = new JsonUnwrappedDefinitionProvider();
+    private TypeContext typeContext;
+    private SchemaGenerationContext context;
+
+    @BeforeEach
+    public void setUp() {
+        this.typeContext = TypeContextFactory.createDefaultTypeContext(Mockito.mock(SchemaGeneratorConfig.class));
+        this.context = Mockito.mock(SchemaGenerationContext.class);
+        Mockito.when(this.context.getTypeContext()).thenReturn(this.typeContext);
+        Mockito.when(this.context.getKeyword(Mockito.any()))
+                .thenAnswer(invocation -> ((SchemaKeyword) invocation.getArgument(0)).forVersion(SchemaVersion.DRAFT_2020_12));
+        Mockito.when(this.context.createStandardDefinition(Mockito.any(ResolvedType.class), Mockito.any()))
+                .thenAnswer(_invocation -> JsonMapper.shared().createObjectNode());
+    }
+
+    @Test
+    public void testProvideCustomSchemaDefinition_withoutAnnotation() {
+        ResolvedType type = this.typeContext.resolve(TestTypeWithoutUnwrapped.class);
+        Assertions.assertNull(this.provider.provideCustomSchemaDefinition(type, this.context));
+        Assertions.assertNull(this.provider.provideCustomSchemaDefinition(type, this.context));
+        // the type context is only needed for resolving the type's members
+        Mockito.verify(this.context, Mockito.never()).getTypeContext();
+    }
+
+    @Test
+    public void testProvideCustomSchemaDefinition_withDisabledAnnotation() {
+        ResolvedType type = this.typeContext.resolve(TestTypeWithDisabledUnwrapped.class);
+        Assertions.assertNull(this.provider.provideCustomSchemaDefinition(type, this.context));
+        Mockito.verify(this.context, Mockito.never()).getTypeContext();
+    }
+
+    @Test
+    public void testProvideCustomSchemaDefinition_withInheritedAnnotation() {
+        ResolvedType type = this.typeContext.resolve(TestTypeWithInheritedUnwrapped.class);
+        CustomDefinition result = this.provider.provideCustomSchemaDefinition(type, this.context);
+        Assertions.assertNotNull(result);
+        Assertions.assertEquals(1, result.getValue().get(this.context.getKeyword(SchemaKeyword.TAG_ALLOF)).size());
+    }
+
+    private static class TestTypeWithoutUnwrapped {
+        public String text;
+        public TestTypeWithoutUnwrapped nested;
+    }
+
+    private static class TestTypeWithDisabledUnwrapped {
+        @JsonUnwrapped(enabled = false)
+        public TestTypeWithoutUnwrapped nested;
+    }
+
+    private static class TestTypeWithUnwrapped {
+        @JsonUnwrapped(prefix = "nested_")
+        public TestTypeWithoutUnwrapped nested;
+    }
+
+    private static class TestTypeWithInheritedUnwrapped extends TestTypeWithUnwrapped {
+        public int number;
+    }
+}
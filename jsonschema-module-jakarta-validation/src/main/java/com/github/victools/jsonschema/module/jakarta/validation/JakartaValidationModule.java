@@ -46,6 +46,7 @@ import jakarta.validation.constraints.Size;
 import java.lang.annotation.Annotation;
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -54,7 +55,6 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.ToIntBiFunction;
-import java.util.stream.Stream;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.node.ObjectNode;
 
@@ -71,6 +71,13 @@ import tools.jackson.databind.node.ObjectNode;
  */
 public class JakartaValidationModule implements Module {
 
+    /**
+     * The {@code jakarta.validation.constraints} annotations being considered by this module.
+     */
+    private static final List<Class<? extends Annotation>> CONSTRAINT_ANNOTATIONS = List.of(AssertFalse.class, AssertTrue.class, DecimalMax.class,
+            DecimalMin.class, Email.class, Max.class, Min.class, Negative.class, NegativeOrZero.class, NotBlank.class, NotEmpty.class, Null.class,
+            NotNull.class, Pattern.class, Positive.class, PositiveOrZero.class, Size.class);
+
     private final Set<JakartaValidationOption> options;
     private Set<Class<?>> validationGroups;
 
@@ -118,10 +125,21 @@ public class JakartaValidationModule implements Module {
         if (this.options.contains(JakartaValidationOption.NOT_NULLABLE_METHOD_IS_REQUIRED)) {
             methodConfigPart.withRequiredCheck(this::isRequired);
         }
-        Stream.of(AssertFalse.class, AssertTrue.class, DecimalMax.class, DecimalMin.class, Email.class, Max.class, Min.class,
-                        Negative.class, NegativeOrZero.class, NotBlank.class, NotEmpty.class, Null.class, NotNull.class,
-                        Pattern.class, Positive.class, PositiveOrZero.class, Size.class)
-                .forEach(annotationType -> builder.withAnnotationInclusionOverride(annotationType, AnnotationInclusion.INCLUDE_AND_INHERIT));
+        CONSTRAINT_ANNOTATIONS.forEach(annotationType -> builder.withAnnotationInclusionOverride(annotationType,
+                AnnotationInclusion.INCLUDE_AND_INHERIT));
+    }
+
+    /**
+     * Declare the supported constraint annotations, in order to skip this module's field and method configurations for all members without any.
+     * <br>
+     * When overriding the annotation look-up in a sub-class (e.g. to consider additional annotations), this method should be overridden as well.
+     *
+     * @return supported constraint annotations
+     * @since 5.1.0
+     */
+    @Override
+    public Collection<Class<? extends Annotation>> getRelevantMemberAnnotations() {
+        return CONSTRAINT_ANNOTATIONS;
     }
 
     /**
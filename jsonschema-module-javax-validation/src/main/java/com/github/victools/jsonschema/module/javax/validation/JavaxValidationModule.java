@@ -26,12 +26,13 @@ import com.github.victools.jsonschema.generator.SchemaGeneratorConfigPart;
 import java.lang.annotation.Annotation;
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
 import javax.validation.Constraint;
 import javax.validation.constraints.DecimalMax;
 import javax.validation.constraints.DecimalMin;
@@ -62,6 +63,13 @@ import javax.validation.constraints.Size;
  */
 public class JavaxValidationModule implements Module {
 
+    /**
+     * The {@code javax.validation.constraints} annotations being considered by this module.
+     */
+    private static final List<Class<? extends Annotation>> CONSTRAINT_ANNOTATIONS = List.of(DecimalMax.class, DecimalMin.class, Email.class,
+            Max.class, Min.class, Negative.class, NegativeOrZero.class, NotBlank.class, NotEmpty.class, Null.class, NotNull.class, Pattern.class,
+            Positive.class, PositiveOrZero.class, Size.class);
+
     private final Set<JavaxValidationOption> options;
     private Set<Class<?>> validationGroups;
 
@@ -109,9 +117,21 @@ public class JavaxValidationModule implements Module {
         if (this.options.contains(JavaxValidationOption.NOT_NULLABLE_METHOD_IS_REQUIRED)) {
             methodConfigPart.withRequiredCheck(this::isRequired);
         }
-        Stream.of(DecimalMax.class, DecimalMin.class, Email.class, Max.class, Min.class, Negative.class, NegativeOrZero.class,
-                        NotBlank.class, NotEmpty.class, Null.class, NotNull.class, Pattern.class, Positive.class, PositiveOrZero.class, Size.class)
-                .forEach(annotationType -> builder.withAnnotationInclusionOverride(annotationType, AnnotationInclusion.INCLUDE_AND_INHERIT));
+        CONSTRAINT_ANNOTATIONS.forEach(annotationType -> builder.withAnnotationInclusionOverride(annotationType,
+                AnnotationInclusion.INCLUDE_AND_INHERIT));
+    }
+
+    /**
+     * Declare the supported constraint annotations, in order to skip this module's field and method configurations for all members without any.
+     * <br>
+     * When overriding the annotation look-up in a sub-class (e.g. to consider additional annotations), this method should be overridden as well.
+     *
+     * @return supported constraint annotations
+     * @since 5.1.0
+     */
+    @Override
+    public Collection<Class<? extends Annotation>> getRelevantMemberAnnotations() {
+        return CONSTRAINT_ANNOTATIONS;
     }
 
     /**
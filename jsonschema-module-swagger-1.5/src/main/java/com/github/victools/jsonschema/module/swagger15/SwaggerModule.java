@@ -24,11 +24,15 @@ import com.github.victools.jsonschema.generator.SchemaGeneratorConfigPart;
 import com.github.victools.jsonschema.generator.TypeScope;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
+import java.lang.annotation.Annotation;
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -45,6 +49,10 @@ public class SwaggerModule implements Module {
             + ")(" + NUMBER_OR_NEGATIVE_INFINITE + "), *(" + NUMBER_OR_INFINITE + ")(" + CLOSING_BRACKET + ")");
 
     private final List<SwaggerOption> options;
+    /**
+     * Parsed {@code allowableValues} per distinct text, being shared between all resolvers and members.
+     */
+    private final Map<String, AllowableValues> parsedAllowableValues = new ConcurrentHashMap<>();
 
     /**
      * Constructor.
@@ -75,6 +83,17 @@ public class SwaggerModule implements Module {
         }
     }
 
+    /**
+     * Declare the {@link ApiModelProperty @ApiModelProperty} annotation as the only one being considered for fields and methods.
+     *
+     * @return collection containing only {@link ApiModelProperty}
+     * @since 5.1.0
+     */
+    @Override
+    public Collection<Class<? extends Annotation>> getRelevantMemberAnnotations() {
+        return Collections.singleton(ApiModelProperty.class);
+    }
+
     /**
      * Apply configurations that are part of this module to the given configuration part - expectation being that fields and methods get the same.
      *
@@ -159,14 +178,16 @@ public class SwaggerModule implements Module {
 
     /**
      * Retrieve the given member's (or its associated getter/field's) {@link ApiModelProperty} annotation and extract its {@code allowableValues}.
+     * Each distinct {@code allowableValues} text is only being parsed once and then shared between all resolvers (and members).
      *
      * @param member targeted field/method
-     * @return {@link ApiModelProperty} annotation's non-empty {@code allowableValues} (or {@code null})
+     * @return parsed {@link ApiModelProperty} annotation's non-empty {@code allowableValues} (or {@code null})
      */
-    private Optional<String> findModelPropertyAllowableValues(MemberScope<?, ?> member) {
+    private Optional<AllowableValues> findModelPropertyAllowableValues(MemberScope<?, ?> member) {
         return Optional.ofNullable(member.getAnnotationConsideringFieldAndGetterIfSupported(ApiModelProperty.class))
                 .map(ApiModelProperty::allowableValues)
-                .filter(allowableValues -> !allowableValues.isEmpty());
+                .filter(allowableValues -> !allowableValues.isEmpty())
+                .map(allowableValues -> this.parsedAllowableValues.computeIfAbsent(allowableValues, AllowableValues::parse));
     }
 
     /**
@@ -178,8 +199,7 @@ public class SwaggerModule implements Module {
      */
     protected List<String> resolveAllowedValues(MemberScope<?, ?> member) {
         return this.findModelPropertyAllowableValues(member)
-                .filter(allowableValues -> !ALLOWABLE_VALUES_RANGE.matcher(allowableValues).matches())
-                .map(allowableValues -> Arrays.asList(allowableValues.split(", *")))
+                .map(allowableValues -> allowableValues.values)
                 .orElse(null);
     }
 
@@ -191,7 +211,9 @@ public class SwaggerModule implements Module {
      * @return inclusive numeric minimum (or {@code null})
      */
     protected BigDecimal resolveNumberInclusiveMinimum(MemberScope<?, ?> member) {
-        return this.resolveNumberMinimum(member, "[");
+        return this.findModelPropertyAllowableValues(member)
+                .map(allowableValues -> allowableValues.inclusiveMinimum)
+                .orElse(null);
     }
 
     /**
@@ -202,26 +224,9 @@ public class SwaggerModule implements Module {
      * @return exclusive numeric minimum (or {@code null})
      */
     protected BigDecimal resolveNumberExclusiveMinimum(MemberScope<?, ?> member) {
-        return this.resolveNumberMinimum(member, "(");
-    }
-
-    /**
-     * Determine numeric minimum for the given member or its associated getter/field from the {@link ApiModelProperty}'s annotation's
-     * {@code allowedValues}.
-     *
-     * @param member targeted field/method
-     * @param inclusiveIndicator the opening parenthesis/bracket indicating the desired kind of minimum (either inclusive or exclusive)
-     * @return numeric minimum (or {@code null})
-     */
-    private BigDecimal resolveNumberMinimum(MemberScope<?, ?> member, String inclusiveIndicator) {
-        String allowableValues = this.findModelPropertyAllowableValues(member).orElse(null);
-        if (allowableValues != null) {
-            Matcher matcher = ALLOWABLE_VALUES_RANGE.matcher(allowableValues);
-            if (matcher.matches() && inclusiveIndicator.equals(matcher.group(1)) && !"-infinity".equals(matcher.group(2))) {
-                return new BigDecimal(matcher.group(2));
-            }
-        }
-        return null;
+        return this.findModelPropertyAllowableValues(member)
+                .map(allowableValues -> allowableValues.exclusiveMinimum)
+                .orElse(null);
     }
 
     /**
@@ -232,7 +237,9 @@ public class SwaggerModule implements Module {
      * @return inclusive numeric maximum (or {@code null})
      */
     protected BigDecimal resolveNumberInclusiveMaximum(MemberScope<?, ?> member) {
-        return this.resolveNumberMaximum(member, "]");
+        return this.findModelPropertyAllowableValues(member)
+                .map(allowableValues -> allowableValues.inclusiveMaximum)
+                .orElse(null);
     }
 
     /**
@@ -243,25 +250,52 @@ public class SwaggerModule implements Module {
      * @return exclusive numeric maximum (or {@code null})
      */
     protected BigDecimal resolveNumberExclusiveMaximum(MemberScope<?, ?> member) {
-        return this.resolveNumberMaximum(member, ")");
+        return this.findModelPropertyAllowableValues(member)
+                .map(allowableValues -> allowableValues.exclusiveMaximum)
+                .orElse(null);
     }
 
     /**
-     * Determine numeric maximum for the given member or its associated getter/field from the {@link ApiModelProperty}'s annotation's
-     * {@code allowedValues}.
-     *
-     * @param member targeted field/method
-     * @param inclusiveIndicator the closing parenthesis/bracket indicating the desired kind of minimum (either inclusive or exclusive)
-     * @return numeric maximum (or {@code null})
+     * Parsed {@code allowableValues} of an {@link ApiModelProperty} annotation, i.e., either a numeric range or a list of allowed values.
      */
-    private BigDecimal resolveNumberMaximum(MemberScope<?, ?> member, String inclusiveIndicator) {
-        String allowableValues = this.findModelPropertyAllowableValues(member).orElse(null);
-        if (allowableValues != null) {
+    private static final class AllowableValues {
+
+        private List<String> values;
+        private BigDecimal inclusiveMinimum;
+        private BigDecimal exclusiveMinimum;
+        private BigDecimal inclusiveMaximum;
+        private BigDecimal exclusiveMaximum;
+
+        /**
+         * Parse the given {@code allowableValues}.
+         *
+         * @param allowableValues non-empty {@code allowableValues} of an {@link ApiModelProperty} annotation
+         * @return parsed range or list of allowed values
+         */
+        static AllowableValues parse(String allowableValues) {
+            AllowableValues result = new AllowableValues();
             Matcher matcher = ALLOWABLE_VALUES_RANGE.matcher(allowableValues);
-            if (matcher.matches() && inclusiveIndicator.equals(matcher.group(4)) && !"infinity".equals(matcher.group(3))) {
-                return new BigDecimal(matcher.group(3));
+            if (!matcher.matches()) {
+                result.values = Collections.unmodifiableList(Arrays.asList(allowableValues.split(", *")));
+                return result;
+            }
+            if (!"-infinity".equals(matcher.group(2))) {
+                BigDecimal minimum = new BigDecimal(matcher.group(2));
+                if ("[".equals(matcher.group(1))) {
+                    result.inclusiveMinimum = minimum;
+                } else {
+                    result.exclusiveMinimum = minimum;
+                }
+            }
+            if (!"infinity".equals(matcher.group(3))) {
+                BigDecimal maximum = new BigDecimal(matcher.group(3));
+                if ("]".equals(matcher.group(4))) {
+                    result.inclusiveMaximum = maximum;
+                } else {
+                    result.exclusiveMaximum = maximum;
+                }
             }
+            return result;
         }
-        return null;
     }
 }
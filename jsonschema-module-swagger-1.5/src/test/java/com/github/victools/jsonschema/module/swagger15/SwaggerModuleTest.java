@@ -27,6 +27,7 @@ import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -373,6 +374,23 @@ public class SwaggerModuleTest {
         Assertions.assertEquals(expectedMaxExclusive, maxExclusive);
     }
 
+    @Test
+    public void testAllowedValuesResolver() throws Exception {
+        new SwaggerModule().applyToConfigBuilder(this.configBuilder);
+
+        TestType testType = new TestType(TestClassForAllowedValues.class);
+        ArgumentCaptor<ConfigFunction<FieldScope, Collection<?>>> captor = ArgumentCaptor.forClass(ConfigFunction.class);
+        Mockito.verify(this.fieldConfigPart).withEnumResolver(captor.capture());
+        ConfigFunction<FieldScope, Collection<?>> enumResolver = captor.getValue();
+
+        Collection<?> letters = enumResolver.apply(testType.getMemberField("letters"));
+        Assertions.assertEquals(List.of("A", "B", "C"), letters);
+        // the same allowableValues are only being parsed once
+        Assertions.assertSame(letters, enumResolver.apply(testType.getMemberField("otherLetters")));
+        Assertions.assertNull(enumResolver.apply(testType.getMemberField("range")));
+        Assertions.assertNull(enumResolver.apply(testType.getMemberField("unannotated")));
+    }
+
     private static class TestClassForPropertyNameOverride {
 
         String unannotatedField;
@@ -504,6 +522,17 @@ public class SwaggerModuleTest {
         }
     }
 
+    private static class TestClassForAllowedValues {
+
+        @ApiModelProperty(allowableValues = "A, B,C")
+        String letters;
+        @ApiModelProperty(allowableValues = "A, B,C")
+        String otherLetters;
+        @ApiModelProperty(allowableValues = "range[1, 5]")
+        int range;
+        String unannotated;
+    }
+
     private static class TestClassForNumberMinMax {
 
         int unannotatedInt;
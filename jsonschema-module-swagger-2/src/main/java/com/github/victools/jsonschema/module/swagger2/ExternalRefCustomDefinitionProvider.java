@@ -31,16 +31,18 @@ public class ExternalRefCustomDefinitionProvider implements CustomDefinitionProv
 
     /**
      * Reference to the targeted type, for which a schema is being generated, that should not be replaced by a "ref".
+     * <br>
+     * This is being remembered per thread, to allow for multiple schema generations to run concurrently.
      */
-    private Class<?> mainType;
+    private final ThreadLocal<Class<?>> mainType = new ThreadLocal<>();
 
     @Override
     public CustomDefinition provideCustomSchemaDefinition(ResolvedType javaType, SchemaGenerationContext context) {
         Class<?> erasedType = javaType.getErasedType();
-        if (this.mainType == null) {
-            this.mainType = erasedType;
+        if (this.mainType.get() == null) {
+            this.mainType.set(erasedType);
         }
-        if (this.mainType == erasedType) {
+        if (this.mainType.get() == erasedType) {
             return null;
         }
         return Optional.ofNullable(erasedType.getAnnotation(Schema.class))
@@ -53,6 +55,6 @@ public class ExternalRefCustomDefinitionProvider implements CustomDefinitionProv
 
     @Override
     public void resetAfterSchemaGenerationFinished() {
-        this.mainType = null;
+        this.mainType.remove();
     }
 }
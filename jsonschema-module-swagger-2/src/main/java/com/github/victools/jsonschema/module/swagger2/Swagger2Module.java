@@ -30,9 +30,11 @@ import com.github.victools.jsonschema.generator.SchemaKeyword;
 import com.github.victools.jsonschema.generator.TypeScope;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -52,6 +54,17 @@ import tools.jackson.databind.node.ObjectNode;
  */
 public class Swagger2Module implements Module {
 
+    /**
+     * Declare the {@link Schema @Schema} and {@link ArraySchema @ArraySchema} annotations as the only ones being considered for fields and methods.
+     *
+     * @return collection containing {@link Schema} and {@link ArraySchema}
+     * @since 5.1.0
+     */
+    @Override
+    public Collection<Class<? extends Annotation>> getRelevantMemberAnnotations() {
+        return List.of(Schema.class, ArraySchema.class);
+    }
+
     @Override
     public void applyToConfigBuilder(SchemaGeneratorConfigBuilder builder) {
         this.applyToConfigBuilder(builder.forTypesInGeneral());
@@ -61,4 +61,15 @@ public class Swagger2SchemaDefinitionNamingStrategy implements SchemaDefinitionN
     public String adjustNullableName(DefinitionKey key, String definitionName, SchemaGenerationContext generationContext) {
         return this.baseStrategy.adjustNullableName(key, definitionName, generationContext);
     }
+
+    /**
+     * Declare the definition names to be cacheable if the base strategy is, unless this is a subclass (which would need to override this method to
+     * confirm it).
+     *
+     * @return whether this is exactly this strategy with a cacheable base strategy
+     */
+    @Override
+    public boolean isCacheable() {
+        return this.getClass() == Swagger2SchemaDefinitionNamingStrategy.class && this.baseStrategy.isCacheable();
+    }
 }
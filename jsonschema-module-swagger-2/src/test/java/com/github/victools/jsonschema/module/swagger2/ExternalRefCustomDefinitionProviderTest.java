@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.victools.jsonschema.module.swagger2;
+
+import com.github.victools.jsonschema.generator.OptionPreset;
+import com.github.victools.jsonschema.generator.SchemaGenerator;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Test for the {@link ExternalRefCustomDefinitionProvider} class.
+ */
+public class ExternalRefCustomDefinitionProviderTest {
+
+    @Test
+    public void testGenerateSchemas_moreTypesThanThreads() throws Exception {
+        SchemaGenerator generator = new SchemaGenerator(new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2020_12, OptionPreset.PLAIN_JSON)
+                .with(new Swagger2Module())
+                .build());
+        List<Type> targetTypes = new ArrayList<>();
+        for (int index = 0; index < 4; index++) {
+            targetTypes.add(TestClassA.class);
+            targetTypes.add(TestClassB.class);
+            targetTypes.add(TestClassC.class);
+        }
+        List<ObjectNode> expected = targetTypes.stream()
+                .map(generator::generateSchema)
+                .collect(Collectors.toList());
+        // the main type's schema should never be replaced by its own external reference
+        expected.forEach(schema -> Assertions.assertTrue(schema.has("properties"), schema::toString));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Assertions.assertEquals(expected, generator.generateSchemasAsync(targetTypes, executor).get(30, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Schema(ref = "./TestClassA-schema.json")
+    private static class TestClassA {
+        public String text;
+    }
+
+    @Schema(ref = "./TestClassB-schema.json")
+    private static class TestClassB {
+        public int number;
+    }
+
+    @Schema(ref = "./TestClassC-schema.json")
+    private static class TestClassC {
+        public boolean flag;
+    }
+}
@@ -20,11 +20,14 @@ import com.github.victools.jsonschema.generator.ConfigFunction;
 import com.github.victools.jsonschema.generator.FieldScope;
 import com.github.victools.jsonschema.generator.InstanceAttributeOverrideV2;
 import com.github.victools.jsonschema.generator.MethodScope;
+import com.github.victools.jsonschema.generator.SchemaGenerationContext;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfigPart;
 import com.github.victools.jsonschema.generator.SchemaGeneratorGeneralConfigPart;
+import com.github.victools.jsonschema.generator.impl.DefinitionKey;
 import java.util.function.BiFunction;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -84,6 +87,18 @@ public class Swagger2ModuleTest {
         Mockito.verifyNoMoreInteractions(this.configBuilder, this.typesInGeneralConfigPart, this.fieldConfigPart, this.methodConfigPart);
     }
 
+    @Test
+    public void testNamingStrategyIsCacheable() {
+        Assertions.assertTrue(new Swagger2SchemaDefinitionNamingStrategy(null).isCacheable());
+        Assertions.assertFalse(new Swagger2SchemaDefinitionNamingStrategy((key, context) -> "name").isCacheable());
+        Assertions.assertFalse(new Swagger2SchemaDefinitionNamingStrategy(null) {
+            @Override
+            public String getDefinitionNameForKey(DefinitionKey key, SchemaGenerationContext generationContext) {
+                return "name";
+            }
+        }.isCacheable());
+    }
+
     private void verifyCommonMemberConfigurations(SchemaGeneratorConfigPart<?> configPart) {
         Mockito.verify(configPart).withTargetTypeOverridesResolver(Mockito.any());
         Mockito.verify(configPart).withIgnoreCheck(Mockito.any());